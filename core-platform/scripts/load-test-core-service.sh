@@ -0,0 +1,51 @@
+#!/bin/bash
+
+# Throughput benchmark for the busiest Core Service read endpoints.
+# Run it once per server configuration and compare the "Requests/sec" lines, e.g.
+#   1. default profile (platform threads)
+#   2. SPRING_THREADS_VIRTUAL_ENABLED=true on Java 21+
+#
+# Requires `hey` (https://github.com/rakyll/hey).
+# Usage: ./load-test-core-service.sh <JWT_TOKEN> <ORG_ID> [CONCURRENCY] [REQUESTS]
+
+set -e
+
+if [ -z "$1" ] || [ -z "$2" ]; then
+    echo "Usage: $0 <JWT_TOKEN> <ORG_ID> [CONCURRENCY] [REQUESTS]"
+    echo "Example: $0 eyJhbGc... 1 200 20000"
+    exit 1
+fi
+
+if ! command -v hey &> /dev/null; then
+    echo "❌ 'hey' is not installed (go install github.com/rakyll/hey@latest)"
+    exit 1
+fi
+
+JWT_TOKEN="$1"
+ORG_ID="$2"
+CONCURRENCY="${3:-100}"
+REQUESTS="${4:-10000}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+
+ENDPOINTS=(
+    "/api/projects"
+    "/api/projects/me"
+    "/api/tasks/my-tasks"
+    "/api/timelogs/organization/${ORG_ID}/statistics"
+    "/api/employees"
+)
+
+echo "🏋️ Load testing ${BASE_URL} — concurrency=${CONCURRENCY}, requests=${REQUESTS} per endpoint"
+echo "=================================="
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    echo ""
+    echo "▶ GET ${endpoint}"
+    hey -n "${REQUESTS}" -c "${CONCURRENCY}" \
+        -H "Authorization: Bearer ${JWT_TOKEN}" \
+        "${BASE_URL}${endpoint}" \
+        | grep -E "Requests/sec|Average|99%|\[2[0-9][0-9]\]|\[[45][0-9][0-9]\]"
+done
+
+echo ""
+echo "✅ Done. Compare Requests/sec and p99 across runs."
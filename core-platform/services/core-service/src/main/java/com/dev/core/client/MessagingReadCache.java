@@ -0,0 +1,232 @@
+package com.dev.core.client;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dev.core.model.messaging.ChannelDTO;
+import com.dev.core.model.messaging.ChannelsResponse;
+import com.dev.core.model.messaging.MessageDTO;
+import com.dev.core.model.messaging.MessagesResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Short-TTL, per-user read-through cache for messaging-service reads with
+ * single-flight coalescing.
+ *
+ * An entry holds the shared {@link Mono} for one request, so identical requests
+ * that arrive while the first is still in flight subscribe to the same remote
+ * call, and later ones within the TTL replay its result. Failed loads are dropped
+ * immediately. Our own writes evict what they affect; the TTL bounds staleness for
+ * changes made by other users or instances.
+ *
+ * Reported through the standard Micrometer cache meters ({@code cache.gets},
+ * {@code cache.evictions}, {@code cache.size}) tagged {@code cache=messaging}.
+ */
+@Component
+@Slf4j
+public class MessagingReadCache {
+
+    private static final String CACHE_NAME = "messaging";
+
+    enum Kind { CHANNELS, CHANNEL, MESSAGES }
+
+    /**
+     * Cache key; {@code channelId} is null for channel lists and {@code variant}
+     * carries the remaining request parameters.
+     */
+    record Key(Kind kind, String userId, Long channelId, String variant) {
+    }
+
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+    private final Counter invalidations;
+
+    public MessagingReadCache(MeterRegistry meterRegistry,
+                              @Value("${messaging.cache.ttl-ms:5000}") long ttlMs,
+                              @Value("${messaging.cache.max-entries:10000}") int maxEntries) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+
+        this.hits = cacheCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.misses = cacheCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.expirations = cacheCounter(meterRegistry, "cache.evictions", "cause", "expired");
+        this.invalidations = cacheCounter(meterRegistry, "cache.evictions", "cause", "invalidated");
+
+        Gauge.builder("cache.size", entries, ConcurrentHashMap::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        log.info("MessagingReadCache configured: ttl={}ms, maxEntries={}", ttlMs, maxEntries);
+    }
+
+    static Key channelsKey(String userId, Long organizationId, Long teamId, String type) {
+        return new Key(Kind.CHANNELS, userId, null, organizationId + ":" + teamId + ":" + type);
+    }
+
+    static Key channelKey(String userId, Long channelId) {
+        return new Key(Kind.CHANNEL, userId, channelId, "");
+    }
+
+    static Key messagesKey(String userId, Long channelId, Integer limit, Long before, Long after) {
+        return new Key(Kind.MESSAGES, userId, channelId, limit + ":" + before + ":" + after);
+    }
+
+    /**
+     * Returns the cached or in-flight result for the key, or subscribes the loader
+     * once and shares its result with every caller until the entry expires.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(Key key, Supplier<Mono<T>> loader) {
+        long now = System.currentTimeMillis();
+
+        Entry current = entries.get(key);
+        if (current != null) {
+            if (now - current.createdAt <= ttlMs) {
+                hits.increment();
+                return (Mono<T>) current.mono;
+            }
+            if (entries.remove(key, current)) {
+                expirations.increment();
+            }
+        }
+
+        if (entries.size() >= maxEntries) {
+            entries.entrySet().removeIf(e -> now - e.getValue().createdAt > ttlMs);
+            if (entries.size() >= maxEntries) {
+                // Full of live entries: serve uncached rather than evicting hot ones
+                misses.increment();
+                return loader.get();
+            }
+        }
+
+        Entry fresh = new Entry(now);
+        fresh.mono = Mono.defer(loader)
+                .doOnNext(value -> fresh.value = value)
+                .doOnError(e -> entries.remove(key, fresh))
+                .cache();
+
+        Entry winner = entries.putIfAbsent(key, fresh);
+        if (winner != null) {
+            // Lost the race to a concurrent identical request; share its load
+            hits.increment();
+            return (Mono<T>) winner.mono;
+        }
+        misses.increment();
+        return (Mono<T>) fresh.mono;
+    }
+
+    /**
+     * A channel's content changed (message posted or edited, channel updated):
+     * drops every user's reads of that channel and the channel lists that show it,
+     * since last-message and unread counts shown there change too. Lists of other
+     * channels, and of users who are not in this one, stay cached.
+     */
+    public void invalidateChannel(Long channelId) {
+        invalidateChannel(channelId, List.of());
+    }
+
+    /**
+     * As {@link #invalidateChannel(Long)}, and also drops the channel lists of the
+     * given users, whose lists do not show the channel yet (new channel or members).
+     */
+    public void invalidateChannel(Long channelId, Collection<String> memberIds) {
+        evictWhere(key -> key.kind() != Kind.CHANNELS && Objects.equals(key.channelId(), channelId), null);
+        evictWhere(key -> key.kind() == Kind.CHANNELS,
+                value -> listsChannel(value, channelId));
+        if (!memberIds.isEmpty()) {
+            Set<String> members = Set.copyOf(memberIds);
+            evictWhere(key -> key.kind() == Kind.CHANNELS && members.contains(key.userId()), null);
+        }
+    }
+
+    /**
+     * The user read a channel: drops only that user's channel lists and their
+     * view of the channel (unread counts are per user).
+     */
+    public void invalidateReadState(String userId, Long channelId) {
+        evictWhere(key -> Objects.equals(key.userId(), userId)
+                && (key.kind() == Kind.CHANNELS
+                    || (key.kind() == Kind.CHANNEL && Objects.equals(key.channelId(), channelId))), null);
+    }
+
+    /**
+     * A single message changed (reaction, deletion) and only its id is known:
+     * drops the cached message pages that contain it.
+     */
+    public void invalidateMessage(Long messageId) {
+        evictWhere(key -> key.kind() == Kind.MESSAGES, value -> containsMessage(value, messageId));
+    }
+
+    private void evictWhere(Predicate<Key> keyMatch, Predicate<Object> valueMatch) {
+        entries.entrySet().removeIf(e -> {
+            if (!keyMatch.test(e.getKey())) {
+                return false;
+            }
+            // Still in flight: the page may contain the message, so drop it too
+            Object value = e.getValue().value;
+            boolean evict = valueMatch == null || value == null || valueMatch.test(value);
+            if (evict) {
+                invalidations.increment();
+            }
+            return evict;
+        });
+    }
+
+    private static boolean listsChannel(Object value, Long channelId) {
+        if (value instanceof ChannelsResponse list && list.getChannels() != null) {
+            for (ChannelDTO channel : list.getChannels()) {
+                if (Objects.equals(channel.getId(), channelId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsMessage(Object value, Long messageId) {
+        if (value instanceof MessagesResponse page && page.getMessages() != null) {
+            for (MessageDTO message : page.getMessages()) {
+                if (Objects.equals(message.getId(), messageId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String name, String tagKey, String tagValue) {
+        return Counter.builder(name)
+                .tag("cache", CACHE_NAME)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+
+    private static final class Entry {
+        private final long createdAt;
+        private volatile Mono<?> mono;
+        private volatile Object value;
+
+        private Entry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -11,9 +11,15 @@ import org.springframework.web.reactive.function.client.WebClient.RequestBodySpe
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Client for communicating with Messaging Service
- * Handles all HTTP requests to messaging-service with proper error handling using WebClient
+ * Handles all HTTP requests to messaging-service with proper error handling using WebClient.
+ * Every operation returns a cold {@link Mono}; nothing is sent until it is subscribed and no
+ * caller thread is held while the messaging service responds. Channel and message reads go
+ * through {@link MessagingReadCache}; writes evict the entries they affect once they succeed.
  */
 @Service
 @Slf4j
@@ -23,6 +29,8 @@ public class MessagingServiceClient {
     @Qualifier("messagingServiceWebClient")
     private final WebClient webClient;
 
+    private final MessagingReadCache readCache;
+
     /**
      * Add user context headers to WebClient request
      */
@@ -38,18 +46,17 @@ public class MessagingServiceClient {
     }
 
     /**
-     * Handle WebClient errors and convert to RuntimeException
+     * Map WebClient errors to RuntimeException without blocking the caller
      */
-    private <T> T handleResponse(Mono<T> mono, String operation) {
-        try {
-            return mono.block();
-        } catch (WebClientResponseException e) {
-            log.error("Error during {}: {} - {}", operation, e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("Failed to " + operation + ": " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("Unexpected error during {}: {}", operation, e.getMessage());
-            throw new RuntimeException("Failed to " + operation + ": " + e.getMessage(), e);
-        }
+    private <T> Mono<T> handleResponse(Mono<T> mono, String operation) {
+        return mono.onErrorMap(e -> {
+            if (e instanceof WebClientResponseException wcre) {
+                log.error("Error during {}: {} - {}", operation, wcre.getStatusCode(), wcre.getResponseBodyAsString());
+            } else {
+                log.error("Unexpected error during {}: {}", operation, e.getMessage());
+            }
+            return new RuntimeException("Failed to " + operation + ": " + e.getMessage(), e);
+        });
     }
 
     // ==================== CHANNEL OPERATIONS ====================
@@ -57,8 +64,8 @@ public class MessagingServiceClient {
     /**
      * Create a new channel
      */
-    public ChannelDTO createChannel(CreateChannelRequest request, String userId, String userName, 
-                                    String userEmail, Long organizationId) {
+    public Mono<ChannelDTO> createChannel(CreateChannelRequest request, String userId, String userName, 
+                                          String userEmail, Long organizationId) {
         log.info("Creating channel: {} for user: {}", request.getName(), userId);
         
         Mono<ChannelResponse> response = addHeaders(
@@ -69,9 +76,17 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(ChannelResponse.class);
         
-        ChannelResponse result = handleResponse(response, "create channel");
-        log.info("Channel created successfully with ID: {}", result.getChannel().getId());
-        return result.getChannel();
+        return handleResponse(response, "create channel")
+            .map(ChannelResponse::getChannel)
+            .doOnNext(channel -> {
+                log.info("Channel created successfully with ID: {}", channel.getId());
+                List<String> members = new ArrayList<>();
+                members.add(userId);
+                if (request.getMemberIds() != null) {
+                    members.addAll(request.getMemberIds());
+                }
+                readCache.invalidateChannel(channel.getId(), members);
+            });
     }
     
     /**
@@ -86,8 +101,15 @@ public class MessagingServiceClient {
      * Get all channels for a user in a team
      * Note: teamId is optional - if null, returns all channels for the user
      */
-    public ChannelsResponse getChannels(String userId, String userName, String userEmail, 
-                                       Long organizationId, Long teamId, String type) {
+    public Mono<ChannelsResponse> getChannels(String userId, String userName, String userEmail, 
+                                             Long organizationId, Long teamId, String type) {
+        return readCache.get(
+            MessagingReadCache.channelsKey(userId, organizationId, teamId, type),
+            () -> fetchChannels(userId, userName, userEmail, organizationId, teamId, type));
+    }
+
+    private Mono<ChannelsResponse> fetchChannels(String userId, String userName, String userEmail,
+                                                 Long organizationId, Long teamId, String type) {
         log.info("Fetching channels for user: {} in team: {}", userId, teamId);
         
         // Use 'all' as teamId if null to get all channels
@@ -104,32 +126,33 @@ public class MessagingServiceClient {
             .retrieve()
             .bodyToMono(ChannelsResponse.class);
         
-        ChannelsResponse result = handleResponse(response, "fetch channels");
-        log.info("Fetched {} channels for user: {}", result.getChannels().size(), userId);
-        return result;
+        return handleResponse(response, "fetch channels")
+            .doOnNext(result -> log.info("Fetched {} channels for user: {}", result.getChannels().size(), userId));
     }
 
     /**
      * Get channel by ID
      */
-    public ChannelDTO getChannel(Long channelId, String userId, String userName, 
-                                 String userEmail, Long organizationId) {
-        log.info("Fetching channel: {} for user: {}", channelId, userId);
-        
-        Mono<ChannelResponse> response = addHeaders(
-            webClient.get().uri("/api/channels/{id}", channelId),
-            userId, userName, userEmail, organizationId
-        ).retrieve()
-         .bodyToMono(ChannelResponse.class);
-        
-        return handleResponse(response, "fetch channel").getChannel();
+    public Mono<ChannelDTO> getChannel(Long channelId, String userId, String userName, 
+                                       String userEmail, Long organizationId) {
+        return readCache.get(MessagingReadCache.channelKey(userId, channelId), () -> {
+            log.info("Fetching channel: {} for user: {}", channelId, userId);
+            
+            Mono<ChannelResponse> response = addHeaders(
+                webClient.get().uri("/api/channels/{id}", channelId),
+                userId, userName, userEmail, organizationId
+            ).retrieve()
+             .bodyToMono(ChannelResponse.class);
+            
+            return handleResponse(response, "fetch channel").map(ChannelResponse::getChannel);
+        });
     }
 
     /**
      * Update channel
      */
-    public ChannelDTO updateChannel(Long channelId, UpdateChannelRequest request, 
-                                   String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<ChannelDTO> updateChannel(Long channelId, UpdateChannelRequest request, 
+                                          String userId, String userName, String userEmail, Long organizationId) {
         log.info("Updating channel: {} by user: {}", channelId, userId);
         
         Mono<ChannelResponse> response = addHeaders(
@@ -140,16 +163,19 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(ChannelResponse.class);
         
-        ChannelResponse result = handleResponse(response, "update channel");
-        log.info("Channel {} updated successfully", channelId);
-        return result.getChannel();
+        return handleResponse(response, "update channel")
+            .map(ChannelResponse::getChannel)
+            .doOnNext(channel -> {
+                log.info("Channel {} updated successfully", channelId);
+                readCache.invalidateChannel(channelId);
+            });
     }
 
     /**
      * Delete channel
      */
-    public void deleteChannel(Long channelId, String userId, String userName, 
-                             String userEmail, Long organizationId) {
+    public Mono<Void> deleteChannel(Long channelId, String userId, String userName, 
+                                    String userEmail, Long organizationId) {
         log.info("Deleting channel: {} by user: {}", channelId, userId);
         
         Mono<Void> response = addHeaders(
@@ -158,15 +184,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "delete channel");
-        log.info("Channel {} deleted successfully", channelId);
+        return handleResponse(response, "delete channel")
+            .doOnSuccess(v -> {
+                log.info("Channel {} deleted successfully", channelId);
+                readCache.invalidateChannel(channelId);
+            });
     }
 
     /**
      * Archive channel
      */
-    public void archiveChannel(Long channelId, String userId, String userName, 
-                               String userEmail, Long organizationId) {
+    public Mono<Void> archiveChannel(Long channelId, String userId, String userName, 
+                                     String userEmail, Long organizationId) {
         log.info("Archiving channel: {} by user: {}", channelId, userId);
         
         Mono<Void> response = addHeaders(
@@ -175,15 +204,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "archive channel");
-        log.info("Channel {} archived successfully", channelId);
+        return handleResponse(response, "archive channel")
+            .doOnSuccess(v -> {
+                log.info("Channel {} archived successfully", channelId);
+                readCache.invalidateChannel(channelId);
+            });
     }
 
     /**
      * Unarchive channel
      */
-    public void unarchiveChannel(Long channelId, String userId, String userName, 
-                                 String userEmail, Long organizationId) {
+    public Mono<Void> unarchiveChannel(Long channelId, String userId, String userName, 
+                                       String userEmail, Long organizationId) {
         log.info("Unarchiving channel: {} by user: {}", channelId, userId);
         
         Mono<Void> response = addHeaders(
@@ -192,15 +224,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "unarchive channel");
-        log.info("Channel {} unarchived successfully", channelId);
+        return handleResponse(response, "unarchive channel")
+            .doOnSuccess(v -> {
+                log.info("Channel {} unarchived successfully", channelId);
+                readCache.invalidateChannel(channelId);
+            });
     }
 
     /**
      * Add members to channel
      */
-    public void addMembers(Long channelId, AddMembersRequest request, 
-                          String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<Void> addMembers(Long channelId, AddMembersRequest request, 
+                                 String userId, String userName, String userEmail, Long organizationId) {
         log.info("Adding members to channel: {} by user: {}", channelId, userId);
         
         Mono<Void> response = addHeaders(
@@ -211,15 +246,19 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "add members");
-        log.info("Members added to channel {} successfully", channelId);
+        return handleResponse(response, "add members")
+            .doOnSuccess(v -> {
+                log.info("Members added to channel {} successfully", channelId);
+                readCache.invalidateChannel(channelId,
+                        request.getUserIds() != null ? request.getUserIds() : List.of());
+            });
     }
 
     /**
      * Remove member from channel
      */
-    public void removeMember(Long channelId, String memberUserId, 
-                            String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<Void> removeMember(Long channelId, String memberUserId, 
+                                   String userId, String userName, String userEmail, Long organizationId) {
         log.info("Removing member {} from channel: {} by user: {}", 
             memberUserId, channelId, userId);
         
@@ -229,15 +268,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "remove member");
-        log.info("Member {} removed from channel {} successfully", memberUserId, channelId);
+        return handleResponse(response, "remove member")
+            .doOnSuccess(v -> {
+                log.info("Member {} removed from channel {} successfully", memberUserId, channelId);
+                readCache.invalidateChannel(channelId);
+            });
     }
 
     /**
      * Get or create direct message channel
      */
-    public ChannelDTO getOrCreateDirectChannel(String otherUserId, String userId, String userName, 
-                                               String userEmail, Long organizationId) {
+    public Mono<ChannelDTO> getOrCreateDirectChannel(String otherUserId, String userId, String userName, 
+                                                     String userEmail, Long organizationId) {
         log.info("Getting/creating DM channel between {} and {}", userId, otherUserId);
         
         Mono<ChannelResponse> response = addHeaders(
@@ -246,7 +288,9 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(ChannelResponse.class);
         
-        return handleResponse(response, "get/create DM channel").getChannel();
+        return handleResponse(response, "get/create DM channel")
+            .map(ChannelResponse::getChannel)
+            .doOnNext(channel -> readCache.invalidateReadState(userId, channel.getId()));
     }
 
     // ==================== MESSAGE OPERATIONS ====================
@@ -254,8 +298,15 @@ public class MessagingServiceClient {
     /**
      * Get messages for a channel
      */
-    public MessagesResponse getMessages(Long channelId, Integer limit, Long before, Long after,
-                                       String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<MessagesResponse> getMessages(Long channelId, Integer limit, Long before, Long after,
+                                             String userId, String userName, String userEmail, Long organizationId) {
+        return readCache.get(
+            MessagingReadCache.messagesKey(userId, channelId, limit, before, after),
+            () -> fetchMessages(channelId, limit, before, after, userId, userName, userEmail, organizationId));
+    }
+
+    private Mono<MessagesResponse> fetchMessages(Long channelId, Integer limit, Long before, Long after,
+                                                 String userId, String userName, String userEmail, Long organizationId) {
         log.info("Fetching messages for channel: {} by user: {}", channelId, userId);
         
         WebClient.RequestHeadersSpec<?> spec = webClient.get()
@@ -271,16 +322,15 @@ public class MessagingServiceClient {
             .retrieve()
             .bodyToMono(MessagesResponse.class);
         
-        MessagesResponse result = handleResponse(response, "fetch messages");
-        log.info("Fetched {} messages for channel: {}", result.getMessages().size(), channelId);
-        return result;
+        return handleResponse(response, "fetch messages")
+            .doOnNext(result -> log.info("Fetched {} messages for channel: {}", result.getMessages().size(), channelId));
     }
 
     /**
      * Send a message
      */
-    public MessageDTO sendMessage(SendMessageRequest request, String userId, String userName, 
-                                 String userEmail, Long organizationId) {
+    public Mono<MessageDTO> sendMessage(SendMessageRequest request, String userId, String userName, 
+                                        String userEmail, Long organizationId) {
         log.info("Sending message to channel: {} by user: {}", request.getChannelId(), userId);
         
         Mono<MessageDTO> response = addHeaders(
@@ -291,16 +341,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(MessageDTO.class);
         
-        MessageDTO result = handleResponse(response, "send message");
-        log.info("Message sent successfully with ID: {}", result.getId());
-        return result;
+        return handleResponse(response, "send message")
+            .doOnNext(result -> {
+                log.info("Message sent successfully with ID: {}", result.getId());
+                readCache.invalidateChannel(request.getChannelId());
+            });
     }
 
     /**
      * Get single message
      */
-    public MessageDTO getMessage(Long messageId, String userId, String userName, 
-                                String userEmail, Long organizationId) {
+    public Mono<MessageDTO> getMessage(Long messageId, String userId, String userName, 
+                                       String userEmail, Long organizationId) {
         log.info("Fetching message: {} by user: {}", messageId, userId);
         
         Mono<MessageDTO> response = addHeaders(
@@ -315,8 +367,8 @@ public class MessagingServiceClient {
     /**
      * Update/edit a message
      */
-    public MessageDTO updateMessage(Long messageId, SendMessageRequest request, 
-                                   String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<MessageDTO> updateMessage(Long messageId, SendMessageRequest request, 
+                                          String userId, String userName, String userEmail, Long organizationId) {
         log.info("Updating message: {} by user: {}", messageId, userId);
         
         Mono<MessageDTO> response = addHeaders(
@@ -327,16 +379,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(MessageDTO.class);
         
-        MessageDTO result = handleResponse(response, "update message");
-        log.info("Message {} updated successfully", messageId);
-        return result;
+        return handleResponse(response, "update message")
+            .doOnNext(result -> {
+                log.info("Message {} updated successfully", messageId);
+                readCache.invalidateChannel(result.getChannelId() != null ? result.getChannelId() : request.getChannelId());
+            });
     }
 
     /**
      * Delete a message
      */
-    public void deleteMessage(Long messageId, String userId, String userName, 
-                             String userEmail, Long organizationId) {
+    public Mono<Void> deleteMessage(Long messageId, String userId, String userName, 
+                                    String userEmail, Long organizationId) {
         log.info("Deleting message: {} by user: {}", messageId, userId);
         
         Mono<Void> response = addHeaders(
@@ -345,15 +399,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "delete message");
-        log.info("Message {} deleted successfully", messageId);
+        return handleResponse(response, "delete message")
+            .doOnSuccess(v -> {
+                log.info("Message {} deleted successfully", messageId);
+                readCache.invalidateMessage(messageId);
+            });
     }
 
     /**
      * Get thread replies
      */
-    public MessagesResponse getThreadReplies(Long messageId, Integer limit, Integer offset,
-                                            String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<MessagesResponse> getThreadReplies(Long messageId, Integer limit, Integer offset,
+                                                  String userId, String userName, String userEmail, Long organizationId) {
         log.info("Fetching thread replies for message: {} by user: {}", messageId, userId);
         
         WebClient.RequestHeadersSpec<?> spec = webClient.get()
@@ -374,8 +431,8 @@ public class MessagingServiceClient {
     /**
      * Add reaction to message
      */
-    public void addReaction(Long messageId, AddReactionRequest request, 
-                           String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<Void> addReaction(Long messageId, AddReactionRequest request, 
+                                  String userId, String userName, String userEmail, Long organizationId) {
         log.info("Adding reaction to message: {} by user: {}", messageId, userId);
         
         Mono<Void> response = addHeaders(
@@ -386,15 +443,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "add reaction");
-        log.info("Reaction added to message {} successfully", messageId);
+        return handleResponse(response, "add reaction")
+            .doOnSuccess(v -> {
+                log.info("Reaction added to message {} successfully", messageId);
+                readCache.invalidateMessage(messageId);
+            });
     }
 
     /**
      * Remove reaction from message
      */
-    public void removeReaction(Long messageId, String emoji, 
-                              String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<Void> removeReaction(Long messageId, String emoji, 
+                                     String userId, String userName, String userEmail, Long organizationId) {
         log.info("Removing reaction from message: {} by user: {}", messageId, userId);
         
         Mono<Void> response = addHeaders(
@@ -403,15 +463,18 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "remove reaction");
-        log.info("Reaction removed from message {} successfully", messageId);
+        return handleResponse(response, "remove reaction")
+            .doOnSuccess(v -> {
+                log.info("Reaction removed from message {} successfully", messageId);
+                readCache.invalidateMessage(messageId);
+            });
     }
 
     /**
      * Search messages
      */
-    public MessagesResponse searchMessages(SearchMessagesRequest request, 
-                                          String userId, String userName, String userEmail, Long organizationId) {
+    public Mono<MessagesResponse> searchMessages(SearchMessagesRequest request, 
+                                                String userId, String userName, String userEmail, Long organizationId) {
         log.info("Searching messages with query: {} by user: {}", request.getQuery(), userId);
         
         Mono<MessagesResponse> response = addHeaders(
@@ -422,16 +485,15 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(MessagesResponse.class);
         
-        MessagesResponse result = handleResponse(response, "search messages");
-        log.info("Found {} messages matching query", result.getMessages().size());
-        return result;
+        return handleResponse(response, "search messages")
+            .doOnNext(result -> log.info("Found {} messages matching query", result.getMessages().size()));
     }
 
     /**
      * Mark messages as read
      */
-    public void markAsRead(MarkReadRequest request, String userId, String userName, 
-                          String userEmail, Long organizationId) {
+    public Mono<Void> markAsRead(MarkReadRequest request, String userId, String userName, 
+                                 String userEmail, Long organizationId) {
         log.info("Marking messages as read in channel: {} by user: {}", 
             request.getChannelId(), userId);
         
@@ -443,7 +505,10 @@ public class MessagingServiceClient {
         ).retrieve()
          .bodyToMono(Void.class);
         
-        handleResponse(response, "mark messages as read");
-        log.info("Messages marked as read successfully");
+        return handleResponse(response, "mark messages as read")
+            .doOnSuccess(v -> {
+                log.info("Messages marked as read successfully");
+                readCache.invalidateReadState(userId, request.getChannelId());
+            });
     }
 }
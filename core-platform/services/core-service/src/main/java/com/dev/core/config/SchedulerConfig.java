@@ -1,8 +1,15 @@
 package com.dev.core.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SchedulerConfig {
 
-	@Bean
+	@Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
         scheduler.setPoolSize(10); // Allow up to 10 concurrent tasks
@@ -20,4 +28,36 @@ public class SchedulerConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * With {@code spring.threads.virtual.enabled=true} (Java 21+) each scheduled run and
+     * one-off reminder gets its own virtual thread instead of sharing a pool of 10.
+     */
+    @Bean(name = "taskScheduler")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskScheduler virtualThreadTaskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setErrorHandler(t -> log.error("TaskScheduler error: {}", t.getMessage(), t));
+        return scheduler;
+    }
+
+    /**
+     * Bounded pool that delivers outbox email batches; each worker holds one SMTP connection per batch.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor(@Value("${notification.outbox.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-");
+        // Never drop a claimed batch; the dispatcher thread delivers it itself if the pool is saturated
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
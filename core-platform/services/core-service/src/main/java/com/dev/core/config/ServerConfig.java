@@ -1,22 +1,42 @@
 package com.dev.core.config;
 
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded Tomcat connector profile.
+ *
+ * Threads, max connections, accept count and response compression are standard
+ * {@code server.tomcat.*} / {@code server.compression.*} properties (see
+ * application.properties) and are applied to this factory by Spring Boot, as is
+ * {@code spring.threads.virtual.enabled=true} for running requests on virtual
+ * threads (Java 21+). Keep-alive and upload limits are set here.
+ */
 @Configuration
+@Slf4j
 public class ServerConfig {
 
     @Bean
-    public TomcatServletWebServerFactory tomcatFactory() {
+    public TomcatServletWebServerFactory tomcatFactory(
+            @Value("${server.connector.max-post-size:10485760}") int maxPostSize,
+            @Value("${server.connector.connection-timeout-ms:120000}") int connectionTimeoutMs,
+            @Value("${server.connector.keep-alive-timeout-ms:60000}") int keepAliveTimeoutMs,
+            @Value("${server.connector.max-keep-alive-requests:1000}") int maxKeepAliveRequests) {
         TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
         factory.addConnectorCustomizers(connector -> {
-            connector.setProperty("maxPostSize", "10485760");
-            connector.setProperty("connectionTimeout", "120000");
-            connector.setProperty("maxKeepAliveRequests", "1");
-            connector.setProperty("keepAliveTimeout", "120000");
+            connector.setProperty("maxPostSize", String.valueOf(maxPostSize));
+            connector.setProperty("connectionTimeout", String.valueOf(connectionTimeoutMs));
+            // Reuse connections from the SPA instead of reconnecting on every call
+            connector.setProperty("maxKeepAliveRequests", String.valueOf(maxKeepAliveRequests));
+            connector.setProperty("keepAliveTimeout", String.valueOf(keepAliveTimeoutMs));
         });
+        log.info("Tomcat connector: keepAliveTimeout={}ms, maxKeepAliveRequests={}, connectionTimeout={}ms",
+                keepAliveTimeoutMs, maxKeepAliveRequests, connectionTimeoutMs);
         return factory;
     }
 }
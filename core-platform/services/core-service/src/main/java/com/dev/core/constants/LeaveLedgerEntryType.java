@@ -0,0 +1,7 @@
+package com.dev.core.constants;
+
+public enum LeaveLedgerEntryType {
+    ACCRUAL,
+    CARRY_FORWARD,
+    LEAVE_TAKEN
+}
@@ -89,6 +89,13 @@ public class AttendanceController {
         return ResponseEntity.ok(attendanceService.getEmployeeAttendanceHistory(employeeId, startDate, endDate));
     }
 
+    @GetMapping("/manager/{managerId}/team/date/{date}")
+    public ResponseEntity<List<AttendanceDTO>> getTeamAttendanceForDate(
+            @PathVariable Long managerId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(attendanceService.getTeamAttendanceForDate(managerId, date));
+    }
+
     @GetMapping("/organization/{organizationId}/stats")
     public ResponseEntity<Map<String, Object>> getAttendanceStats(
             @PathVariable Long organizationId,
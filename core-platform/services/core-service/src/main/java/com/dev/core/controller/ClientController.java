@@ -5,21 +5,21 @@ import com.dev.core.model.ClientDocumentDTO;
 import com.dev.core.security.SecurityContextUtil;
 import com.dev.core.service.ClientDocumentService;
 import com.dev.core.service.ClientService;
+import com.dev.core.service.file.FileDownloadWriter;
 import com.dev.core.service.file.FileStorageService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.groups.Default;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -34,6 +34,7 @@ public class ClientController {
     private final FileStorageService fileStorageService;
     private final ClientDocumentService clientDocumentService;
     private final SecurityContextUtil securityContextUtil;
+    private final FileDownloadWriter downloadWriter;
 
 
     // =====================================================================
@@ -126,17 +127,15 @@ public class ClientController {
 
     // ====================== DOWNLOAD ======================
     @GetMapping("/documents/{documentId}/file")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @PathVariable Long documentId,
-            @RequestParam String fileId) throws MalformedURLException {
+            @RequestParam String fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
         ClientDocumentDTO doc = clientDocumentService.getDocumentById(documentId);
         Path filePath = fileStorageService.getFilePath(fileId, doc.getClientId());
 
-        Resource resource = new UrlResource(filePath.toUri());
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + doc.getTitle() + "\"")
-                .body(resource);
+        downloadWriter.write(filePath, doc.getTitle(), null, false, request, response);
     }
 }
\ No newline at end of file
@@ -4,9 +4,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,10 +18,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.dev.core.model.EmployeeDocumentDTO;
 import com.dev.core.service.EmployeeDocumentService;
+import com.dev.core.service.file.FileDownloadWriter;
 import com.dev.core.service.file.FileStorageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -34,6 +34,7 @@ public class EmployeeDocumentController {
 
     private final EmployeeDocumentService documentService;
     private final FileStorageService fileStorageService;
+    private final FileDownloadWriter downloadWriter;
 
     @PostMapping(consumes = {"multipart/form-data"})
     public ResponseEntity<EmployeeDocumentDTO> upload(
@@ -72,15 +73,13 @@ public class EmployeeDocumentController {
     }
     
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> download(@PathVariable Long id) throws IOException {
+    public void download(@PathVariable Long id,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
         EmployeeDocumentDTO doc = documentService.getDocumentById(id);
         Path path = fileStorageService.getFilePath(doc.getFileId(), doc.getEmployeeId());
 
-        Resource resource = new UrlResource(path.toUri());
-
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + doc.getDocumentName())
-            .body(resource);
+        downloadWriter.write(path, doc.getDocumentName(), null, false, request, response);
     }
 
 }
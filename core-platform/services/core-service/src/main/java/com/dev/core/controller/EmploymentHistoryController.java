@@ -1,5 +1,6 @@
 package com.dev.core.controller;
 
+import com.dev.core.model.DepartmentMonthlyMetricsDTO;
 import com.dev.core.model.EmploymentHistoryDTO;
 import com.dev.core.service.EmploymentHistoryService;
 
@@ -42,4 +43,10 @@ public class EmploymentHistoryController {
     public ResponseEntity<Long> countResignations(@RequestParam Long organizationId) {
         return ResponseEntity.ok(historyService.countResignations(organizationId));
     }
+
+    @GetMapping("/analytics/monthly")
+    public ResponseEntity<List<DepartmentMonthlyMetricsDTO>> monthlyMetrics(@RequestParam Long organizationId,
+                                                                            @RequestParam int year) {
+        return ResponseEntity.ok(historyService.getMonthlyMetrics(organizationId, year));
+    }
 }
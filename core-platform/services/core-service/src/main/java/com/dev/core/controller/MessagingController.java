@@ -13,10 +13,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Messaging Controller
- * Proxies all messaging requests to messaging-service with authentication and authorization
+ * Proxies all messaging requests to messaging-service with authentication and authorization.
+ * Endpoints return {@link Mono}s, so Spring MVC completes them asynchronously and the
+ * request thread is released while messaging-service responds.
  */
 @RestController
 @RequestMapping("/api/messaging")
@@ -24,255 +34,236 @@ import jakarta.validation.Valid;
 @Slf4j
 public class MessagingController {
 
+    // Upper bound on messaging-service calls a single overview request keeps in flight
+    private static final int OVERVIEW_CONCURRENCY = 8;
+
     private final MessagingServiceClient messagingClient;
     private final AuthorizationService authorizationService;
     private final SecurityContextUtil securityContextUtil;
     private final UserService userService;
 
     /**
-     * Helper method to get current user details
+     * Identity headers forwarded to messaging-service, resolved once per request on
+     * the request thread (the proxied call itself completes asynchronously).
      */
-    private UserDTO getCurrentUser() {
-        return userService.getUserById(securityContextUtil.getCurrentUserId());
+    private record Caller(String userId, String userName, String userEmail, Long organizationId) {
     }
 
-    // ── Safe context accessors ───────────────────────────────────────────────
+    private Caller currentCaller() {
+        Long userId = securityContextUtil.getCurrentUserId();
+        UserDTO user = userService.getUserById(userId);
 
-    private String getCurrentUserIdStr() {
-        return String.valueOf(securityContextUtil.getCurrentUserId());
-    }
-
-    private String getCurrentUsername() {
-        UserDTO user = getCurrentUser();
-        return user != null ? user.getUsername() : null;
-    }
-
-    private String getCurrentUserEmail() {
         // Prefer employee email → fallback to user email → null
+        // (messaging service should handle null email gracefully)
+        String email = null;
         MinimalEmployeeDTO employee = securityContextUtil.getCurrentEmployee();
         if (employee != null && employee.getEmail() != null) {
-            return employee.getEmail();
-        }
-
-        UserDTO user = getCurrentUser();
-        if (user != null && user.getEmail() != null) {
-            return user.getEmail();
+            email = employee.getEmail();
+        } else if (user != null) {
+            email = user.getEmail();
         }
 
-        return null;   // messaging service should handle null email gracefully
-        // Alternative options:
-        // return "no-email@" + getCurrentUserIdStr();
-        // throw new IllegalStateException("No email available for current user");
-    }
-
-    private Long getCurrentOrganizationId() {
-        UserDTO user = getCurrentUser();
-        return user != null ? user.getOrganizationId() : null;
+        return new Caller(
+                String.valueOf(userId),
+                user != null ? user.getUsername() : null,
+                email,
+                user != null ? user.getOrganizationId() : null
+        );
     }
 
     // ==================== CHANNEL ENDPOINTS ====================
 
     @PostMapping("/channels")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ChannelDTO> createChannel(@Valid @RequestBody CreateChannelRequest request) {
+    public Mono<ResponseEntity<ChannelDTO>> createChannel(@Valid @RequestBody CreateChannelRequest request) {
         log.info("Creating channel: {}", request.getName());
 
         authorizationService.authorize("MESSAGING", "CREATE");
+        Caller caller = currentCaller();
 
-        ChannelDTO channel = messagingClient.createChannel(
+        return messagingClient.createChannel(
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.status(201).body(channel);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(channel -> ResponseEntity.status(201).body(channel));
     }
 
     @GetMapping("/channels")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ChannelsResponse> getChannels(
+    public Mono<ResponseEntity<ChannelsResponse>> getChannels(
             @RequestParam(required = false) Long teamId,
             @RequestParam(required = false) String type) {
 
         log.info("Fetching channels for current user");
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        ChannelsResponse channels = messagingClient.getChannels(
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId(),
+        return messagingClient.getChannels(
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId(),
                 teamId,
                 type
-        );
-
-        return ResponseEntity.ok(channels);
+        ).map(ResponseEntity::ok);
     }
 
     @GetMapping("/channels/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ChannelDTO> getChannel(@PathVariable Long id) {
+    public Mono<ResponseEntity<ChannelDTO>> getChannel(@PathVariable Long id) {
         log.info("Fetching channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        ChannelDTO channel = messagingClient.getChannel(
+        return messagingClient.getChannel(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(channel);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @PutMapping("/channels/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ChannelDTO> updateChannel(
+    public Mono<ResponseEntity<ChannelDTO>> updateChannel(
             @PathVariable Long id,
             @Valid @RequestBody UpdateChannelRequest request) {
 
         log.info("Updating channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        ChannelDTO channel = messagingClient.updateChannel(
+        return messagingClient.updateChannel(
                 id,
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(channel);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @DeleteMapping("/channels/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> deleteChannel(@PathVariable Long id) {
+    public Mono<ResponseEntity<Void>> deleteChannel(@PathVariable Long id) {
         log.info("Deleting channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "DELETE");
+        Caller caller = currentCaller();
 
-        messagingClient.deleteChannel(
+        return messagingClient.deleteChannel(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.noContent().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.noContent().<Void>build());
     }
 
     @PostMapping("/channels/{id}/archive")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> archiveChannel(@PathVariable Long id) {
+    public Mono<ResponseEntity<Void>> archiveChannel(@PathVariable Long id) {
         log.info("Archiving channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        messagingClient.archiveChannel(
+        return messagingClient.archiveChannel(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.ok().<Void>build());
     }
 
     @PostMapping("/channels/{id}/unarchive")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> unarchiveChannel(@PathVariable Long id) {
+    public Mono<ResponseEntity<Void>> unarchiveChannel(@PathVariable Long id) {
         log.info("Unarchiving channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        messagingClient.unarchiveChannel(
+        return messagingClient.unarchiveChannel(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.ok().<Void>build());
     }
 
     @PostMapping("/channels/{id}/members")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> addMembers(
+    public Mono<ResponseEntity<Void>> addMembers(
             @PathVariable Long id,
             @Valid @RequestBody AddMembersRequest request) {
 
         log.info("Adding members to channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        messagingClient.addMembers(
+        return messagingClient.addMembers(
                 id,
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.ok().<Void>build());
     }
 
     @DeleteMapping("/channels/{id}/members/{userId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> removeMember(
+    public Mono<ResponseEntity<Void>> removeMember(
             @PathVariable Long id,
             @PathVariable String userId) {
 
         log.info("Removing member {} from channel: {}", userId, id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        messagingClient.removeMember(
+        return messagingClient.removeMember(
                 id,
                 userId,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.noContent().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.noContent().<Void>build());
     }
 
     @GetMapping("/channels/direct/{userId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ChannelDTO> getOrCreateDirectChannel(@PathVariable String userId) {
+    public Mono<ResponseEntity<ChannelDTO>> getOrCreateDirectChannel(@PathVariable String userId) {
         log.info("Getting/creating DM channel with user: {}", userId);
 
         authorizationService.authorize("MESSAGING", "CREATE");
+        Caller caller = currentCaller();
 
-        ChannelDTO channel = messagingClient.getOrCreateDirectChannel(
+        return messagingClient.getOrCreateDirectChannel(
                 userId,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(channel);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     // ==================== MESSAGE ENDPOINTS ====================
 
     @GetMapping("/channels/{id}/messages")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessagesResponse> getMessages(
+    public Mono<ResponseEntity<MessagesResponse>> getMessages(
             @PathVariable Long id,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
             @RequestParam(required = false) Long before,
@@ -281,100 +272,95 @@ public class MessagingController {
         log.info("Fetching messages for channel: {}", id);
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        MessagesResponse messages = messagingClient.getMessages(
+        return messagingClient.getMessages(
                 id,
                 limit,
                 before,
                 after,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(messages);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/messages")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessageDTO> sendMessage(@Valid @RequestBody SendMessageRequest request) {
+    public Mono<ResponseEntity<MessageDTO>> sendMessage(@Valid @RequestBody SendMessageRequest request) {
         log.info("Sending message to channel: {}", request.getChannelId());
 
         authorizationService.authorize("MESSAGING", "CREATE");
+        Caller caller = currentCaller();
 
-        MessageDTO message = messagingClient.sendMessage(
+        return messagingClient.sendMessage(
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.status(201).body(message);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(message -> ResponseEntity.status(201).body(message));
     }
 
     @GetMapping("/messages/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessageDTO> getMessage(@PathVariable Long id) {
+    public Mono<ResponseEntity<MessageDTO>> getMessage(@PathVariable Long id) {
         log.info("Fetching message: {}", id);
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        MessageDTO message = messagingClient.getMessage(
+        return messagingClient.getMessage(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(message);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @PutMapping("/messages/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessageDTO> updateMessage(
+    public Mono<ResponseEntity<MessageDTO>> updateMessage(
             @PathVariable Long id,
             @Valid @RequestBody SendMessageRequest request) {
 
         log.info("Updating message: {}", id);
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        MessageDTO message = messagingClient.updateMessage(
+        return messagingClient.updateMessage(
                 id,
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(message);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @DeleteMapping("/messages/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> deleteMessage(@PathVariable Long id) {
+    public Mono<ResponseEntity<Void>> deleteMessage(@PathVariable Long id) {
         log.info("Deleting message: {}", id);
 
         authorizationService.authorize("MESSAGING", "DELETE");
+        Caller caller = currentCaller();
 
-        messagingClient.deleteMessage(
+        return messagingClient.deleteMessage(
                 id,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.noContent().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.noContent().<Void>build());
     }
 
     @GetMapping("/messages/{id}/thread")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessagesResponse> getThreadReplies(
+    public Mono<ResponseEntity<MessagesResponse>> getThreadReplies(
             @PathVariable Long id,
             @RequestParam(required = false, defaultValue = "50") Integer limit,
             @RequestParam(required = false, defaultValue = "0") Integer offset) {
@@ -382,99 +368,181 @@ public class MessagingController {
         log.info("Fetching thread replies for message: {}", id);
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        MessagesResponse replies = messagingClient.getThreadReplies(
+        return messagingClient.getThreadReplies(
                 id,
                 limit,
                 offset,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(replies);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/messages/{id}/reactions")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> addReaction(
+    public Mono<ResponseEntity<Void>> addReaction(
             @PathVariable Long id,
             @Valid @RequestBody AddReactionRequest request) {
 
         log.info("Adding reaction to message: {}", id);
 
         authorizationService.authorize("MESSAGING", "CREATE");
+        Caller caller = currentCaller();
 
-        messagingClient.addReaction(
+        return messagingClient.addReaction(
                 id,
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.status(201).build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.status(201).<Void>build());
     }
 
     @DeleteMapping("/messages/{id}/reactions/{emoji}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> removeReaction(
+    public Mono<ResponseEntity<Void>> removeReaction(
             @PathVariable Long id,
             @PathVariable String emoji) {
 
         log.info("Removing reaction from message: {}", id);
 
         authorizationService.authorize("MESSAGING", "DELETE");
+        Caller caller = currentCaller();
 
-        messagingClient.removeReaction(
+        return messagingClient.removeReaction(
                 id,
                 emoji,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.noContent().build();
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.noContent().<Void>build());
     }
 
     @PostMapping("/messages/search")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<MessagesResponse> searchMessages(
+    public Mono<ResponseEntity<MessagesResponse>> searchMessages(
             @Valid @RequestBody SearchMessagesRequest request) {
 
         log.info("Searching messages with query: {}", request.getQuery());
 
         authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
 
-        MessagesResponse results = messagingClient.searchMessages(
+        return messagingClient.searchMessages(
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
-        );
-
-        return ResponseEntity.ok(results);
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).map(ResponseEntity::ok);
     }
 
     @PostMapping("/messages/mark-read")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Void> markAsRead(@Valid @RequestBody MarkReadRequest request) {
+    public Mono<ResponseEntity<Void>> markAsRead(@Valid @RequestBody MarkReadRequest request) {
         log.info("Marking messages as read in channel: {}", request.getChannelId());
 
         authorizationService.authorize("MESSAGING", "UPDATE");
+        Caller caller = currentCaller();
 
-        messagingClient.markAsRead(
+        return messagingClient.markAsRead(
                 request,
-                getCurrentUserIdStr(),
-                getCurrentUsername(),
-                getCurrentUserEmail(),
-                getCurrentOrganizationId()
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId()
+        ).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    // ==================== OVERVIEW ENDPOINT ====================
+
+    /**
+     * Channels across the given teams (all of the user's channels when none are given),
+     * per-channel unread counts and, optionally, the latest messages of selected channels.
+     * The channel lists and message pages are requested from messaging-service in parallel
+     * instead of as sequential round-trips.
+     */
+    @GetMapping("/overview")
+    @PreAuthorize("isAuthenticated()")
+    public Mono<ResponseEntity<MessagingOverviewResponse>> getOverview(
+            @RequestParam(required = false) List<Long> teamIds,
+            @RequestParam(required = false) List<Long> channelIds,
+            @RequestParam(required = false, defaultValue = "20") Integer messageLimit) {
+
+        log.info("Fetching messaging overview for teams: {} and channels: {}", teamIds, channelIds);
+
+        authorizationService.authorize("MESSAGING", "READ");
+        Caller caller = currentCaller();
+
+        List<Long> previews = channelIds != null ? channelIds.stream().distinct().toList() : List.of();
+
+        Function<Long, Mono<ChannelsResponse>> channelsOf = teamId -> messagingClient.getChannels(
+                caller.userId(),
+                caller.userName(),
+                caller.userEmail(),
+                caller.organizationId(),
+                teamId,
+                null
         );
 
-        return ResponseEntity.ok().build();
+        // No teams → one call for all of the user's channels (a null team cannot go through a Flux)
+        Flux<ChannelsResponse> channelLists = teamIds == null || teamIds.isEmpty()
+                ? channelsOf.apply(null).flux()
+                : Flux.fromIterable(teamIds.stream().distinct().toList())
+                        .flatMapSequential(channelsOf, OVERVIEW_CONCURRENCY);
+
+        Mono<List<ChannelDTO>> channels = channelLists
+                .flatMapIterable(response -> response.getChannels() != null ? response.getChannels() : List.of())
+                .collectList();
+
+        Mono<Map<Long, MessagesResponse>> recentMessages = Flux.fromIterable(previews)
+                .flatMap(channelId -> messagingClient.getMessages(
+                        channelId,
+                        messageLimit,
+                        null,
+                        null,
+                        caller.userId(),
+                        caller.userName(),
+                        caller.userEmail(),
+                        caller.organizationId()
+                ).map(page -> Map.entry(channelId, page)), OVERVIEW_CONCURRENCY)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+
+        return Mono.zip(channels, recentMessages)
+                .map(results -> ResponseEntity.ok(buildOverview(results.getT1(), results.getT2(), caller.userId())));
+    }
+
+    private MessagingOverviewResponse buildOverview(List<ChannelDTO> channelList,
+                                                    Map<Long, MessagesResponse> recentMessages,
+                                                    String userId) {
+        // A channel can appear under more than one requested team; keep the first copy
+        Map<Long, ChannelDTO> unique = new LinkedHashMap<>();
+        for (ChannelDTO channel : channelList) {
+            unique.putIfAbsent(channel.getId(), channel);
+        }
+
+        Map<Long, Integer> unreadCounts = new LinkedHashMap<>();
+        int totalUnread = 0;
+        for (ChannelDTO channel : unique.values()) {
+            Integer unread = channel.getUnreadCount();
+            if (unread == null && channel.getUnreadCounts() != null) {
+                unread = channel.getUnreadCounts().get(userId);
+            }
+            int count = unread != null ? unread : 0;
+            unreadCounts.put(channel.getId(), count);
+            totalUnread += count;
+        }
+
+        return MessagingOverviewResponse.builder()
+                .channels(new ArrayList<>(unique.values()))
+                .unreadCounts(unreadCounts)
+                .totalUnread(totalUnread)
+                .recentMessages(recentMessages)
+                .build();
     }
 }
\ No newline at end of file
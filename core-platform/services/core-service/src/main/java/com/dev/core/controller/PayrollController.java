@@ -2,6 +2,7 @@ package com.dev.core.controller;
 
 import com.dev.core.dto.PayrollDTO;
 import com.dev.core.dto.PayrollHistoryDTO;
+import com.dev.core.dto.PayrollRunDTO;
 import com.dev.core.dto.PayrollSummaryDTO;
 import com.dev.core.service.PayrollService;
 import lombok.RequiredArgsConstructor;
@@ -202,8 +203,7 @@ public class PayrollController {
      */
     @PostMapping("/bulk-approve")
     public ResponseEntity<List<PayrollDTO>> bulkApprovePayrolls(@RequestBody Map<String, Object> request) {
-        @SuppressWarnings("unchecked")
-        List<Long> payrollIds = (List<Long>) request.get("payrollIds");
+        List<Long> payrollIds = toIds(request.get("payrollIds"));
         Long approvedBy = ((Number) request.get("approvedBy")).longValue();
         
         List<PayrollDTO> approved = payrollService.bulkApprovePayrolls(payrollIds, approvedBy);
@@ -215,8 +215,7 @@ public class PayrollController {
      */
     @PostMapping("/bulk-mark-paid")
     public ResponseEntity<List<PayrollDTO>> bulkMarkAsPaid(@RequestBody Map<String, Object> request) {
-        @SuppressWarnings("unchecked")
-        List<Long> payrollIds = (List<Long>) request.get("payrollIds");
+        List<Long> payrollIds = toIds(request.get("payrollIds"));
         Long paidBy = ((Number) request.get("paidBy")).longValue();
         
         List<PayrollDTO> paid = payrollService.bulkMarkAsPaid(payrollIds, paidBy);
@@ -235,6 +234,15 @@ public class PayrollController {
         return ResponseEntity.ok(summary);
     }
 
+    /**
+     * Get recent bulk payroll run summaries
+     */
+    @GetMapping("/organization/{organizationId}/runs")
+    public ResponseEntity<List<PayrollRunDTO>> getPayrollRuns(@PathVariable Long organizationId) {
+        List<PayrollRunDTO> runs = payrollService.getPayrollRuns(organizationId);
+        return ResponseEntity.ok(runs);
+    }
+
     /**
      * Get payroll history
      */
@@ -252,4 +260,11 @@ public class PayrollController {
         List<PayrollHistoryDTO> history = payrollService.getEmployeePayrollHistoryLogs(employeeId);
         return ResponseEntity.ok(history);
     }
+
+    // JSON numbers arrive as Integer or Long depending on size
+    private static List<Long> toIds(Object raw) {
+        return ((List<?>) raw).stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+    }
 }
@@ -3,13 +3,17 @@ package com.dev.core.controller;
 
 import com.dev.core.model.ProjectActivityDTO;
 import com.dev.core.service.ProjectActivityService;
+import com.dev.core.service.export.ExportFormat;
+
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/projects/{projectId}/activities")
 @RequiredArgsConstructor
@@ -30,23 +34,25 @@ public class ProjectActivityController {
         return projectActivityService.listProjectActivities(projectId, pageable);
     }
     
+    /**
+     * Streams the activity log as Excel (default) or CSV.
+     *
+     * Example: GET /api/projects/12/activities/export?format=CSV
+     */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportProjectActivities(
+    public void exportProjectActivities(
             @PathVariable Long projectId,
-            @RequestParam(defaultValue = "PDF") String format
-    ) {
-        byte[] fileBytes = projectActivityService.exportActivities(projectId, format.toUpperCase());
-
-        String filename = "project-" + projectId + "-activity-log." +
-                (format.equalsIgnoreCase("EXCEL") ? "xlsx" : "pdf");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                .header(HttpHeaders.CONTENT_TYPE, 
-                        format.equalsIgnoreCase("EXCEL")
-                            ? "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
-                            : "application/pdf")
-                .body(fileBytes);
+            @RequestParam(defaultValue = "EXCEL") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        String filename = "project-" + projectId + "-activity-log." + exportFormat.getExtension();
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+
+        projectActivityService.exportActivities(projectId, exportFormat, response.getOutputStream());
     }
 
 }
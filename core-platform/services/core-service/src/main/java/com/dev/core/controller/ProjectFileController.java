@@ -1,5 +1,6 @@
 package com.dev.core.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,11 @@ import org.springframework.web.multipart.MultipartFile;
 import com.dev.core.api.ControllerHelper;
 import com.dev.core.model.ProjectFileDTO;
 import com.dev.core.service.ProjectFileService;
+import com.dev.core.service.file.FileDownloadWriter;
+import com.dev.core.service.file.FileStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +33,8 @@ public class ProjectFileController {
 
     private final ProjectFileService projectFileService;
     private final ControllerHelper helper;
+    private final FileStorageService fileStorageService;
+    private final FileDownloadWriter downloadWriter;
 
     @PostMapping("/{projectId}/upload")
     public ResponseEntity<?> uploadFile(@PathVariable Long projectId,
@@ -64,4 +72,14 @@ public class ProjectFileController {
         String url = projectFileService.getDownloadUrl(id);
         return helper.success("Download URL generated", url);
     }
+
+    @GetMapping("/{id}/download")
+    public void downloadFile(@PathVariable Long id,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        log.info("📥 Downloading file {}", id);
+        ProjectFileDTO file = projectFileService.getFileById(id);
+        downloadWriter.write(fileStorageService.getFilePath(file.getStoredPath(), file.getProjectId()),
+                file.getOriginalFilename(), file.getContentType(), false, request, response);
+    }
 }
@@ -6,16 +6,19 @@ import com.dev.core.model.bug.BugAttachmentDTO;
 import com.dev.core.service.bug.BugAttachmentService;
 import com.dev.core.repository.bug.BugAttachmentRepository;
 import com.dev.core.security.SecurityContextUtil;
+import com.dev.core.service.file.FileDownloadWriter;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/bugs/attachments")
@@ -26,6 +29,7 @@ public class BugAttachmentController {
     private final BugAttachmentRepository attachmentRepository;
     private final ControllerHelper helper;
     private final SecurityContextUtil securityContextUtil;
+    private final FileDownloadWriter downloadWriter;
 
     @PostMapping("/bug/{bugId}")
     public ResponseEntity<?> upload(@PathVariable Long bugId,
@@ -57,19 +61,15 @@ public class BugAttachmentController {
     // ⭐ NEW: Download Attachment
     // ------------------------------------------------------------------
     @GetMapping("/download/{attachmentId}")
-    public ResponseEntity<?> download(@PathVariable Long attachmentId) {
+    public void download(@PathVariable Long attachmentId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
         log.info("📥 Downloading attachment [{}]", attachmentId);
 
         BugAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new RuntimeException("Attachment not found"));
 
-        byte[] fileBytes = attachmentService.getAttachmentFileBytes(attachmentId);
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + attachment.getFileName() + "\"")
-                .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                .contentLength(fileBytes.length)
-                .body(fileBytes);
+        downloadWriter.write(attachmentService.getAttachmentFilePath(attachmentId),
+                attachment.getFileName(), attachment.getContentType(), false, request, response);
     }
 }
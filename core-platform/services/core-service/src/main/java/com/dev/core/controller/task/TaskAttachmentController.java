@@ -4,11 +4,15 @@ import com.dev.core.api.ControllerHelper;
 import com.dev.core.model.task.TaskAttachmentDTO;
 import com.dev.core.service.task.TaskAutomationService;
 import com.dev.core.service.task.TaskAttachmentService;
+import com.dev.core.service.file.FileDownloadWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -19,6 +23,7 @@ public class TaskAttachmentController {
     private final TaskAttachmentService attachmentService;
     private final TaskAutomationService automationService;
     private final ControllerHelper helper;
+    private final FileDownloadWriter downloadWriter;
 
     @PostMapping
     public ResponseEntity<?> upload(@PathVariable Long taskId,
@@ -43,20 +48,18 @@ public class TaskAttachmentController {
     }
     
     @GetMapping("/{attachmentId}/download")
-    public ResponseEntity<byte[]> downloadAttachment(
+    public void downloadAttachment(
             @PathVariable Long taskId,
-            @PathVariable Long attachmentId) {
+            @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
         // Fetch metadata
         TaskAttachmentDTO dto = attachmentService.getAttachmentById(attachmentId);
 
-        // Load file bytes
-        byte[] fileBytes = attachmentService.loadDocument(attachmentId);
-
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "inline; filename=\"" + dto.getFileName() + "\"")
-                .header("Content-Type", dto.getContentType())  // pdf/image/doc/excel
-                .body(fileBytes);
+        // Stream the file (supports Range / If-None-Match)
+        downloadWriter.write(attachmentService.getDocumentPath(attachmentId),
+                dto.getFileName(), dto.getContentType(), true, request, response);  // pdf/image/doc/excel
     }
 
 }
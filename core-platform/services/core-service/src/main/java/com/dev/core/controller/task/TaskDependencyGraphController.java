@@ -0,0 +1,39 @@
+package com.dev.core.controller.task;
+
+import com.dev.core.api.ControllerHelper;
+import com.dev.core.service.task.TaskDependencyGraph;
+import com.dev.core.service.task.TaskDependencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/task-dependencies")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDependencyGraphController {
+
+	private final TaskDependencyService dependencyService;
+	private final ControllerHelper helper;
+
+	// --------------------------------------------------------------
+	// TOPOLOGICAL ORDER, CRITICAL PATH AND SLACK
+	// --------------------------------------------------------------
+	@GetMapping("/analysis")
+	public ResponseEntity<?> analyze(@PathVariable Long projectId) {
+		TaskDependencyGraph.Analysis analysis = dependencyService.analyzeProject(projectId);
+		return helper.success("Dependency analysis complete", analysis);
+	}
+
+	// --------------------------------------------------------------
+	// BLOCKED TASKS (open tasks waiting on unfinished prerequisites)
+	// --------------------------------------------------------------
+	@GetMapping("/blocked")
+	public ResponseEntity<?> getBlockedTasks(@PathVariable Long projectId) {
+		List<TaskDependencyGraph.BlockedTask> blocked = dependencyService.getBlockedTasks(projectId);
+		return helper.success("Blocked tasks fetched successfully", blocked);
+	}
+}
@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "announcements")
+@Table(name = "announcements", indexes = {
+    @Index(columnList = "organization_id, active, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
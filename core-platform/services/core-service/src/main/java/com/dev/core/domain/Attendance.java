@@ -9,6 +9,8 @@ import java.time.LocalTime;
 @Entity
 @Table(name = "attendance", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"employee_id", "attendance_date"})
+}, indexes = {
+    @Index(columnList = "organization_id, attendance_date, status")
 })
 @Getter
 @Setter
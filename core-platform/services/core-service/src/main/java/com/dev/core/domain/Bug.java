@@ -14,7 +14,8 @@ import java.util.Set;
         @Index(columnList = "project_id"),
         @Index(columnList = "task_id"),
         @Index(columnList = "status"),
-        @Index(columnList = "severity")
+        @Index(columnList = "severity"),
+        @Index(columnList = "status, due_date, id")
 })
 @Getter
 @Setter
@@ -0,0 +1,37 @@
+package com.dev.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Closure table of the reporting line: one row for every (manager, report) pair at
+ * any distance, {@code depth} 1 being a direct report. An employee has no row for
+ * itself. Maintained alongside {@link Employee#getManager()} so "everyone under X"
+ * is a single indexed lookup instead of a walk down the manager pointers.
+ */
+@Entity
+@Table(name = "employee_hierarchy", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_employee_hierarchy_pair", columnNames = {"ancestor_id", "descendant_id"})
+}, indexes = {
+        @Index(name = "idx_employee_hierarchy_descendant", columnList = "descendant_id, depth")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeHierarchy extends BaseEntity {
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -5,7 +5,12 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "employment_history")
+@Table(name = "employment_history", indexes = {
+        @Index(name = "idx_employment_history_employee", columnList = "employee_id"),
+        // Covers the organization's promotion/resignation counts without touching the rows
+        @Index(name = "idx_employment_history_org_designation",
+               columnList = "organization_id, new_designation, previous_designation")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,30 @@
+package com.dev.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One stored file body in the content-addressed blob store, shared by every
+ * attachment, document and project file whose upload had the same SHA-256.
+ * {@code refCount} is the number of records pointing at it.
+ */
+@Entity
+@Table(name = "file_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FileBlob extends BaseEntity {
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+}
@@ -0,0 +1,47 @@
+package com.dev.core.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Joins, promotions and resignations counted per organization, department and
+ * calendar month. Rows are bumped by atomic increments as the events happen, so
+ * HR trend charts read a few rows instead of scanning employment history.
+ *
+ * Employees without a department are counted under {@link #NO_DEPARTMENT}.
+ */
+@Entity
+@Table(name = "hr_monthly_metrics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hr_monthly_metrics_bucket",
+                columnNames = {"organization_id", "year", "month", "department_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class HrMonthlyMetric extends BaseEntity {
+
+    public static final long NO_DEPARTMENT = 0L;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private Integer joins = 0;
+
+    @Column(nullable = false)
+    private Integer promotions = 0;
+
+    @Column(nullable = false)
+    private Integer resignations = 0;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDate;
            @Index(columnList = "employee_id"),
            @Index(columnList = "organization_id"),
            @Index(columnList = "effective_date"),
-           @Index(columnList = "status")
+           @Index(columnList = "status"),
+           @Index(columnList = "organization_id, year, month")
        })
 @Getter
 @Setter
@@ -0,0 +1,51 @@
+package com.dev.core.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary of one bulk payroll operation (generation, bulk approval, bulk payment)
+ */
+@Entity
+@Table(name = "payroll_runs",
+       indexes = {
+           @Index(columnList = "organization_id, started_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRun extends BaseEntity {
+
+    @Column(name = "operation", nullable = false, length = 20)
+    private String operation; // GENERATE, BULK_APPROVE, BULK_PAY
+
+    @Column(name = "month")
+    private Integer month;
+
+    @Column(name = "year")
+    private Integer year;
+
+    @Column(name = "requested", nullable = false)
+    private Integer requested;
+
+    @Column(name = "processed", nullable = false)
+    private Integer processed;
+
+    @Column(name = "skipped", nullable = false)
+    private Integer skipped;
+
+    @Column(name = "action_by")
+    private Long actionBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+}
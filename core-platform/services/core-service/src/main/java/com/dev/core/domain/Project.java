@@ -113,7 +113,8 @@ import lombok.Setter;
         @Index(columnList = "organization_id"),
         @Index(columnList = "client_id"),
         @Index(columnList = "status"),
-        @Index(columnList = "project_type")
+        @Index(columnList = "project_type"),
+        @Index(columnList = "status, end_date, id")
 })
 @Getter
 @Setter
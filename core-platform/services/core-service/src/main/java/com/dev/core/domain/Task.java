@@ -31,7 +31,8 @@ import lombok.Setter;
            @Index(columnList = "project_id"),
            @Index(columnList = "organization_id"),
            @Index(columnList = "status"),
-           @Index(columnList = "priority")
+           @Index(columnList = "priority"),
+           @Index(columnList = "parent_task_id, status")
        })
 @Getter
 @Setter
@@ -8,7 +8,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "task_dependencies",
-       uniqueConstraints = {@UniqueConstraint(columnNames = {"task_id", "depends_on_task_id"})})
+       uniqueConstraints = {@UniqueConstraint(columnNames = {"task_id", "depends_on_task_id"})},
+       indexes = {@Index(columnList = "depends_on_task_id")})
 @Getter
 @Setter
 @NoArgsConstructor
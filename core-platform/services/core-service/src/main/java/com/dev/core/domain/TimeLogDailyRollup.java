@@ -0,0 +1,46 @@
+package com.dev.core.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated time per organization × user × project × work day, maintained
+ * incrementally from {@link TimeLog} changes for the organization dashboards.
+ *
+ * One row per key, enforced by {@code uk_time_log_rollup_key}; writers upsert against
+ * it so two first writes for the same day cannot race into duplicate rows.
+ */
+@Entity
+@Table(name = "time_log_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_time_log_rollup_key",
+                columnNames = {"organization_id", "user_id", "project_id", "work_date"})
+}, indexes = {
+        @Index(columnList = "organization_id, work_date"),
+        @Index(columnList = "user_id, work_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TimeLogDailyRollup extends BaseEntity {
+
+    /** {@link #projectId} for time logged against neither a task nor a bug (NULLs never collide in a unique key) */
+    public static final long NO_PROJECT = 0L;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** {@link #NO_PROJECT} for time logged against neither a task nor a bug */
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+}
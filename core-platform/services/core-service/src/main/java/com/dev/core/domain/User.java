@@ -57,6 +57,13 @@ public class User extends BaseEntity {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
+    /**
+     * Bumped whenever password, roles or status change. Access tokens embed the
+     * value they were issued with and are rejected once it no longer matches.
+     */
+    @Column(name = "token_version")
+    private Long tokenVersion = 0L;
+
 
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
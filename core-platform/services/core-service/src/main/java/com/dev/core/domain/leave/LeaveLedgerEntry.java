@@ -0,0 +1,67 @@
+package com.dev.core.domain.leave;
+
+import java.time.LocalDateTime;
+
+import com.dev.core.constants.LeaveLedgerEntryType;
+import com.dev.core.domain.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One credit (positive {@code days}) or debit (negative) against an employee's
+ * leave of one type and year. Entries are only ever inserted; {@link LeaveBalance}
+ * is the running snapshot, moved by atomic increments in the same transaction.
+ *
+ * {@code period} identifies the accrual month for {@code ACCRUAL} entries so a
+ * re-run of the job credits nobody twice; {@code uk_leave_ledger_accrual} makes a
+ * second entry for the same month fail even when two runs race past the NOT EXISTS
+ * checks. Other entry types leave {@code period} null and are never constrained.
+ */
+@Entity
+@Table(name = "leave_ledger_entries", indexes = {
+        @Index(name = "idx_leave_ledger_balance", columnList = "employee_id, leave_type_id, year"),
+        @Index(name = "idx_leave_ledger_type_period", columnList = "leave_type_id, year, entry_type, period")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leave_ledger_accrual",
+                columnNames = {"employee_id", "leave_type_id", "year", "entry_type", "period"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class LeaveLedgerEntry extends BaseEntity {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "leave_type_id", nullable = false)
+    private Long leaveTypeId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LeaveLedgerEntryType entryType;
+
+    @Column(nullable = false)
+    private Integer days;
+
+    /** Accrual month (1-12); null for other entry types */
+    @Column(name = "period")
+    private Integer period;
+
+    @Column(name = "leave_request_id")
+    private Long leaveRequestId;
+
+    @Column(name = "posted_at", nullable = false)
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,50 @@
+package com.dev.core.domain.performance;
+
+import java.time.LocalDateTime;
+
+import com.dev.core.domain.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Materialized request and rating totals for one performance cycle, so the cycle
+ * dashboard reads a single row. Rebuilt from the requests and reviews whenever
+ * requests are generated, and moved by atomic increments on each submitted review.
+ */
+@Entity
+@Table(name = "performance_cycle_summaries", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"cycle_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PerformanceCycleSummary extends BaseEntity {
+
+    @Column(name = "cycle_id", nullable = false)
+    private Long cycleId;
+
+    @Column(name = "total_requests", nullable = false)
+    private Long totalRequests = 0L;
+
+    @Column(name = "pending_requests", nullable = false)
+    private Long pendingRequests = 0L;
+
+    @Column(name = "completed_reviews", nullable = false)
+    private Long completedReviews = 0L;
+
+    @Column(name = "rating_total", nullable = false)
+    private Long ratingTotal = 0L;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    public double getAverageRating() {
+        return completedReviews > 0 ? (double) ratingTotal / completedReviews : 0.0;
+    }
+}
@@ -24,7 +24,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "performance_review_requests",
-       indexes = {@Index(columnList = "cycle_id"), @Index(columnList = "reviewer_id"), @Index(columnList = "employee_id")})
+       indexes = {@Index(columnList = "cycle_id, employee_id, reviewer_id"), @Index(columnList = "reviewer_id"), @Index(columnList = "employee_id")})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class PerformanceReviewRequest extends BaseEntity {
 
@@ -0,0 +1,22 @@
+package com.dev.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Payroll count and salary sums for one department within a payroll summary
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollDepartmentSummaryDTO {
+    private Long departmentId;
+    private String departmentName;
+    private Long payrolls;
+    private BigDecimal grossSalary;
+    private BigDecimal totalDeductions;
+    private BigDecimal netSalary;
+}
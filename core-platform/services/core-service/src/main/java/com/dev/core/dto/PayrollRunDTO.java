@@ -0,0 +1,27 @@
+package com.dev.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the summary of a bulk payroll operation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunDTO {
+    private Long id;
+    private Long organizationId;
+    private String operation;
+    private Integer month;
+    private Integer year;
+    private Integer requested;
+    private Integer processed;
+    private Integer skipped;
+    private Long actionBy;
+    private LocalDateTime startedAt;
+    private Long durationMs;
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * DTO for payroll summary and statistics
@@ -22,4 +23,5 @@ public class PayrollSummaryDTO {
     private Long paidPayrolls;
     private Integer month;
     private Integer year;
+    private List<PayrollDepartmentSummaryDTO> departments;
 }
@@ -1,7 +1,5 @@
 package com.dev.core.email;
 
-import com.dev.core.domain.email.EmailTemplate;
-import com.dev.core.repository.EmailTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,16 +13,21 @@ import org.thymeleaf.templatemode.TemplateMode;
 
 import java.util.Map;
 
+/**
+ * Resolves email templates from the database. Template names are the versioned keys
+ * produced by {@link EmailTemplateCache}, so parsed templates are cached by the engine
+ * until a new version is saved.
+ */
 @Slf4j
 @Component
 public class DatabaseTemplateResolver extends StringTemplateResolver {
     @Autowired
-    private EmailTemplateRepository templateRepo;
+    private EmailTemplateCache templateCache;
 
     public DatabaseTemplateResolver() {
 		super();
         super.setTemplateMode(TemplateMode.HTML); 
-        super.setCacheable(false);
+        super.setCacheable(true);
         super.setOrder(1);
     }
 
@@ -35,14 +38,13 @@ public class DatabaseTemplateResolver extends StringTemplateResolver {
             String templateName,
             Map<String, Object> templateResolutionAttributes) {
 
-        EmailTemplate emailTemplate = templateRepo.findByCodeAndActiveTrue(templateName)
-                .orElse(null);
+        String templateHtml = templateCache.templateHtml(templateName);
 
-        if (emailTemplate == null) {
+        if (templateHtml == null) {
             log.error("❌ DB Email template not found: {}", templateName);
             return null;
         }
 
-        return new StringTemplateResource(emailTemplate.getTemplateHtml());
+        return new StringTemplateResource(templateHtml);
     }
 }
@@ -0,0 +1,132 @@
+package com.dev.core.email;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dev.core.domain.email.EmailTemplate;
+import com.dev.core.domain.email.EmailTemplateVersion;
+import com.dev.core.repository.EmailTemplateRepository;
+import com.dev.core.repository.EmailTemplateVersionRepository;
+import com.dev.core.util.TransactionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Active email templates by code, each tagged with the organization and the
+ * {@code EmailTemplateVersion} it was saved as.
+ *
+ * {@link #cacheKey(String)} turns a template code into the name rendered by the
+ * Thymeleaf engine ({@code code@org:version}), so the engine's parsed-template
+ * cache holds one entry per version: a new version simply produces a new key and
+ * the old parse ages out. {@link #templateHtml(String)} answers each key with that
+ * version's HTML. Local saves evict after commit; the TTL bounds how long another
+ * instance's edit goes unnoticed.
+ */
+@Component
+@Slf4j
+public class EmailTemplateCache {
+
+    private static final char KEY_SEPARATOR = '@';
+
+    private final EmailTemplateRepository templateRepo;
+    private final EmailTemplateVersionRepository versionRepo;
+    private final long ttlMs;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public EmailTemplateCache(EmailTemplateRepository templateRepo,
+                              EmailTemplateVersionRepository versionRepo,
+                              @Value("${notification.template-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.templateRepo = templateRepo;
+        this.versionRepo = versionRepo;
+        this.ttlMs = ttlSeconds * 1000;
+    }
+
+    /**
+     * Versioned engine template name for the active template with this code, or
+     * the code itself when there is no such template (the resolver reports it).
+     */
+    public String cacheKey(String code) {
+        Entry entry = lookup(code);
+        return entry == null ? code : entry.key();
+    }
+
+    /**
+     * HTML of exactly the version named by a key from {@link #cacheKey(String)}, or
+     * of the active template for a bare code. The engine caches what this returns
+     * under the requested name, so a key issued before a new version was cached must
+     * not be answered with the new HTML.
+     */
+    public String templateHtml(String templateName) {
+        int separator = templateName.lastIndexOf(KEY_SEPARATOR);
+        String code = separator < 0 ? templateName : templateName.substring(0, separator);
+        Entry entry = lookup(code);
+        if (separator < 0 || (entry != null && entry.key().equals(templateName))) {
+            return entry == null ? null : entry.html();
+        }
+
+        long version = versionOf(templateName, separator);
+        if (version <= 0) {
+            // Unversioned templates have only their current HTML
+            return entry == null ? null : entry.html();
+        }
+        log.debug("Email template {} is not the cached version; loading it", templateName);
+        return versionRepo.findById(version)
+                .map(EmailTemplateVersion::getTemplateHtml)
+                .orElse(null);
+    }
+
+    /**
+     * Drops the cached template once the current transaction commits.
+     */
+    public void evict(String code) {
+        if (code != null) {
+            TransactionUtils.afterCommit(() -> entries.remove(code));
+        }
+    }
+
+    private Entry lookup(String code) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(code);
+        if (entry != null && now - entry.loadedAt() <= ttlMs) {
+            return entry;
+        }
+
+        EmailTemplate template = templateRepo.findByCodeAndActiveTrue(code).orElse(null);
+        if (template == null) {
+            entries.remove(code);
+            return null;
+        }
+
+        // Templates seeded without a version row render as version 0
+        long version = versionRepo.findTopByTemplateIdOrderByIdDesc(template.getId())
+                .map(EmailTemplateVersion::getId)
+                .orElse(0L);
+
+        String key = code + KEY_SEPARATOR + template.getOrganizationId() + ":" + version;
+        if (entry == null || !entry.key().equals(key)) {
+            log.debug("Email template {} loaded as {}", code, key);
+        }
+        entry = new Entry(key, template.getTemplateHtml(), now);
+        entries.put(code, entry);
+        return entry;
+    }
+
+    /** The version id at the end of {@code code@org:version}, or -1 when the name has none */
+    private static long versionOf(String templateName, int separator) {
+        int colon = templateName.lastIndexOf(':');
+        if (colon < separator) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(templateName.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Entry(String key, String html, long loadedAt) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.dev.core.mapper;
 
 import com.dev.core.domain.EmploymentHistory;
+import com.dev.core.model.DepartmentMonthlyMetricsDTO;
 import com.dev.core.model.EmploymentHistoryDTO;
+import com.dev.core.repository.projection.DepartmentMonthlyMetrics;
 
 public final class EmploymentHistoryMapper {
 
@@ -36,4 +38,17 @@ public final class EmploymentHistoryMapper {
                 .employee(EmployeeMapper.toDTO(entity.getEmployee()))
                 .build();
     }
+
+    public static DepartmentMonthlyMetricsDTO toDTO(DepartmentMonthlyMetrics metrics) {
+        if (metrics == null) return null;
+        return DepartmentMonthlyMetricsDTO.builder()
+                .year(metrics.year())
+                .month(metrics.month())
+                .departmentId(metrics.departmentId())
+                .departmentName(metrics.departmentName())
+                .joins(metrics.joins())
+                .promotions(metrics.promotions())
+                .resignations(metrics.resignations())
+                .build();
+    }
 }
@@ -2,6 +2,8 @@ package com.dev.core.mapper;
 
 import com.dev.core.domain.Payroll;
 import com.dev.core.dto.PayrollDTO;
+import com.dev.core.dto.PayrollDepartmentSummaryDTO;
+import com.dev.core.repository.projection.PayrollDepartmentTotals;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -93,6 +95,19 @@ public class PayrollMapper {
                 .collect(Collectors.toList());
     }
 
+    public PayrollDepartmentSummaryDTO toDepartmentSummaryDTO(PayrollDepartmentTotals totals) {
+        if (totals == null) {
+            return null;
+        }
+        return new PayrollDepartmentSummaryDTO(
+                totals.departmentId(),
+                totals.departmentName(),
+                totals.payrolls(),
+                totals.grossSalary(),
+                totals.totalDeductions(),
+                totals.netSalary());
+    }
+
     public Payroll toEntity(PayrollDTO dto) {
         if (dto == null) {
             return null;
@@ -0,0 +1,16 @@
+package com.dev.core.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DepartmentMonthlyMetricsDTO {
+    private Integer year;
+    private Integer month;
+    private Long departmentId;
+    private String departmentName;
+    private Integer joins;
+    private Integer promotions;
+    private Integer resignations;
+}
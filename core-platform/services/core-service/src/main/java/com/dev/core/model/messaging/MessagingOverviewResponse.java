@@ -0,0 +1,33 @@
+package com.dev.core.model.messaging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk messaging view: channels, unread counts and recent messages in one response
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagingOverviewResponse {
+    
+    private List<ChannelDTO> channels;
+    
+    /**
+     * Unread message count for the current user, keyed by channel ID
+     */
+    private Map<Long, Integer> unreadCounts;
+    
+    private Integer totalUnread;
+    
+    /**
+     * Latest messages for the channels requested via channelIds, keyed by channel ID
+     */
+    private Map<Long, MessagesResponse> recentMessages;
+}
@@ -1,6 +1,7 @@
 package com.dev.core.repository;
 
 import com.dev.core.domain.Announcement;
+import com.dev.core.repository.projection.StatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -47,4 +48,8 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
     Long countByOrganizationIdAndActiveTrue(Long organizationId);
 
     Long countByOrganizationIdAndActiveTrueAndStatus(Long organizationId, String status);
+
+    @Query("SELECT new com.dev.core.repository.projection.StatusCount(a.status, COUNT(a)) " +
+           "FROM Announcement a WHERE a.organizationId = :orgId AND a.active = true GROUP BY a.status")
+    List<StatusCount> countActiveByStatus(@Param("orgId") Long organizationId);
 }
@@ -1,6 +1,8 @@
 package com.dev.core.repository;
 
 import com.dev.core.domain.Attendance;
+import com.dev.core.repository.projection.AttendanceTotals;
+import com.dev.core.repository.projection.DepartmentStatusCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +29,8 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long>, J
 
     List<Attendance> findByEmployeeIdAndAttendanceDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
 
+    List<Attendance> findByEmployeeIdInAndAttendanceDate(Collection<Long> employeeIds, LocalDate date);
+
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.organizationId = :orgId AND a.attendanceDate = :date AND a.status = :status")
     Long countByOrganizationIdAndDateAndStatus(@Param("orgId") Long organizationId, 
                                                 @Param("date") LocalDate date, 
@@ -38,4 +43,31 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long>, J
     Double getAverageWorkHours(@Param("orgId") Long organizationId, 
                                @Param("startDate") LocalDate startDate, 
                                @Param("endDate") LocalDate endDate);
+
+    // Reporting
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.DepartmentStatusCount(d.id, d.name, a.status, COUNT(a))
+        FROM Attendance a
+        LEFT JOIN a.employee e
+        LEFT JOIN e.department d
+        WHERE a.organizationId = :orgId AND a.attendanceDate = :date
+        GROUP BY d.id, d.name, a.status
+        ORDER BY d.name
+    """)
+    List<DepartmentStatusCount> countByDepartmentAndStatus(@Param("orgId") Long organizationId, @Param("date") LocalDate date);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.AttendanceTotals(
+                   COALESCE(SUM(CASE WHEN a.status = 'Present' OR a.status = 'Late' THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN a.status = 'Absent' THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(CASE WHEN a.isLate = true THEN 1 ELSE 0 END), 0),
+                   COALESCE(SUM(a.workHours), 0.0))
+        FROM Attendance a
+        WHERE a.employee.id = :employeeId
+          AND a.attendanceDate BETWEEN :startDate AND :endDate
+    """)
+    AttendanceTotals sumForEmployee(@Param("employeeId") Long employeeId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,43 @@
+package com.dev.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.core.domain.email.EmailOutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    /** Due pending messages, row-locked with SKIP LOCKED so concurrent dispatchers never claim the same row */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m " +
+           "WHERE m.status = com.dev.core.domain.email.EmailOutboxMessage.Status.PENDING " +
+           "AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<EmailOutboxMessage> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** Returns messages stuck in SENDING (dispatcher died mid-batch) to the queue */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.dev.core.domain.email.EmailOutboxMessage.Status.PENDING, " +
+           "m.claimedAt = null WHERE m.status = com.dev.core.domain.email.EmailOutboxMessage.Status.SENDING " +
+           "AND m.claimedAt < :cutoff")
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.dev.core.domain.email.EmailOutboxMessage.Status.PENDING, " +
+           "m.claimedAt = null WHERE m.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(EmailOutboxMessage.Status status);
+}
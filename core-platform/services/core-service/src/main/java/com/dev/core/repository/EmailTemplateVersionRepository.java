@@ -1,6 +1,7 @@
 package com.dev.core.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -9,4 +10,6 @@ import com.dev.core.domain.email.EmailTemplateVersion;
 public interface EmailTemplateVersionRepository extends JpaRepository<EmailTemplateVersion, Long> {
 
     List<EmailTemplateVersion> findByTemplateIdOrderByCreatedAtDesc(Long templateId);
+
+    Optional<EmailTemplateVersion> findTopByTemplateIdOrderByIdDesc(Long templateId);
 }
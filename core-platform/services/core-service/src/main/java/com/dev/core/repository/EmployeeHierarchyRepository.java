@@ -0,0 +1,118 @@
+package com.dev.core.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.dev.core.domain.EmployeeHierarchy;
+
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, Long> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    @Query("SELECT h.ancestorId FROM EmployeeHierarchy h WHERE h.descendantId = :employeeId")
+    List<Long> findAncestorIds(Long employeeId);
+
+    @Query("SELECT h.descendantId FROM EmployeeHierarchy h WHERE h.ancestorId = :employeeId")
+    List<Long> findDescendantIds(Long employeeId);
+
+    /**
+     * Every report under the manager, within the manager's organization, with the
+     * report's login user id (null when it has none)
+     */
+    @Query("""
+        SELECT e.id AS employeeId, u.id AS userId
+        FROM EmployeeHierarchy h
+        JOIN Employee e ON e.id = h.descendantId
+        JOIN Employee m ON m.id = h.ancestorId
+        LEFT JOIN e.user u
+        WHERE h.ancestorId = :managerId
+          AND e.organizationId = m.organizationId
+        ORDER BY h.depth, e.id
+    """)
+    List<Map<String, Object>> findSubordinates(Long managerId);
+
+    // --- maintenance: linking a subtree rooted at :employeeId under :managerId ---
+
+    /** The manager and each of the manager's ancestors above the employee */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO EmployeeHierarchy (organizationId, ancestorId, descendantId, depth, active)
+        SELECT :organizationId, a.ancestorId, :employeeId, a.depth + 1, true
+        FROM EmployeeHierarchy a
+        WHERE a.descendantId = :managerId
+    """)
+    int linkAncestorsToEmployee(Long organizationId, Long managerId, Long employeeId);
+
+    /** The manager above every existing report of the employee */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO EmployeeHierarchy (organizationId, ancestorId, descendantId, depth, active)
+        SELECT :organizationId, :managerId, s.descendantId, s.depth + 1, true
+        FROM EmployeeHierarchy s
+        WHERE s.ancestorId = :employeeId
+    """)
+    int linkManagerToSubtree(Long organizationId, Long managerId, Long employeeId);
+
+    /** The manager's ancestors above every existing report of the employee */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO EmployeeHierarchy (organizationId, ancestorId, descendantId, depth, active)
+        SELECT :organizationId, a.ancestorId, s.descendantId, a.depth + s.depth + 1, true
+        FROM EmployeeHierarchy a, EmployeeHierarchy s
+        WHERE a.descendantId = :managerId
+          AND s.ancestorId = :employeeId
+    """)
+    int linkAncestorsToSubtree(Long organizationId, Long managerId, Long employeeId);
+
+    /** Cuts the given ancestors off from the given employees (a subtree being moved or removed) */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EmployeeHierarchy h WHERE h.ancestorId IN :ancestorIds AND h.descendantId IN :descendantIds")
+    int unlink(Collection<Long> ancestorIds, Collection<Long> descendantIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EmployeeHierarchy h WHERE h.ancestorId = :employeeId")
+    int deleteByAncestorId(Long employeeId);
+
+    // --- one-off backfill from Employee.manager ---
+
+    @Modifying
+    @Query("""
+        INSERT INTO EmployeeHierarchy (organizationId, ancestorId, descendantId, depth, active)
+        SELECT e.organizationId, e.manager.id, e.id, 1, true
+        FROM Employee e
+        WHERE e.manager IS NOT NULL
+          AND e.manager.id <> e.id
+          AND NOT EXISTS (
+              SELECT 1 FROM EmployeeHierarchy x
+              WHERE x.ancestorId = e.manager.id
+                AND x.descendantId = e.id)
+    """)
+    int seedDirectReports();
+
+    /**
+     * Extends every path of length {@code depth} by one level down the manager
+     * pointers, skipping pairs that already have a (shorter) path, which only happens
+     * when the manager pointers loop
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO EmployeeHierarchy (organizationId, ancestorId, descendantId, depth, active)
+        SELECT e.organizationId, h.ancestorId, e.id, h.depth + 1, true
+        FROM EmployeeHierarchy h, Employee e
+        WHERE e.manager.id = h.descendantId
+          AND h.depth = :depth
+          AND e.id <> h.ancestorId
+          AND NOT EXISTS (
+              SELECT 1 FROM EmployeeHierarchy x
+              WHERE x.ancestorId = h.ancestorId
+                AND x.descendantId = e.id)
+    """)
+    int seedNextLevel(Integer depth);
+}
@@ -42,4 +42,6 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
      */
     List<Employee> findByManager_IdAndOrganizationId(Long managerId, Long organizationId);
 
+    boolean existsByManagerIsNotNull();
+
 }
@@ -3,6 +3,7 @@ package com.dev.core.repository;
 import com.dev.core.domain.EmploymentHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +12,21 @@ import java.util.List;
 public interface EmploymentHistoryRepository extends JpaRepository<EmploymentHistory, Long>, JpaSpecificationExecutor<EmploymentHistory> {
 
     List<EmploymentHistory> findByEmployee_Id(Long employeeId);
+
+    /** Records whose designation changed (case-insensitive), resignations included */
+    @Query("""
+        SELECT COUNT(h) FROM EmploymentHistory h
+        WHERE h.organizationId = :organizationId
+          AND h.newDesignation IS NOT NULL
+          AND h.previousDesignation IS NOT NULL
+          AND LOWER(h.newDesignation) <> LOWER(h.previousDesignation)
+    """)
+    long countPromotions(Long organizationId);
+
+    @Query("""
+        SELECT COUNT(h) FROM EmploymentHistory h
+        WHERE h.organizationId = :organizationId
+          AND UPPER(h.newDesignation) = 'RESIGNED'
+    """)
+    long countResignations(Long organizationId);
 }
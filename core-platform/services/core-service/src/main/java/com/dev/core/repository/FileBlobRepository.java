@@ -0,0 +1,23 @@
+package com.dev.core.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dev.core.domain.FileBlob;
+
+import jakarta.persistence.LockModeType;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    /**
+     * The blob row, locked (SELECT ... FOR UPDATE) until the transaction ends, so every
+     * instance serializes reference changes and body writes/deletes for one hash.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.contentHash = :hash")
+    Optional<FileBlob> findByContentHashForUpdate(@Param("hash") String hash);
+}
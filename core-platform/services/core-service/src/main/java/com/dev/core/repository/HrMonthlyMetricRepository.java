@@ -0,0 +1,43 @@
+package com.dev.core.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.dev.core.domain.HrMonthlyMetric;
+import com.dev.core.repository.projection.DepartmentMonthlyMetrics;
+
+@Repository
+public interface HrMonthlyMetricRepository extends JpaRepository<HrMonthlyMetric, Long> {
+
+    /**
+     * Creates the bucket with the given deltas or adds them to it, atomically against
+     * uk_hr_monthly_metrics_bucket. A single statement, so there is no gap between a
+     * missed update and the insert for a concurrent writer to lock.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO HrMonthlyMetric (organizationId, year, month, departmentId, joins, promotions, resignations, active)
+        VALUES (:organizationId, :year, :month, :departmentId, :joins, :promotions, :resignations, true)
+        ON CONFLICT (organizationId, year, month, departmentId) DO UPDATE
+        SET joins = joins + excluded.joins,
+            promotions = promotions + excluded.promotions,
+            resignations = resignations + excluded.resignations
+    """)
+    int increment(Long organizationId, Integer year, Integer month, Long departmentId,
+                  Integer joins, Integer promotions, Integer resignations);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.DepartmentMonthlyMetrics(
+                   m.year, m.month, d.id, d.name, m.joins, m.promotions, m.resignations)
+        FROM HrMonthlyMetric m
+        LEFT JOIN Department d ON d.id = m.departmentId
+        WHERE m.organizationId = :organizationId
+          AND m.year = :year
+        ORDER BY m.month, d.name
+    """)
+    List<DepartmentMonthlyMetrics> findByOrganizationAndYear(Long organizationId, Integer year);
+}
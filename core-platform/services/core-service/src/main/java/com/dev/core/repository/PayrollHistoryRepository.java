@@ -2,8 +2,12 @@ package com.dev.core.repository;
 
 import com.dev.core.domain.PayrollHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -14,4 +18,39 @@ public interface PayrollHistoryRepository extends JpaRepository<PayrollHistory,
     List<PayrollHistory> findByEmployeeIdOrderByActionDateDesc(Long employeeId);
 
     List<PayrollHistory> findByOrganizationIdOrderByActionDateDesc(Long organizationId);
+
+    // Bulk operations: one INSERT ... SELECT per chunk of payroll ids
+
+    /** History of newly created payrolls: no previous status, new status as stored */
+    @Modifying
+    @Query("""
+        INSERT INTO PayrollHistory (organizationId, payrollId, employee, action, actionBy, actionDate,
+                                    newStatus, newNetSalary, remarks, active)
+        SELECT p.organizationId, p.id, p.employee, :action, :actionBy, :actionDate,
+               p.status, p.netSalary, :remarks, true
+        FROM Payroll p
+        WHERE p.id IN :payrollIds
+    """)
+    int recordCreated(@Param("payrollIds") List<Long> payrollIds,
+                      @Param("action") String action,
+                      @Param("actionBy") Long actionBy,
+                      @Param("actionDate") LocalDate actionDate,
+                      @Param("remarks") String remarks);
+
+    /** Status change about to be applied; run before the UPDATE so the current status is the previous one */
+    @Modifying
+    @Query("""
+        INSERT INTO PayrollHistory (organizationId, payrollId, employee, action, actionBy, actionDate,
+                                    previousStatus, newStatus, newNetSalary, remarks, active)
+        SELECT p.organizationId, p.id, p.employee, :action, :actionBy, :actionDate,
+               p.status, :newStatus, p.netSalary, :remarks, true
+        FROM Payroll p
+        WHERE p.id IN :payrollIds
+    """)
+    int recordTransition(@Param("payrollIds") List<Long> payrollIds,
+                         @Param("action") String action,
+                         @Param("newStatus") String newStatus,
+                         @Param("actionBy") Long actionBy,
+                         @Param("actionDate") LocalDate actionDate,
+                         @Param("remarks") String remarks);
 }
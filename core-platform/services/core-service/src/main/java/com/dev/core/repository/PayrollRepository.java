@@ -1,7 +1,11 @@
 package com.dev.core.repository;
 
+import com.dev.core.constants.EmployeeStatus;
 import com.dev.core.domain.Payroll;
+import com.dev.core.repository.projection.PayrollDepartmentTotals;
+import com.dev.core.repository.projection.PayrollStatusTotals;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,4 +48,94 @@ public interface PayrollRepository extends JpaRepository<Payroll, Long> {
            "AND p.status IN :statuses AND p.isActive = true")
     List<Payroll> findByOrganizationAndStatuses(@Param("organizationId") Long organizationId,
                                                   @Param("statuses") List<String> statuses);
+
+    // Reporting
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.PayrollStatusTotals(
+                   p.status, COUNT(p),
+                   COALESCE(SUM(p.grossSalary), 0), COALESCE(SUM(p.totalDeductions), 0), COALESCE(SUM(p.netSalary), 0))
+        FROM Payroll p
+        WHERE p.organizationId = :organizationId
+          AND p.month = :month AND p.year = :year AND p.isActive = true
+        GROUP BY p.status
+    """)
+    List<PayrollStatusTotals> sumByStatus(@Param("organizationId") Long organizationId,
+                                          @Param("month") Integer month,
+                                          @Param("year") Integer year);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.PayrollDepartmentTotals(
+                   d.id, d.name, COUNT(p),
+                   COALESCE(SUM(p.grossSalary), 0), COALESCE(SUM(p.totalDeductions), 0), COALESCE(SUM(p.netSalary), 0))
+        FROM Payroll p
+        JOIN p.employee e
+        LEFT JOIN e.department d
+        WHERE p.organizationId = :organizationId
+          AND p.month = :month AND p.year = :year AND p.isActive = true
+        GROUP BY d.id, d.name
+        ORDER BY d.name
+    """)
+    List<PayrollDepartmentTotals> sumByDepartment(@Param("organizationId") Long organizationId,
+                                                  @Param("month") Integer month,
+                                                  @Param("year") Integer year);
+
+    // Bulk operations
+
+    @Query("SELECT p.id FROM Payroll p WHERE p.organizationId = :organizationId " +
+           "AND p.month = :month AND p.year = :year AND p.isActive = true")
+    List<Long> findIdsByOrganizationAndPeriod(@Param("organizationId") Long organizationId,
+                                              @Param("month") Integer month,
+                                              @Param("year") Integer year);
+
+    @Query("SELECT p FROM Payroll p JOIN FETCH p.employee WHERE p.organizationId = :organizationId " +
+           "AND p.month = :month AND p.year = :year AND p.isActive = true ORDER BY p.id")
+    List<Payroll> findWithEmployeeByOrganizationAndPeriod(@Param("organizationId") Long organizationId,
+                                                          @Param("month") Integer month,
+                                                          @Param("year") Integer year);
+
+    @Query("SELECT p FROM Payroll p JOIN FETCH p.employee WHERE p.id IN :ids ORDER BY p.id")
+    List<Payroll> findWithEmployeeByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Creates a DRAFT payroll for every employee with the given status that has no
+     * active payroll for the period yet. Salary components start at zero, matching
+     * what {@link Payroll#calculateNetSalary()} yields for a zero basic salary.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO Payroll (organizationId, employee, month, year, effectiveDate, status, isActive, payPeriod,
+                             basicSalary, grossSalary, totalDeductions, netSalary, workingDays, active)
+        SELECT e.organizationId, e, :month, :year, :effectiveDate, 'DRAFT', true, 'MONTHLY',
+               0, 0, 0, 0, :workingDays, true
+        FROM Employee e
+        WHERE e.organizationId = :organizationId
+          AND e.status = :status
+          AND NOT EXISTS (
+              SELECT 1 FROM Payroll p
+              WHERE p.employee = e AND p.month = :month AND p.year = :year AND p.isActive = true)
+    """)
+    int generateDrafts(@Param("organizationId") Long organizationId,
+                       @Param("status") EmployeeStatus status,
+                       @Param("month") Integer month,
+                       @Param("year") Integer year,
+                       @Param("effectiveDate") LocalDate effectiveDate,
+                       @Param("workingDays") Integer workingDays);
+
+    @Query("SELECT p.id FROM Payroll p WHERE p.id IN :ids AND p.status = :status ORDER BY p.id")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") List<Long> ids, @Param("status") String status);
+
+    @Modifying
+    @Query("UPDATE Payroll p SET p.status = 'APPROVED', p.approvedBy = :approvedBy, p.approvedAt = :approvedAt " +
+           "WHERE p.id IN :ids")
+    int approveAll(@Param("ids") List<Long> ids,
+                   @Param("approvedBy") Long approvedBy,
+                   @Param("approvedAt") LocalDate approvedAt);
+
+    @Modifying
+    @Query("UPDATE Payroll p SET p.status = 'PAID', p.paidBy = :paidBy, p.paidAt = :paidAt " +
+           "WHERE p.id IN :ids AND p.status = 'APPROVED'")
+    int markApprovedAsPaid(@Param("ids") List<Long> ids,
+                           @Param("paidBy") Long paidBy,
+                           @Param("paidAt") LocalDate paidAt);
 }
@@ -0,0 +1,13 @@
+package com.dev.core.repository;
+
+import com.dev.core.domain.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    List<PayrollRun> findTop50ByOrganizationIdOrderByStartedAtDesc(Long organizationId);
+}
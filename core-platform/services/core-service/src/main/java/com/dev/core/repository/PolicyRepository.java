@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.domain.Policy;
@@ -40,5 +41,27 @@ public interface PolicyRepository extends JpaRepository<Policy, Long>, JpaSpecif
     
     long countByRoleId(Long roleId);
 
+    /**
+     * Flat (role, user, resource, action) rows for compiling an organization's
+     * decision table without hydrating Policy entities or their lazy associations.
+     */
+    @Query("""
+        SELECT r.id AS roleId, u.id AS userId, res.code AS resourceCode, a.code AS actionCode
+        FROM Policy p
+        LEFT JOIN p.role r
+        LEFT JOIN p.user u
+        JOIN p.resource res
+        JOIN p.action a
+        WHERE p.organizationId = :organizationId
+    """)
+    List<PolicyGrant> findGrantsByOrganizationId(Long organizationId);
+
+    interface PolicyGrant {
+        Long getRoleId();
+        Long getUserId();
+        String getResourceCode();
+        String getActionCode();
+    }
+
 }
 	
\ No newline at end of file
@@ -8,8 +8,22 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.dev.core.repository.projection.ProjectActivityExportRow;
 
 public interface ProjectActivityRepository extends JpaRepository<ProjectActivity, Long> {
     Page<ProjectActivity> findByProjectIdOrderByCreatedAtDesc(Long projectId, Pageable pageable);
     List<ProjectActivity>  findByProjectIdOrderByCreatedAtDesc(Long projectId);
+
+    /** Next page of a project's activities, newest first, keyed on id (null = first page) */
+    @Query("""
+        SELECT new com.dev.core.repository.projection.ProjectActivityExportRow(
+            a.id, a.createdAt, a.performedBy, a.summary, a.description)
+        FROM ProjectActivity a
+        WHERE a.project.id = :projectId
+          AND (:beforeId IS NULL OR a.id < :beforeId)
+        ORDER BY a.id DESC
+    """)
+    List<ProjectActivityExportRow> findExportPage(Long projectId, Long beforeId, Pageable pageable);
 }
@@ -2,13 +2,17 @@ package com.dev.core.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.constants.ProjectStatus;
@@ -88,4 +92,40 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
 	 */
 	List<Project> findByOrganizationIdAndActiveTrue(Long organizationId);
 
+	/**
+	 * Keyset-paged ids of projects in the given statuses whose end date is in (from, to).
+	 * Served by the (status, end_date, id) index: one range per status value.
+	 */
+	@Query("""
+			    select p.id from Project p
+			    where p.status in :statuses
+			      and p.endDate > :from and p.endDate < :to
+			      and p.id > :afterId
+			    order by p.id
+			""")
+	List<Long> findIdsEndingBetween(@Param("statuses") Collection<ProjectStatus> statuses,
+			@Param("from") LocalDate from,
+			@Param("to") LocalDate to,
+			@Param("afterId") Long afterId,
+			Pageable pageable);
+
+	/**
+	 * Keyset-paged ids of projects in the given statuses whose end date has passed.
+	 */
+	@Query("""
+			    select p.id from Project p
+			    where p.status in :statuses
+			      and p.endDate < :before
+			      and p.id > :afterId
+			    order by p.id
+			""")
+	List<Long> findIdsEndedBefore(@Param("statuses") Collection<ProjectStatus> statuses,
+			@Param("before") LocalDate before,
+			@Param("afterId") Long afterId,
+			Pageable pageable);
+
+	@Modifying
+	@Query("update Project p set p.status = :status where p.id in :ids and p.status <> :status")
+	int updateStatusWhereDifferent(@Param("ids") List<Long> ids, @Param("status") ProjectStatus status);
+
 }
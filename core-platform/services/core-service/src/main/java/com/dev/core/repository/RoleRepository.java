@@ -1,5 +1,6 @@
 package com.dev.core.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.domain.Role;
@@ -21,4 +23,7 @@ public interface RoleRepository extends JpaRepository<Role, Long>, JpaSpecificat
     Page<Role> findAllByOrganizationId(Long organizationId, Pageable pageable);
 
     Page<Role> findByOrganizationIdAndNameContainingIgnoreCase(Long organizationId, String name, Pageable pageable);
+
+    @Query("SELECT r.id FROM Role r WHERE r.organizationId = :organizationId AND r.name IN :names")
+    List<Long> findIdsByOrganizationIdAndNameIn(Long organizationId, Collection<String> names);
 }
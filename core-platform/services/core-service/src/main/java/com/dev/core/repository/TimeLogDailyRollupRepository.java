@@ -0,0 +1,92 @@
+package com.dev.core.repository;
+
+import com.dev.core.domain.TimeLogDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface TimeLogDailyRollupRepository extends JpaRepository<TimeLogDailyRollup, Long> {
+
+    // ---------------------------------------------------------
+    // INCREMENTAL MAINTENANCE
+    // ---------------------------------------------------------
+
+    /** Creates the row for the key or adds to it, atomically against uk_time_log_rollup_key */
+    @Modifying
+    @Query("""
+        INSERT INTO TimeLogDailyRollup (organizationId, userId, projectId, workDate, totalMinutes, entryCount, active)
+        VALUES (:orgId, :userId, :projectId, :day, :minutes, :entries, true)
+        ON CONFLICT (organizationId, userId, projectId, workDate) DO UPDATE
+        SET totalMinutes = totalMinutes + excluded.totalMinutes,
+            entryCount = entryCount + excluded.entryCount
+    """)
+    int upsertRollup(Long orgId, Long userId, Long projectId, LocalDate day, long minutes, long entries);
+
+    @Modifying
+    @Query("""
+        UPDATE TimeLogDailyRollup r
+        SET r.totalMinutes = r.totalMinutes + :minutes,
+            r.entryCount = r.entryCount + :entries
+        WHERE r.organizationId = :orgId
+          AND r.userId = :userId
+          AND r.workDate = :day
+          AND r.projectId = :projectId
+    """)
+    int addToRollup(Long orgId, Long userId, Long projectId, LocalDate day, long minutes, long entries);
+
+    @Modifying
+    @Query("""
+        DELETE FROM TimeLogDailyRollup r
+        WHERE r.organizationId = :orgId
+          AND r.userId = :userId
+          AND r.workDate = :day
+          AND r.entryCount <= 0
+    """)
+    int deleteEmpty(Long orgId, Long userId, LocalDate day);
+
+    /**
+     * Rebuilds every rollup from the raw logs; only used to seed an empty table. If
+     * another instance seeds concurrently, uk_time_log_rollup_key rejects the second.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO TimeLogDailyRollup (organizationId, userId, projectId, workDate, totalMinutes, entryCount, active)
+        SELECT t.organizationId, t.userId, COALESCE(p.id, 0), t.workDate, SUM(COALESCE(t.durationMinutes, 0)), COUNT(t), true
+        FROM TimeLog t LEFT JOIN t.project p
+        WHERE t.organizationId IS NOT NULL
+        GROUP BY t.organizationId, t.userId, COALESCE(p.id, 0), t.workDate
+    """)
+    int rebuildFromTimeLogs();
+
+
+    // ---------------------------------------------------------
+    // ORGANIZATION OVERVIEW (ADMIN DASHBOARD)
+    // ---------------------------------------------------------
+
+    @Query("""
+        SELECT COALESCE(SUM(r.totalMinutes), 0) AS minutes,
+               COALESCE(SUM(r.entryCount), 0) AS entries,
+               COUNT(DISTINCT r.userId) AS employees,
+               COUNT(DISTINCT NULLIF(r.projectId, 0)) AS projects
+        FROM TimeLogDailyRollup r
+        WHERE r.organizationId = :orgId
+          AND r.workDate BETWEEN :from AND :to
+    """)
+    Map<String, Object> getOrganizationTotals(Long orgId, LocalDate from, LocalDate to);
+
+    @Query("""
+        SELECT r.userId AS userId,
+               SUM(r.totalMinutes) AS minutes,
+               SUM(r.entryCount) AS entries,
+               COUNT(DISTINCT NULLIF(r.projectId, 0)) AS projects
+        FROM TimeLogDailyRollup r
+        WHERE r.organizationId = :orgId
+          AND r.workDate BETWEEN :from AND :to
+        GROUP BY r.userId
+    """)
+    List<Map<String, Object>> getEmployeeTotals(Long orgId, LocalDate from, LocalDate to);
+}
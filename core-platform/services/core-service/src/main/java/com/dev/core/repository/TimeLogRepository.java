@@ -191,6 +191,15 @@ public interface TimeLogRepository extends JpaRepository<TimeLog, Long>, JpaSpec
         ORDER BY t.workDate DESC, t.startTime DESC
     """)
     List<TimeLog> findByOrganizationIdAndDateRange(Long orgId, LocalDate from, LocalDate to);
+
+    @Query("""
+        SELECT DISTINCT t.userId
+        FROM TimeLog t
+        WHERE t.organizationId = :orgId
+          AND t.workDate BETWEEN :from AND :to
+          AND t.endTime IS NULL
+    """)
+    List<Long> findUserIdsWithOpenEntries(Long orgId, LocalDate from, LocalDate to);
     
     /**
      * Find time logs for multiple users (for manager viewing subordinates)
@@ -1,5 +1,7 @@
 package com.dev.core.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -7,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -38,4 +41,36 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.username = :username OR u.email = :username")
     Optional<User> findByUsernameOrEmailWithRoles(@Param("username") String username);
 
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.id = :userId")
+    Optional<Long> findTokenVersionById(@Param("userId") Long userId);
+
+    @Query("SELECT u.id FROM User u JOIN u.roles r WHERE r.id = :roleId")
+    List<Long> findIdsByRoleId(@Param("roleId") Long roleId);
+
+    /** Revokes the access tokens of the given users in one statement */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = COALESCE(u.tokenVersion, 0) + 1 WHERE u.id IN :userIds")
+    int bumpTokenVersions(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Display identity of each user (with its employee record, if any) in one query.
+     */
+    @Query("""
+        SELECT u.id AS userId, e.id AS employeeId, e.firstName AS firstName, e.lastName AS lastName,
+               e.email AS employeeEmail, u.email AS userEmail
+        FROM User u
+        LEFT JOIN Employee e ON e.user = u
+        WHERE u.id IN :userIds
+    """)
+    List<IdentityRow> findIdentitiesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    interface IdentityRow {
+        Long getUserId();
+        Long getEmployeeId();
+        String getFirstName();
+        String getLastName();
+        String getEmployeeEmail();
+        String getUserEmail();
+    }
+
 }
@@ -2,6 +2,7 @@ package com.dev.core.repository.bug;
 
 import com.dev.core.domain.Bug;
 import com.dev.core.constants.BugStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -27,6 +29,36 @@ public interface BugRepository extends JpaRepository<Bug, Long>, JpaSpecificatio
     List<Bug> findByStatus(BugStatus status);
 
     List<Bug> findByDueDateBeforeAndStatusNot(LocalDateTime date, BugStatus status);
+
+    /**
+     * Keyset-paged ids of bugs in the given statuses with a due date in [from, to).
+     * Served by the (status, due_date, id) index: one range per status value.
+     */
+    @Query("""
+        SELECT b.id FROM Bug b
+        WHERE b.status IN :statuses
+          AND b.dueDate >= :from AND b.dueDate < :to
+          AND b.id > :afterId
+        ORDER BY b.id
+    """)
+    List<Long> findIdsDueBetween(@Param("statuses") Collection<BugStatus> statuses,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    /** Keyset-paged ids of bugs in the given statuses that were due before the given time */
+    @Query("""
+        SELECT b.id FROM Bug b
+        WHERE b.status IN :statuses
+          AND b.dueDate < :before
+          AND b.id > :afterId
+        ORDER BY b.id
+    """)
+    List<Long> findIdsDueBefore(@Param("statuses") Collection<BugStatus> statuses,
+                                @Param("before") LocalDateTime before,
+                                @Param("afterId") Long afterId,
+                                Pageable pageable);
     
     // Get bugs where user is either the reporter or assignee
     @Query("""
@@ -3,7 +3,10 @@ package com.dev.core.repository.leave;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.domain.leave.LeaveBalance;
@@ -21,4 +24,115 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long
     List<LeaveBalance> findByOrganizationIdAndYear(Long organizationId, Integer year);
 
     boolean existsByEmployeeIdAndLeaveTypeIdAndYear(Long employeeId, Long leaveTypeId, Integer year);
+
+    // ---------------------------------------------------------
+    // SCHEDULER CHUNKS (keyset-paged by id, see KeysetScanner)
+    // ---------------------------------------------------------
+
+    @Query("""
+        SELECT b.id FROM LeaveBalance b
+        WHERE b.leaveType.id = :leaveTypeId
+          AND b.year = :year
+          AND b.employee IS NOT NULL
+          AND b.id > :afterId
+        ORDER BY b.id
+    """)
+    List<Long> findIdsByLeaveTypeAndYear(Long leaveTypeId, Integer year, Long afterId, Pageable pageable);
+
+    /** Balances still missing the accrual for {@code period}; an interrupted run resumes from here */
+    @Query("""
+        SELECT b.id FROM LeaveBalance b
+        WHERE b.leaveType.id = :leaveTypeId
+          AND b.year = :year
+          AND b.employee IS NOT NULL
+          AND b.id > :afterId
+          AND NOT EXISTS (
+              SELECT 1 FROM LeaveLedgerEntry e
+              WHERE e.employeeId = b.employee.id
+                AND e.leaveTypeId = b.leaveType.id
+                AND e.year = b.year
+                AND e.entryType = com.dev.core.constants.LeaveLedgerEntryType.ACCRUAL
+                AND e.period = :period)
+        ORDER BY b.id
+    """)
+    List<Long> findIdsAwaitingAccrual(Long leaveTypeId, Integer year, Integer period, Long afterId, Pageable pageable);
+
+    @Query("SELECT b FROM LeaveBalance b JOIN FETCH b.employee WHERE b.id IN :ids ORDER BY b.id")
+    List<LeaveBalance> findWithEmployeeByIdIn(List<Long> ids);
+
+    /** The {@code year} balances of the same employees and leave types as the given balances */
+    @Query("""
+        SELECT n FROM LeaveBalance n
+        JOIN LeaveBalance p ON p.employee = n.employee AND p.leaveType = n.leaveType
+        WHERE p.id IN :ids
+          AND n.year = :year
+    """)
+    List<LeaveBalance> findCounterpartsInYear(List<Long> ids, Integer year);
+
+    /** Opens an empty {@code year} balance for each given balance that has none yet */
+    @Modifying
+    @Query("""
+        INSERT INTO LeaveBalance (organizationId, employee, leaveType, year, openingBalance, earned, used, closingBalance, active)
+        SELECT p.organizationId, p.employee, p.leaveType, :year, 0, 0, 0, 0, true
+        FROM LeaveBalance p
+        WHERE p.id IN :ids
+          AND p.employee IS NOT NULL
+          AND NOT EXISTS (
+              SELECT 1 FROM LeaveBalance n
+              WHERE n.employee = p.employee
+                AND n.leaveType = p.leaveType
+                AND n.year = :year)
+    """)
+    int createMissingInYear(List<Long> ids, Integer year);
+
+    // ---------------------------------------------------------
+    // ATOMIC MUTATIONS (paired with a LeaveLedgerEntry)
+    //
+    // closingBalance is assigned first: MySQL evaluates SET left to right with the
+    // already-updated values, PostgreSQL with the old ones; this order is right for both.
+    // ---------------------------------------------------------
+
+    /** Takes {@code days} from the balance; returns 0 (and changes nothing) when fewer are available */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE LeaveBalance b
+        SET b.closingBalance = COALESCE(b.openingBalance, 0) + COALESCE(b.earned, 0) - COALESCE(b.used, 0) - :days,
+            b.used = COALESCE(b.used, 0) + :days
+        WHERE b.id = :balanceId
+          AND COALESCE(b.openingBalance, 0) + COALESCE(b.earned, 0) - COALESCE(b.used, 0) >= :days
+    """)
+    int debit(Long balanceId, Integer days);
+
+    /**
+     * Credits {@code days} to each given balance not yet credited for {@code period}.
+     * The check is not a lock: a concurrent run can pass it too, so the caller must
+     * post the matching ledger entries in the same transaction and let the unique
+     * accrual key reject the duplicate.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE LeaveBalance b
+        SET b.closingBalance = COALESCE(b.openingBalance, 0) + COALESCE(b.earned, 0) + :days - COALESCE(b.used, 0),
+            b.earned = COALESCE(b.earned, 0) + :days
+        WHERE b.id IN :balanceIds
+          AND b.employee IS NOT NULL
+          AND NOT EXISTS (
+              SELECT 1 FROM LeaveLedgerEntry e
+              WHERE e.employeeId = b.employee.id
+                AND e.leaveTypeId = b.leaveType.id
+                AND e.year = b.year
+                AND e.entryType = com.dev.core.constants.LeaveLedgerEntryType.ACCRUAL
+                AND e.period = :period)
+    """)
+    int accrue(List<Long> balanceIds, Integer period, Integer days);
+
+    /** Replaces the opening balance without touching concurrently updated earned/used */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE LeaveBalance b
+        SET b.closingBalance = :opening + COALESCE(b.earned, 0) - COALESCE(b.used, 0),
+            b.openingBalance = :opening
+        WHERE b.id = :balanceId
+    """)
+    int setOpeningBalance(Long balanceId, Integer opening);
 }
@@ -0,0 +1,41 @@
+package com.dev.core.repository.leave;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.dev.core.domain.leave.LeaveLedgerEntry;
+
+@Repository
+public interface LeaveLedgerEntryRepository extends JpaRepository<LeaveLedgerEntry, Long> {
+
+    List<LeaveLedgerEntry> findByEmployeeIdAndLeaveTypeIdAndYearOrderByIdAsc(Long employeeId, Long leaveTypeId, Integer year);
+
+    /**
+     * Writes an ACCRUAL entry for each given balance that has none for this period
+     * yet. Run right after {@link LeaveBalanceRepository#accrue} in the same
+     * transaction: both skip exactly the balances already credited. NOT EXISTS only
+     * keeps a re-run quiet; a concurrent run that got past it fails here on
+     * {@code uk_leave_ledger_accrual} and takes its balance credits down with it.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO LeaveLedgerEntry (organizationId, employeeId, leaveTypeId, year, entryType, days, period, postedAt, active)
+        SELECT b.organizationId, b.employee.id, b.leaveType.id, b.year,
+               com.dev.core.constants.LeaveLedgerEntryType.ACCRUAL, :days, :period, LOCAL_DATETIME, true
+        FROM LeaveBalance b
+        WHERE b.id IN :balanceIds
+          AND b.employee IS NOT NULL
+          AND NOT EXISTS (
+              SELECT 1 FROM LeaveLedgerEntry e
+              WHERE e.employeeId = b.employee.id
+                AND e.leaveTypeId = b.leaveType.id
+                AND e.year = b.year
+                AND e.entryType = com.dev.core.constants.LeaveLedgerEntryType.ACCRUAL
+                AND e.period = :period)
+    """)
+    int postAccruals(List<Long> balanceIds, Integer period, Integer days);
+}
@@ -4,6 +4,7 @@ package com.dev.core.repository.leave;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -58,5 +59,53 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
 
     List<LeaveRequest> findByStatusAndCreatedAtBefore(LeaveStatus status, LocalDateTime cutoff);
 
+    /**
+     * Everything the leave rules need about an employee's existing requests, in one
+     * pass over their rows for the request's year plus any overlapping ones:
+     * days used of the leave type this month / quarter / year (non-rejected, per-row
+     * rounded like Math.round), how many of those rows have no totalDays, and how many
+     * pending/approved requests overlap [startDate, endDate]. {@code excludeId} is the
+     * request being validated (-1 for a new one).
+     */
+    @Query("""
+            SELECT
+              COALESCE(SUM(CASE WHEN lr.leaveType.id = :leaveTypeId AND lr.status <> com.dev.core.constants.LeaveStatus.REJECTED
+                                 AND lr.startDate BETWEEN :monthStart AND :monthEnd AND lr.totalDays IS NOT NULL
+                                THEN FLOOR(lr.totalDays + 0.5) ELSE 0 END), 0) AS monthDays,
+              COALESCE(SUM(CASE WHEN lr.leaveType.id = :leaveTypeId AND lr.status <> com.dev.core.constants.LeaveStatus.REJECTED
+                                 AND lr.startDate BETWEEN :quarterStart AND :quarterEnd AND lr.totalDays IS NOT NULL
+                                THEN FLOOR(lr.totalDays + 0.5) ELSE 0 END), 0) AS quarterDays,
+              COALESCE(SUM(CASE WHEN lr.leaveType.id = :leaveTypeId AND lr.status <> com.dev.core.constants.LeaveStatus.REJECTED
+                                 AND lr.startDate BETWEEN :yearStart AND :yearEnd AND lr.totalDays IS NOT NULL
+                                THEN FLOOR(lr.totalDays + 0.5) ELSE 0 END), 0) AS yearDays,
+              COALESCE(SUM(CASE WHEN lr.leaveType.id = :leaveTypeId AND lr.status <> com.dev.core.constants.LeaveStatus.REJECTED
+                                 AND lr.startDate BETWEEN :yearStart AND :yearEnd AND lr.totalDays IS NULL
+                                THEN 1 ELSE 0 END), 0) AS unsizedRows,
+              COALESCE(SUM(CASE WHEN (lr.status = com.dev.core.constants.LeaveStatus.PENDING
+                                      OR lr.status = com.dev.core.constants.LeaveStatus.APPROVED)
+                                 AND lr.startDate <= :endDate AND lr.endDate >= :startDate
+                                THEN 1 ELSE 0 END), 0) AS overlaps
+            FROM LeaveRequest lr
+            WHERE lr.employee.id = :employeeId
+              AND lr.id <> :excludeId
+              AND ((lr.startDate BETWEEN :yearStart AND :yearEnd)
+                   OR (lr.startDate <= :endDate AND lr.endDate >= :startDate))
+            """)
+    Map<String, Object> aggregateUsage(Long employeeId, Long leaveTypeId, Long excludeId,
+                                       LocalDate startDate, LocalDate endDate,
+                                       LocalDate monthStart, LocalDate monthEnd,
+                                       LocalDate quarterStart, LocalDate quarterEnd,
+                                       LocalDate yearStart, LocalDate yearEnd);
+
+    /** Rows counted as {@code unsizedRows} above; their days are derived from the dates */
+    @Query("""
+            SELECT lr FROM LeaveRequest lr
+            WHERE lr.employee.id = :employeeId AND lr.leaveType.id = :leaveTypeId AND lr.id <> :excludeId
+              AND lr.status <> com.dev.core.constants.LeaveStatus.REJECTED
+              AND lr.totalDays IS NULL AND lr.startDate BETWEEN :yearStart AND :yearEnd
+            """)
+    List<LeaveRequest> findUnsizedInYear(Long employeeId, Long leaveTypeId, Long excludeId,
+                                         LocalDate yearStart, LocalDate yearEnd);
+
 }
 
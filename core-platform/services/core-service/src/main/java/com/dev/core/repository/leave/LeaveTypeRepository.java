@@ -20,5 +20,7 @@ public interface LeaveTypeRepository extends JpaRepository<LeaveType, Long> {
     boolean existsByOrganizationIdAndName(Long organizationId, String name);
 
     List<LeaveType> findByOrganizationIdAndActiveTrue(Long organizationId);
+
+    List<LeaveType> findByActiveTrueOrderByOrganizationIdAscIdAsc();
 }
 
@@ -0,0 +1,37 @@
+package com.dev.core.repository.performance;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.dev.core.domain.performance.PerformanceCycleSummary;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PerformanceCycleSummaryRepository extends JpaRepository<PerformanceCycleSummary, Long> {
+
+    Optional<PerformanceCycleSummary> findByCycleId(Long cycleId);
+
+    /** The cycle's summary row-locked until commit, so a rebuild and {@link #recordSubmission} run one after the other */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PerformanceCycleSummary s WHERE s.cycleId = :cycleId")
+    Optional<PerformanceCycleSummary> lockByCycleId(Long cycleId);
+
+    /** Moves one pending request to completed with the given rating; returns 0 when the cycle has no summary yet */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE PerformanceCycleSummary s
+        SET s.pendingRequests = s.pendingRequests - 1,
+            s.completedReviews = s.completedReviews + 1,
+            s.ratingTotal = s.ratingTotal + :rating,
+            s.refreshedAt = :now
+        WHERE s.cycleId = :cycleId
+    """)
+    int recordSubmission(Long cycleId, Integer rating, LocalDateTime now);
+}
@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.domain.performance.PerformanceReview;
+import com.dev.core.repository.projection.RatingSummary;
 
 @Repository
 public interface PerformanceReviewRepository extends JpaRepository<PerformanceReview, Long> {
@@ -15,5 +17,33 @@ public interface PerformanceReviewRepository extends JpaRepository<PerformanceRe
 
     List<PerformanceReview> findByRequestEmployeeId(Long employeeId);
 
+    List<PerformanceReview> findTop5ByRequestEmployeeIdOrderByCreatedAtDesc(Long employeeId);
+
     List<PerformanceReview> findByRequestCycleId(Long cycleId);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.RatingSummary(
+                   COUNT(r), COALESCE(SUM(r.rating), 0), COALESCE(AVG(r.rating), 0.0))
+        FROM PerformanceReview r
+        WHERE r.request.employee.id = :employeeId
+    """)
+    RatingSummary summarizeByEmployee(Long employeeId);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.RatingSummary(
+                   COUNT(r), COALESCE(SUM(r.rating), 0), COALESCE(AVG(r.rating), 0.0))
+        FROM PerformanceReview r
+        JOIN r.request q
+        JOIN q.employee e
+        WHERE e.department.id = :departmentId
+    """)
+    RatingSummary summarizeByDepartment(Long departmentId);
+
+    @Query("""
+        SELECT new com.dev.core.repository.projection.RatingSummary(
+                   COUNT(r), COALESCE(SUM(r.rating), 0), COALESCE(AVG(r.rating), 0.0))
+        FROM PerformanceReview r
+        WHERE r.request.cycle.id = :cycleId
+    """)
+    RatingSummary summarizeByCycle(Long cycleId);
 }
@@ -0,0 +1,54 @@
+package com.dev.core.repository.performance;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dev.core.constants.ReviewStatus;
+import com.dev.core.constants.ReviewType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC-batched inserts of new review requests. The entity uses IDENTITY keys, so
+ * Hibernate would issue one INSERT per request; here a quarterly run sends them
+ * in batches of {@value #BATCH_SIZE} within the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PerformanceReviewRequestBatchInserter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO performance_review_requests
+                (organization_id, cycle_id, reviewer_id, employee_id, type, status, active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewRequest(Long organizationId, Long cycleId, Long reviewerId, Long employeeId, ReviewType type) {
+    }
+
+    public void insertPending(List<NewRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, requests, BATCH_SIZE, (ps, r) -> {
+            ps.setObject(1, r.organizationId());
+            ps.setLong(2, r.cycleId());
+            ps.setLong(3, r.reviewerId());
+            ps.setLong(4, r.employeeId());
+            ps.setString(5, r.type().name());
+            ps.setString(6, ReviewStatus.PENDING.name());
+            ps.setBoolean(7, true);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
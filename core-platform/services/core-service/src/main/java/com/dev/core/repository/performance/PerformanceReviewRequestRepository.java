@@ -1,12 +1,15 @@
 package com.dev.core.repository.performance;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.dev.core.constants.ReviewStatus;
 import com.dev.core.domain.performance.PerformanceReviewRequest;
+import com.dev.core.repository.projection.StatusCount;
 
 @Repository
 public interface PerformanceReviewRequestRepository extends JpaRepository<PerformanceReviewRequest, Long> {
@@ -20,4 +23,13 @@ public interface PerformanceReviewRequestRepository extends JpaRepository<Perfor
     List<PerformanceReviewRequest> findByCycleId(Long cycleId);
 
     boolean existsByCycleIdAndReviewerIdAndEmployeeId(Long cycleId, Long reviewerId, Long employeeId);
+
+    /** Every (reviewer, employee, type) already assigned in the cycle, without loading the requests */
+    @Query("SELECT r.reviewer.id AS reviewerId, r.employee.id AS employeeId, r.type AS type " +
+           "FROM PerformanceReviewRequest r WHERE r.cycle.id = :cycleId")
+    List<Map<String, Object>> findAssignmentsByCycleId(Long cycleId);
+
+    @Query("SELECT new com.dev.core.repository.projection.StatusCount(CAST(r.status AS String), COUNT(r)) " +
+           "FROM PerformanceReviewRequest r WHERE r.cycle.id = :cycleId GROUP BY r.status")
+    List<StatusCount> countByCycleGroupedByStatus(Long cycleId);
 }
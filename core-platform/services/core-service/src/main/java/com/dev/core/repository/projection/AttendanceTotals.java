@@ -0,0 +1,8 @@
+package com.dev.core.repository.projection;
+
+/**
+ * One employee's attendance over a date range: present days include late
+ * arrivals, late days count the {@code isLate} flag.
+ */
+public record AttendanceTotals(Long presentDays, Long absentDays, Long lateDays, Double totalWorkHours) {
+}
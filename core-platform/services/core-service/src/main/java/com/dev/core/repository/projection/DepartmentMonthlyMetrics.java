@@ -0,0 +1,14 @@
+package com.dev.core.repository.projection;
+
+/**
+ * Joins, promotions and resignations for one department in one month; department
+ * fields are null for employees without a department.
+ */
+public record DepartmentMonthlyMetrics(Integer year,
+                                       Integer month,
+                                       Long departmentId,
+                                       String departmentName,
+                                       Integer joins,
+                                       Integer promotions,
+                                       Integer resignations) {
+}
@@ -0,0 +1,8 @@
+package com.dev.core.repository.projection;
+
+/**
+ * Row count per department and status; department fields are null for rows
+ * whose employee has no department.
+ */
+public record DepartmentStatusCount(Long departmentId, String departmentName, String status, Long count) {
+}
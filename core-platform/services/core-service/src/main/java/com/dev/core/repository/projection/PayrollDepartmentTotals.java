@@ -0,0 +1,15 @@
+package com.dev.core.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Payroll count and salary sums for one department within a period; department
+ * fields are null for employees without a department.
+ */
+public record PayrollDepartmentTotals(Long departmentId,
+                                      String departmentName,
+                                      Long payrolls,
+                                      BigDecimal grossSalary,
+                                      BigDecimal totalDeductions,
+                                      BigDecimal netSalary) {
+}
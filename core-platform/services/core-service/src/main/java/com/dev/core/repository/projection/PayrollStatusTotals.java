@@ -0,0 +1,13 @@
+package com.dev.core.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Payroll count and salary sums for one status within a period.
+ */
+public record PayrollStatusTotals(String status,
+                                  Long payrolls,
+                                  BigDecimal grossSalary,
+                                  BigDecimal totalDeductions,
+                                  BigDecimal netSalary) {
+}
@@ -0,0 +1,11 @@
+package com.dev.core.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a project activity export. A constructor projection rather than the
+ * entity, so streamed pages are never attached to the request's persistence context.
+ */
+public record ProjectActivityExportRow(Long id, LocalDateTime createdAt, Long performedBy,
+                                       String summary, String description) {
+}
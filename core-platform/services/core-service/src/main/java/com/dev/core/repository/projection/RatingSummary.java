@@ -0,0 +1,7 @@
+package com.dev.core.repository.projection;
+
+/**
+ * Number of submitted reviews and the sum and average of their ratings.
+ */
+public record RatingSummary(Long reviews, Long ratingTotal, Double averageRating) {
+}
@@ -0,0 +1,7 @@
+package com.dev.core.repository.projection;
+
+/**
+ * Row count for one status value, from a {@code GROUP BY status} query.
+ */
+public record StatusCount(String status, Long count) {
+}
@@ -3,9 +3,12 @@ package com.dev.core.repository.task;
 import com.dev.core.domain.TaskDependency;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long>, JpaSpecificationExecutor<TaskDependency> {
@@ -15,4 +18,29 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
     List<TaskDependency> findByDependsOn_Id(Long taskId);
 
     boolean existsByTask_IdAndDependsOn_Id(Long taskId, Long dependsOnTaskId);
+
+    @Query("SELECT COUNT(d) FROM TaskDependency d WHERE d.task.id = :taskId " +
+           "AND d.dependsOn.active = true AND d.dependsOn.status <> com.dev.core.constants.TaskStatus.DONE")
+    long countUnresolved(Long taskId);
+
+    /** Direct prerequisites of the given tasks, for walking dependencies across projects */
+    @Query("SELECT DISTINCT d.dependsOn.id FROM TaskDependency d WHERE d.task.id IN :taskIds AND d.dependsOn.active = true")
+    List<Long> findDependsOnIds(Collection<Long> taskIds);
+
+    /**
+     * Every active task of the project with each of its prerequisites (one row per
+     * edge, or a single row with null prerequisite fields) - enough to build the
+     * project's dependency graph in one query.
+     */
+    @Query("""
+        SELECT t.id AS taskId, t.status AS status, t.estimatedHours AS estimatedHours,
+               p.id AS dependsOnId, p.status AS dependsOnStatus, p.estimatedHours AS dependsOnEstimatedHours,
+               p.project.id AS dependsOnProjectId
+        FROM Task t
+        LEFT JOIN t.dependencies d
+        LEFT JOIN d.dependsOn p ON p.active = true
+        WHERE t.project.id = :projectId
+          AND t.active = true
+    """)
+    List<Map<String, Object>> findGraphRows(Long projectId);
 }
@@ -3,6 +3,7 @@ package com.dev.core.repository.task;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -33,14 +34,6 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
            "FROM TaskDependency td WHERE td.task.id = :taskId AND td.dependsOn.id = :dependsOnTaskId")
     boolean existsDependency(Long taskId, Long dependsOnTaskId);
 
-    /**
-     * Detect circular dependencies between two tasks.
-     * (Simple recursive check simulation — service may extend for deeper cycles.)
-     */
-    @Query("SELECT CASE WHEN COUNT(td) > 0 THEN true ELSE false END " +
-           "FROM TaskDependency td WHERE td.task.id = :dependsOnTaskId AND td.dependsOn.id = :taskId")
-    boolean existsDependencyCycle(Long taskId, Long dependsOnTaskId);
-
     @Query("SELECT COUNT(t) FROM Task t WHERE t.parentTask.id = :parentTaskId AND t.status <> 'DONE'")
     long countIncompleteSubtasks(Long parentTaskId);
     
@@ -53,6 +46,19 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
     @Query("SELECT t FROM Task t WHERE t.status <> 'DONE' AND t.dueDate BETWEEN CURRENT_TIMESTAMP AND :upcoming")
     List<Task> findTasksDueBefore(@Param("upcoming") LocalDateTime upcoming);
 
+    /**
+     * Keyset-paged ids of open parent tasks whose subtasks are all DONE.
+     */
+    @Query("""
+        SELECT p.id FROM Task p
+        WHERE p.status <> 'DONE'
+          AND p.id > :afterId
+          AND EXISTS (SELECT s.id FROM Task s WHERE s.parentTask = p)
+          AND NOT EXISTS (SELECT s.id FROM Task s WHERE s.parentTask = p AND s.status <> 'DONE')
+        ORDER BY p.id
+    """)
+    List<Long> findIdsOfOpenParentsWithAllSubtasksDone(@Param("afterId") Long afterId, Pageable pageable);
+
     
     @Query("""
     	    SELECT DISTINCT t
@@ -1,8 +1,8 @@
 package com.dev.core.scheduler;
 
 import com.dev.core.constants.BugStatus;
-import com.dev.core.domain.Bug;
 import com.dev.core.repository.bug.BugRepository;
+import com.dev.core.scheduler.KeysetScanner.ScanResult;
 import com.dev.core.service.bug.BugAutomationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +10,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -19,6 +20,10 @@ public class BugScheduler {
 
     private final BugRepository bugRepository;
     private final BugAutomationService bugAutomationService;
+    private final KeysetScanner keysetScanner;
+
+    // Listed rather than "<> CLOSED" so the (status, due_date, id) index gets an equality prefix
+    private static final Set<BugStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(BugStatus.CLOSED));
 
     /**
      * Runs daily at 9:00 AM
@@ -32,22 +37,20 @@ public class BugScheduler {
 
         log.info("🐞 [BugScheduler] Checking for due-soon and overdue bugs...");
 
-        List<Bug> bugs = bugRepository.findAll();
-        int dueSoonCount = 0, overdueCount = 0;
-
-        for (Bug bug : bugs) {
-            if (bug.getDueDate() == null || bug.getStatus() == BugStatus.CLOSED)
-                continue;
-
-            if (bug.getDueDate().isAfter(now) && bug.getDueDate().isBefore(next24h)) {
-                bugAutomationService.onBugDueSoon(bug.getId());
-                dueSoonCount++;
-            } else if (bug.getDueDate().isBefore(now)) {
-                bugAutomationService.onBugOverdue(bug.getId());
-                overdueCount++;
-            }
-        }
-
-        log.info("🐞 [BugScheduler] Completed — {} due soon, {} overdue", dueSoonCount, overdueCount);
+        ScanResult dueSoon = keysetScanner.scan("bug.due-soon",
+                (afterId, chunk) -> bugRepository.findIdsDueBetween(OPEN_STATUSES, now, next24h, afterId, chunk),
+                ids -> {
+                    ids.forEach(bugAutomationService::onBugDueSoon);
+                    return ids.size();
+                });
+
+        ScanResult overdue = keysetScanner.scan("bug.overdue",
+                (afterId, chunk) -> bugRepository.findIdsDueBefore(OPEN_STATUSES, now, afterId, chunk),
+                ids -> {
+                    ids.forEach(bugAutomationService::onBugOverdue);
+                    return ids.size();
+                });
+
+        log.info("🐞 [BugScheduler] Completed — {} due soon, {} overdue", dueSoon.acted(), overdue.acted());
     }
 }
@@ -0,0 +1,111 @@
+package com.dev.core.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a scheduler job over an id-ordered query in keyset-paged chunks.
+ *
+ * Each chunk is fetched and processed in its own transaction, so a job never holds
+ * more than one chunk in its persistence context. When a chunk fails it is rolled back
+ * and its rows are retried one per transaction, so one bad row costs only itself; the
+ * ids that still fail are logged. Per-run totals are published as {@code scheduler.rows.scanned} and
+ * {@code scheduler.rows.acted} (tagged {@code job}) plus a {@code scheduler.run} timer.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KeysetScanner {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param job     metric / log name of the scan
+     * @param fetch   returns the next chunk of ids greater than the given id, ordered by id
+     * @param process acts on a chunk and returns how many rows it acted on
+     */
+    public ScanResult scan(String job,
+                           BiFunction<Long, Pageable, List<Long>> fetch,
+                           ToIntFunction<List<Long>> process) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Pageable chunk = PageRequest.of(0, DEFAULT_CHUNK_SIZE);
+        long lastId = 0L;
+        long scanned = 0;
+        long acted = 0;
+
+        while (true) {
+            final long afterId = lastId;
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(tx -> {
+                    List<Long> ids = fetch.apply(afterId, chunk);
+                    return new ChunkResult(ids, ids.isEmpty() ? 0 : process.applyAsInt(ids));
+                });
+            } catch (Exception ex) {
+                log.warn("[{}] Chunk after id {} failed, retrying its rows one by one: {}", job, afterId, ex.getMessage());
+                List<Long> ids = transactionTemplate.execute(tx -> fetch.apply(afterId, chunk));
+                result = new ChunkResult(ids, processEach(job, ids, process));
+            }
+
+            List<Long> ids = result.ids();
+            if (ids.isEmpty()) {
+                break;
+            }
+            scanned += ids.size();
+            acted += result.acted();
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < DEFAULT_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        sample.stop(meterRegistry.timer("scheduler.run", "job", job));
+        meterRegistry.counter("scheduler.rows.scanned", "job", job).increment(scanned);
+        meterRegistry.counter("scheduler.rows.acted", "job", job).increment(acted);
+
+        log.debug("[{}] Scanned {} rows, acted on {}", job, scanned, acted);
+        return new ScanResult(scanned, acted);
+    }
+
+    /** Processes each row in its own transaction; a failing row is logged and skipped */
+    private int processEach(String job, List<Long> ids, ToIntFunction<List<Long>> process) {
+        int acted = 0;
+        List<Long> failed = new ArrayList<>();
+        for (Long id : ids) {
+            try {
+                Integer rowActed = transactionTemplate.execute(tx -> process.applyAsInt(List.of(id)));
+                acted += rowActed == null ? 0 : rowActed;
+            } catch (Exception ex) {
+                failed.add(id);
+                log.error("❌ [{}] Row {} failed: {}", job, id, ex.getMessage(), ex);
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.error("❌ [{}] {} row(s) skipped after retry: {}", job, failed.size(), failed);
+            meterRegistry.counter("scheduler.rows.failed", "job", job).increment(failed.size());
+        }
+        return acted;
+    }
+
+    public record ScanResult(long scanned, long acted) {
+    }
+
+    private record ChunkResult(List<Long> ids, int acted) {
+    }
+}
@@ -1,16 +1,15 @@
 package com.dev.core.scheduler;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.chrono.ChronoLocalDate;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.dev.core.constants.ProjectStatus;
-import com.dev.core.domain.Project;
 import com.dev.core.repository.ProjectRepository;
+import com.dev.core.scheduler.KeysetScanner.ScanResult;
 import com.dev.core.service.ProjectNotificationService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +22,11 @@ public class ProjectScheduler {
 
     private final ProjectRepository projectRepository;
     private final ProjectNotificationService projectNotificationService;
+    private final KeysetScanner keysetScanner;
+
+    // Listed rather than "not in (COMPLETED, ARCHIVED)" so the (status, end_date, id) index gets an equality prefix
+    private static final Set<ProjectStatus> OPEN_STATUSES =
+            EnumSet.complementOf(EnumSet.of(ProjectStatus.COMPLETED, ProjectStatus.ARCHIVED));
 
     /**
      * Runs daily at 8:30 AM
@@ -37,32 +41,25 @@ public class ProjectScheduler {
 
         log.info("🏗️ [ProjectScheduler] Checking for due soon and overdue projects...");
 
-        List<Project> projects = projectRepository.findAll();
-        int dueSoonCount = 0, overdueCount = 0;
-
-        for (Project project : projects) {
-            if (project.getEndDate() == null)
-                continue;
-
-            if (project.getStatus() == ProjectStatus.COMPLETED || project.getStatus() == ProjectStatus.ARCHIVED)
-                continue;
-
-            if (project.getEndDate().isAfter(now) && project.getEndDate().isBefore(next3Days)) {
-                projectNotificationService.notifyProjectDueSoon(project.getId());
-                dueSoonCount++;
-            } else if (project.getEndDate().isBefore(now)) {
-                projectNotificationService.notifyProjectOverdue(project.getId());
+        ScanResult dueSoon = keysetScanner.scan("project.due-soon",
+                (afterId, chunk) -> projectRepository.findIdsEndingBetween(OPEN_STATUSES, now, next3Days, afterId, chunk),
+                ids -> {
+                    ids.forEach(projectNotificationService::notifyProjectDueSoon);
+                    return ids.size();
+                });
 
-                if (project.getStatus() != ProjectStatus.DELAYED) {
-                    project.setStatus(ProjectStatus.DELAYED);
-                    projectRepository.save(project);
-                    log.info("⚠️ Auto-marked project [{}] as DELAYED", project.getId());
-                }
-                overdueCount++;
-            }
-        }
+        ScanResult overdue = keysetScanner.scan("project.overdue",
+                (afterId, chunk) -> projectRepository.findIdsEndedBefore(OPEN_STATUSES, now, afterId, chunk),
+                ids -> {
+                    ids.forEach(projectNotificationService::notifyProjectOverdue);
+                    int delayed = projectRepository.updateStatusWhereDifferent(ids, ProjectStatus.DELAYED);
+                    if (delayed > 0) {
+                        log.info("⚠️ Auto-marked {} projects as DELAYED", delayed);
+                    }
+                    return ids.size();
+                });
 
-        log.info("🏗️ [ProjectScheduler] Completed — {} due soon, {} overdue", dueSoonCount, overdueCount);
+        log.info("🏗️ [ProjectScheduler] Completed — {} due soon, {} overdue", dueSoon.acted(), overdue.acted());
     }
 
 }
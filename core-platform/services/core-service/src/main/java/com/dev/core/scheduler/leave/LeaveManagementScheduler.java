@@ -3,19 +3,23 @@ package com.dev.core.scheduler.leave;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.dev.core.domain.leave.LeaveBalance;
 import com.dev.core.domain.leave.LeaveType;
-import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.leave.LeaveBalanceRepository;
 import com.dev.core.repository.leave.LeaveTypeRepository;
+import com.dev.core.scheduler.KeysetScanner;
+import com.dev.core.scheduler.KeysetScanner.ScanResult;
 import com.dev.core.service.NotificationService;
+import com.dev.core.service.leave.LeaveLedgerService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,9 +28,15 @@ import lombok.RequiredArgsConstructor;
  *  - monthly earned leave accrual (1st of month 02:00)
  *  - yearly carry-forward (Jan 1 03:00)
  *
- * IMPORTANT:
- *  - If your app is multi-tenant, replace `findByOrganizationIdAndActiveTrue(null)` with per-organization calls.
- *  - For large user bases, paginate when iterating employees/balances to avoid OOM.
+ * Both jobs walk every organization's active leave types and, per type, the
+ * balances in keyset-paged chunks ({@link KeysetScanner}): each chunk is a few
+ * set-based statements committed on its own, so a failure only loses that chunk.
+ * The leave ledger doubles as the checkpoint — a re-run skips balances already
+ * credited or carried forward, and only those it changes are notified (through
+ * the email outbox, in the chunk's transaction, so nobody is told about a credit
+ * that rolled back). The outbox validates addresses before inserting, so a bad
+ * address is skipped; a failing insert fails the chunk rather than being swallowed
+ * after it has already doomed the transaction.
  */
 @Component
 @RequiredArgsConstructor
@@ -36,21 +46,21 @@ public class LeaveManagementScheduler {
 
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
-    private final EmployeeRepository employeeRepository;
     private final NotificationService notificationService;
+    private final LeaveLedgerService ledgerService;
+    private final KeysetScanner keysetScanner;
 
     @Scheduled(cron = "0 0 2 1 * *") // 02:00 on 1st day of every month
-    @Transactional
     public void accrueMonthly() {
         LocalDate today = LocalDate.now();
         int month = today.getMonthValue();
         int year = today.getYear();
         log.info("LeaveManagementScheduler: monthly accrual start for {}/{}", month, year);
 
-        // NOTE: adapt tenant logic as needed
-        List<LeaveType> earnedTypes = leaveTypeRepository.findByOrganizationIdAndActiveTrue(null)
-                .stream().filter(LeaveType::getEarnedLeave).toList();
+        List<LeaveType> earnedTypes = leaveTypeRepository.findByActiveTrueOrderByOrganizationIdAscIdAsc()
+                .stream().filter(t -> Boolean.TRUE.equals(t.getEarnedLeave())).toList();
 
+        long credited = 0;
         for (LeaveType type : earnedTypes) {
             Integer annual = type.getAnnualLimit();
             if (annual == null || annual <= 0) continue;
@@ -59,37 +69,19 @@ public class LeaveManagementScheduler {
             int remainder = annual % 12;
             int monthlyAdd = base + (month <= remainder ? 1 : 0);
 
-            List<LeaveBalance> balances = leaveBalanceRepository.findByLeaveTypeIdAndYear(type.getId(), year);
-            for (LeaveBalance bal : balances) {
-                int newEarned = (bal.getEarned() == null ? 0 : bal.getEarned()) + monthlyAdd;
-                bal.setEarned(newEarned);
-
-                int opening = bal.getOpeningBalance() == null ? 0 : bal.getOpeningBalance();
-                int used = bal.getUsed() == null ? 0 : bal.getUsed();
-                bal.setClosingBalance(opening + newEarned - used);
-
-                leaveBalanceRepository.save(bal);
-
-                // optional: notify employee
-                try {
-                    if (bal.getEmployee() != null && bal.getEmployee().getEmail() != null) {
-                        String subj = "Monthly Leave Accrual: " + type.getName();
-                        String body = String.format("Dear %s,\n\n%s leave credited: %d. Closing balance: %d.\n\nRegards",
-                                bal.getEmployee().getFullName(), type.getName(), monthlyAdd, bal.getClosingBalance());
-                        notificationService.sendEmail(bal.getEmployee().getEmail(), subj, body);
-                    }
-                } catch (Exception ex) {
-                    log.warn("accureMonthly: notify failed for empId={} reason={}", bal.getEmployee() != null ? bal.getEmployee().getId() : "n/a", ex.getMessage());
-                    notificationService.handleNotificationFailure(bal.getEmployee() != null ? bal.getEmployee().getEmail() : "unknown", "accrual", ex);
-                }
-            }
+            ScanResult result = keysetScanner.scan("leave.accrual",
+                    (afterId, chunk) -> leaveBalanceRepository.findIdsAwaitingAccrual(type.getId(), year, month, afterId, chunk),
+                    ids -> accrueChunk(type, month, monthlyAdd, ids));
+            credited += result.acted();
+
+            log.info("accrueMonthly: org={} type={} credited {} balances with {} day(s)",
+                    type.getOrganizationId(), type.getId(), result.acted(), monthlyAdd);
         }
 
-        log.info("LeaveManagementScheduler: monthly accrual completed for {}/{}", month, year);
+        log.info("LeaveManagementScheduler: monthly accrual completed for {}/{} ({} balances credited)", month, year, credited);
     }
 
     @Scheduled(cron = "0 0 3 1 1 *") // 03:00 Jan 1st
-    @Transactional
     public void carryForward() {
         LocalDate today = LocalDate.now();
         int prevYear = today.getYear() - 1;
@@ -97,53 +89,69 @@ public class LeaveManagementScheduler {
 
         log.info("LeaveManagementScheduler: carry-forward start from year {}", prevYear);
 
-        List<LeaveType> cfTypes = leaveTypeRepository.findByOrganizationIdAndActiveTrue(null)
+        List<LeaveType> cfTypes = leaveTypeRepository.findByActiveTrueOrderByOrganizationIdAscIdAsc()
                 .stream().filter(t -> Boolean.TRUE.equals(t.getCarryForward())).toList();
 
+        long applied = 0;
         for (LeaveType t : cfTypes) {
-            List<LeaveBalance> prevBalances = leaveBalanceRepository.findByLeaveTypeIdAndYear(t.getId(), prevYear);
-            for (LeaveBalance prev : prevBalances) {
-                int closing = prev.getClosingBalance() == null ? 0 : prev.getClosingBalance();
-                int carry = Math.min(closing, t.getMaxCarryForward() == null ? 0 : t.getMaxCarryForward());
-
-                Long empId = prev.getEmployee() != null ? prev.getEmployee().getId() : null;
-                if (empId == null) continue;
-
-                LeaveBalance next = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(empId, t.getId(), nextYear)
-                        .orElseGet(() -> {
-                            LeaveBalance nb = new LeaveBalance();
-                            nb.setEmployee(prev.getEmployee());
-                            nb.setLeaveType(prev.getLeaveType());
-                            nb.setYear(nextYear);
-                            nb.setOrganizationId(prev.getOrganizationId());
-                            nb.setOpeningBalance(0);
-                            nb.setEarned(0);
-                            nb.setUsed(0);
-                            nb.setClosingBalance(0);
-                            return nb;
-                        });
-
-                next.setOpeningBalance(carry);
-                int earned = next.getEarned() == null ? 0 : next.getEarned();
-                int used = next.getUsed() == null ? 0 : next.getUsed();
-                next.setClosingBalance(carry + earned - used);
-                leaveBalanceRepository.save(next);
-
-                // notify
-                try {
-                    if (prev.getEmployee() != null && prev.getEmployee().getEmail() != null) {
-                        String subj = "Carry-forward applied: " + t.getName();
-                        String body = String.format("Dear %s,\n\nCarry-forward of %d %s has been applied to your account for year %d.\n\nRegards",
-                                prev.getEmployee().getFullName(), carry, t.getName(), nextYear);
-                        notificationService.sendEmail(prev.getEmployee().getEmail(), subj, body);
-                    }
-                } catch (Exception ex) {
-                    log.warn("carryForward: notify failed empId={} reason={}", prev.getEmployee() != null ? prev.getEmployee().getId() : "n/a", ex.getMessage());
-                    notificationService.handleNotificationFailure(prev.getEmployee() != null ? prev.getEmployee().getEmail() : "unknown", "carry-forward", ex);
-                }
+            ScanResult result = keysetScanner.scan("leave.carry-forward",
+                    (afterId, chunk) -> leaveBalanceRepository.findIdsByLeaveTypeAndYear(t.getId(), prevYear, afterId, chunk),
+                    ids -> carryForwardChunk(t, nextYear, ids));
+            applied += result.acted();
+
+            log.info("carryForward: org={} type={} scanned {} balances, applied {}",
+                    t.getOrganizationId(), t.getId(), result.scanned(), result.acted());
+        }
+
+        log.info("LeaveManagementScheduler: carry-forward completed ({} balances updated).", applied);
+    }
+
+    private int accrueChunk(LeaveType type, int month, int monthlyAdd, List<Long> ids) {
+        int credited = ledgerService.accrue(type, month, monthlyAdd, ids);
+
+        for (LeaveBalance bal : leaveBalanceRepository.findWithEmployeeByIdIn(ids)) {
+            // Queued with the chunk; an unusable address is skipped by the outbox without failing it
+            if (bal.getEmployee().getEmail() != null) {
+                String subj = "Monthly Leave Accrual: " + type.getName();
+                String body = String.format("Dear %s,\n\n%s leave credited: %d. Closing balance: %d.\n\nRegards",
+                        bal.getEmployee().getFullName(), type.getName(), monthlyAdd, bal.getClosingBalance());
+                notificationService.sendEmail(bal.getEmployee().getEmail(), subj, body);
             }
         }
+        return credited;
+    }
 
-        log.info("LeaveManagementScheduler: carry-forward completed.");
+    private int carryForwardChunk(LeaveType t, int nextYear, List<Long> ids) {
+        leaveBalanceRepository.createMissingInYear(ids, nextYear);
+
+        Map<Long, LeaveBalance> nextByEmployee = leaveBalanceRepository.findCounterpartsInYear(ids, nextYear)
+                .stream()
+                .collect(Collectors.toMap(b -> b.getEmployee().getId(), Function.identity()));
+        int maxCarry = t.getMaxCarryForward() == null ? 0 : t.getMaxCarryForward();
+
+        int applied = 0;
+        for (LeaveBalance prev : leaveBalanceRepository.findWithEmployeeByIdIn(ids)) {
+            int closing = prev.getClosingBalance() == null ? 0 : prev.getClosingBalance();
+            int carry = Math.min(closing, maxCarry);
+
+            LeaveBalance next = nextByEmployee.get(prev.getEmployee().getId());
+            if (next == null) continue;
+
+            // Already applied by an earlier (possibly interrupted) run
+            int opening = next.getOpeningBalance() == null ? 0 : next.getOpeningBalance();
+            if (carry == opening) continue;
+
+            ledgerService.applyCarryForward(next, carry);
+            applied++;
+
+            // notify
+            if (prev.getEmployee().getEmail() != null) {
+                String subj = "Carry-forward applied: " + t.getName();
+                String body = String.format("Dear %s,\n\nCarry-forward of %d %s has been applied to your account for year %d.\n\nRegards",
+                        prev.getEmployee().getFullName(), carry, t.getName(), nextYear);
+                notificationService.sendEmail(prev.getEmployee().getEmail(), subj, body);
+            }
+        }
+        return applied;
     }
 }
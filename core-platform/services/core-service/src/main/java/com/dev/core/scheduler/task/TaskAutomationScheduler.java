@@ -14,6 +14,8 @@ import com.dev.core.domain.Project;
 import com.dev.core.domain.Task;
 import com.dev.core.repository.ProjectRepository;
 import com.dev.core.repository.task.TaskRepository;
+import com.dev.core.scheduler.KeysetScanner;
+import com.dev.core.scheduler.KeysetScanner.ScanResult;
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.task.TaskAutomationService;
 
@@ -37,6 +39,7 @@ public class TaskAutomationScheduler {
     
     private final ProjectRepository projectRepository;
     private final NotificationService notificationService;
+    private final KeysetScanner keysetScanner;
 
     /**
      * Runs every morning at 9:00 AM
@@ -61,31 +64,18 @@ public class TaskAutomationScheduler {
     }
     
     @Scheduled(cron = "0 30 9 * * *") // 9:30 AM daily
-    @Transactional
     public void autoCloseParentTasks() {
         log.info("🤖 [Scheduler] Checking for auto-close parent tasks...");
 
-        List<Task> parentTasks = taskRepository.findAll()
-                .stream()
-                .filter(t -> t.getStatus() != TaskStatus.DONE)
-                .filter(t -> t.getSubtasks() != null && !t.getSubtasks().isEmpty())
-                .collect(Collectors.toList());
+        // The "all subtasks done" check runs in the database; chunks commit independently
+        ScanResult result = keysetScanner.scan("task.auto-close-parents",
+                taskRepository::findIdsOfOpenParentsWithAllSubtasksDone,
+                ids -> {
+                    ids.forEach(taskAutomationService::onSubtaskAllDone);
+                    return ids.size();
+                });
 
-        int closedCount = 0;
-
-        for (Task parent : parentTasks) {
-            long total = parent.getSubtasks().size();
-            long done = parent.getSubtasks().stream()
-                    .filter(s -> s.getStatus() == TaskStatus.DONE)
-                    .count();
-
-            if (total > 0 && done == total) {
-                taskAutomationService.onSubtaskAllDone(parent.getId());
-                closedCount++;
-            }
-        }
-
-        log.info("✅ [Scheduler] Auto-close check complete. {} parent tasks ready for closure.", closedCount);
+        log.info("✅ [Scheduler] Auto-close check complete. {} parent tasks ready for closure.", result.acted());
     }
 
     // --------------------------------------------------------------
@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import com.dev.core.model.MinimalEmployeeDTO;
 
 import java.util.Collection;
+import java.util.Set;
 
 @Data
 @AllArgsConstructor
@@ -19,6 +20,10 @@ public class CustomUserDetails implements UserDetails {
     private String password;
     private MinimalEmployeeDTO employee;
     private Collection<? extends GrantedAuthority> authorities;
+    private Set<Long> roleIds;
+
+    /** Matches {@code User.tokenVersion} at issue time; a mismatch means the token was revoked. */
+    private Long tokenVersion;
 
     @Override public boolean isAccountNonExpired() { return true; }
     @Override public boolean isAccountNonLocked() { return true; }
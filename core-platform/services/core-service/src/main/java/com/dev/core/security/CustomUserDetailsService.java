@@ -29,10 +29,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final EmployeeRepository employeeRepository;
+    private final UserDetailsCache userDetailsCache;
 
    
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadFromDatabase);
+    }
+
+    private CustomUserDetails loadFromDatabase(String username) {
         User user = userRepository.findByUsernameOrEmailWithRoles(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -54,13 +59,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toSet());
 
+        Set<Long> roleIds = user.getRoles().stream()
+                .map(Role::getId)
+                .collect(Collectors.toSet());
+
         return new CustomUserDetails(
                 user.getId(),
                 user.getOrganizationId(),
                 user.getUsername(),
                 user.getPassword(),
                 empDto,
-                authorities
+                authorities,
+                roleIds,
+                user.getTokenVersion() != null ? user.getTokenVersion() : 0L
         );
     }
 
@@ -1,16 +1,27 @@
 package com.dev.core.security;
 
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.dev.core.model.MinimalEmployeeDTO;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -30,36 +41,51 @@ public class JwtTokenProvider {
     private static final SecretKey SECRET_KEY =
         Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY_STRING));
 
+    // ✅ Parsers are immutable and thread-safe, so build it once
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(SECRET_KEY)
+            .build();
+
     private static final long JWT_EXPIRATION_MS = 60 * 60 * 1000; // 1 hour
 
-    // ✅ Generate a token with username as subject
-    public String generateToken(String username) {
+    // Claims embedded so the filter can build the principal without a DB lookup
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ORGANIZATION_ID = "oid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_ROLE_IDS = "rids";
+    private static final String CLAIM_EMPLOYEE = "emp";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+
+    // ✅ Generate a token carrying the full principal
+    public String generateToken(CustomUserDetails principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, principal.getUserId());
+        claims.put(CLAIM_ORGANIZATION_ID, principal.getOrganizationId());
+        claims.put(CLAIM_ROLES, principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        claims.put(CLAIM_ROLE_IDS, principal.getRoleIds());
+        claims.put(CLAIM_TOKEN_VERSION, principal.getTokenVersion());
+        if (principal.getEmployee() != null) {
+            claims.put(CLAIM_EMPLOYEE, toClaim(principal.getEmployee()));
+        }
+
         return Jwts.builder()
-                .setSubject(username)
+                .setClaims(claims)
+                .setSubject(principal.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION_MS))
                 .signWith(SECRET_KEY, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // ✅ Extract username (subject) safely
-    public String extractUsername(String token) {
-    	log.info("Extract username {}",token);
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+    /**
+     * Verifies signature and expiry and returns the claims. This is the only place a
+     * token is parsed; callers should reuse the result instead of re-parsing.
+     */
+    public Claims parseClaims(String token) {
         try {
-            final Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claimsResolver.apply(claims);
+            return PARSER.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             log.warn("⚠️ Token expired: {}", e.getMessage());
             throw e;
@@ -78,19 +104,84 @@ public class JwtTokenProvider {
         }
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            log.info("Extracted username {}",username);
-            return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-        } catch (Exception e) {
-            log.error("❌ Token validation failed: {}", e.getMessage());
-            return false;
+    /**
+     * Rebuilds the principal from verified claims. Returns {@code null} for tokens
+     * issued before claims (including role ids) were embedded, so the caller loads
+     * the principal from the database instead.
+     *
+     * Role ids are trusted as issued: any change to a user's role set bumps the
+     * token version, which the filter checks on every request. Role names are
+     * kept only as display authorities.
+     */
+    public CustomUserDetails toPrincipal(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null || !claims.containsKey(CLAIM_ROLE_IDS)) {
+            return null;
+        }
+
+        Set<GrantedAuthority> authorities = asList(claims.get(CLAIM_ROLES)).stream()
+                .map(String::valueOf)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toSet());
+
+        Set<Long> roleIds = asList(claims.get(CLAIM_ROLE_IDS)).stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toSet());
+
+        Long version = claims.get(CLAIM_TOKEN_VERSION, Long.class);
+
+        return new CustomUserDetails(
+                userId,
+                claims.get(CLAIM_ORGANIZATION_ID, Long.class),
+                claims.getSubject(),
+                null,
+                fromClaim(claims.get(CLAIM_EMPLOYEE)),
+                authorities,
+                roleIds,
+                version != null ? version : 0L
+        );
+    }
+
+    // ✅ Extract username (subject) safely
+    public String extractUsername(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
+    public Date extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration);
+    }
+
+    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(parseClaims(token));
+    }
+
+    private static Map<String, Object> toClaim(MinimalEmployeeDTO employee) {
+        Map<String, Object> claim = new LinkedHashMap<>();
+        claim.put("id", employee.getId());
+        claim.put("code", employee.getEmployeeCode());
+        claim.put("firstName", employee.getFirstName());
+        claim.put("lastName", employee.getLastName());
+        claim.put("email", employee.getEmail());
+        claim.put("phone", employee.getPhone());
+        return claim;
+    }
+
+    private static MinimalEmployeeDTO fromClaim(Object value) {
+        if (!(value instanceof Map<?, ?> claim)) {
+            return null;
         }
+        Object id = claim.get("id");
+        return MinimalEmployeeDTO.builder()
+                .id(id instanceof Number n ? n.longValue() : null)
+                .employeeCode((String) claim.get("code"))
+                .firstName((String) claim.get("firstName"))
+                .lastName((String) claim.get("lastName"))
+                .email((String) claim.get("email"))
+                .phone((String) claim.get("phone"))
+                .build();
     }
 
-    private boolean isTokenExpired(String token) {
-        final Date expiration = extractExpiration(token);
-        return expiration.before(new Date());
+    private static Collection<?> asList(Object value) {
+        return value instanceof Collection<?> c ? c : List.of();
     }
-}
\ No newline at end of file
+}
@@ -10,21 +10,36 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.dev.core.exception.BaseException;
 import com.dev.core.exception.UnauthorizedAccessException;
 import com.dev.core.service.AuthorizationService;
+import com.dev.core.service.impl.authorization.AuthorizationMemo;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PolicyAuthorizationFilter extends OncePerRequestFilter {
 
     private final AuthorizationService authorizationService;
 
+    // Policy evaluations / memo reuses per request; a rising evaluation count is a regression
+    private final DistributionSummary evaluationsPerRequest;
+    private final DistributionSummary memoHitsPerRequest;
+
+    public PolicyAuthorizationFilter(AuthorizationService authorizationService, MeterRegistry meterRegistry) {
+        this.authorizationService = authorizationService;
+        this.evaluationsPerRequest = DistributionSummary.builder("authz.evaluations.per.request")
+                .description("Authorization checks that evaluated policies within one request")
+                .register(meterRegistry);
+        this.memoHitsPerRequest = DistributionSummary.builder("authz.memo.hits.per.request")
+                .description("Authorization checks answered from the request memo")
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -38,6 +53,26 @@ public class PolicyAuthorizationFilter extends OncePerRequestFilter {
         log.debug("🔍 [PAUTHZ] Incoming → method={}, path={}, resource={}, action={}",
                 request.getMethod(), path, resource, action);
 
+        // Service-level checks later in this request reuse decisions made here
+        AuthorizationMemo memo = AuthorizationMemo.open();
+        try {
+            authorizeAndContinue(request, response, filterChain, path, resource, action);
+        } finally {
+            evaluationsPerRequest.record(memo.getEvaluations());
+            memoHitsPerRequest.record(memo.getMemoHits());
+            log.debug("📊 [PAUTHZ] {} {} → {} authorization evaluations, {} memo hits",
+                    request.getMethod(), path, memo.getEvaluations(), memo.getMemoHits());
+        }
+    }
+
+    private void authorizeAndContinue(HttpServletRequest request,
+                                      HttpServletResponse response,
+                                      FilterChain filterChain,
+                                      String path,
+                                      String resource,
+                                      String action)
+            throws ServletException, IOException {
+
         if (path.startsWith("/api/") && !resource.equals("AUTH")) {
             try {
                 authorizationService.authorize(resource, action);
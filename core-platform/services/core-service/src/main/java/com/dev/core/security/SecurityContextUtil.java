@@ -1,10 +1,14 @@
 package com.dev.core.security;
 
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import com.dev.core.exception.BaseException;
 import com.dev.core.model.MinimalEmployeeDTO;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -54,4 +58,31 @@ public class SecurityContextUtil {
         throw new BaseException("error.auth.employee.invalid");
     }
 
+    /**
+     * Role names granted to the current principal (authorities carry plain role names).
+     */
+    public Set<String> getCurrentRoleNames() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getPrincipal() == null) {
+            throw new BaseException("error.auth.unauthenticated");
+        }
+
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    public Set<Long> getCurrentRoleIds() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getPrincipal() == null) {
+            throw new BaseException("error.auth.unauthenticated");
+        }
+
+        if (auth.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getRoleIds() != null ? userDetails.getRoleIds() : Set.of();
+        }
+
+        throw new BaseException("error.auth.userinfo.invalid");
+    }
+
 }
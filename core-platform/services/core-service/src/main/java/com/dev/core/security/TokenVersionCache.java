@@ -0,0 +1,52 @@
+package com.dev.core.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.dev.core.repository.UserRepository;
+import com.dev.core.util.TransactionUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Short-lived cache of each user's current token version, so the per-request
+ * revocation check does not hit the database. Local changes invalidate the entry
+ * after commit; the TTL bounds staleness for changes made by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionCache {
+
+    private static final long TTL_MS = 30_000;
+    private static final long UNKNOWN_USER = -1L;
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        return tokenVersion != null && tokenVersion == currentVersion(userId);
+    }
+
+    public long currentVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry == null || now - entry.loadedAt() > TTL_MS) {
+            long version = userRepository.findTokenVersionById(userId).orElse(UNKNOWN_USER);
+            entry = new Entry(version, now);
+            entries.put(userId, entry);
+        }
+        return entry.version();
+    }
+
+    /**
+     * Drops the cached version once the surrounding transaction commits.
+     */
+    public void invalidate(Long userId) {
+        TransactionUtils.afterCommit(() -> entries.remove(userId));
+    }
+
+    private record Entry(long version, long loadedAt) {
+    }
+}
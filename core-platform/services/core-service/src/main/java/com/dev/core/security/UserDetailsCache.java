@@ -0,0 +1,151 @@
+package com.dev.core.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dev.core.util.TransactionUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size- and TTL-bounded LRU cache of {@link CustomUserDetails}, keyed by the login
+ * name (username or email) passed to {@link CustomUserDetailsService}.
+ *
+ * Reported through the standard Micrometer cache meters ({@code cache.gets},
+ * {@code cache.evictions}, {@code cache.size}) tagged {@code cache=userDetails}.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final int maxSize;
+    private final long ttlMs;
+
+    private final Map<String, Entry> entries;
+
+    // Bumped on every invalidation (guarded by entries) so a load that raced with one is not cached
+    private long epoch;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private final Counter invalidations;
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${security.user-details-cache.max-size:10000}") int maxSize,
+                            @Value("${security.user-details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlSeconds * 1000;
+
+        this.hits = cacheCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.misses = cacheCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.sizeEvictions = cacheCounter(meterRegistry, "cache.evictions", "cause", "size");
+        this.expirations = cacheCounter(meterRegistry, "cache.evictions", "cause", "expired");
+        this.invalidations = cacheCounter(meterRegistry, "cache.evictions", "cause", "invalidated");
+
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > UserDetailsCache.this.maxSize;
+                if (evict) {
+                    sizeEvictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        Gauge.builder("cache.size", this, UserDetailsCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        log.info("UserDetailsCache configured: maxSize={}, ttl={}s", maxSize, ttlSeconds);
+    }
+
+    public CustomUserDetails get(String login, Function<String, CustomUserDetails> loader) {
+        long now = System.currentTimeMillis();
+        long seenEpoch;
+
+        synchronized (entries) {
+            seenEpoch = epoch;
+            Entry entry = entries.get(login);
+            if (entry != null) {
+                if (now - entry.loadedAt() <= ttlMs) {
+                    hits.increment();
+                    return entry.details();
+                }
+                entries.remove(login);
+                expirations.increment();
+            }
+        }
+
+        // Load outside the lock; concurrent misses for the same login just load twice
+        misses.increment();
+        CustomUserDetails details = loader.apply(login);
+
+        synchronized (entries) {
+            if (epoch == seenEpoch) {
+                entries.put(login, new Entry(details, now));
+            }
+        }
+        return details;
+    }
+
+    /**
+     * Drops every cached entry for the user (it may be cached under both username and
+     * email) once the current transaction commits.
+     */
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            synchronized (entries) {
+                epoch++;
+                Iterator<Entry> it = entries.values().iterator();
+                while (it.hasNext()) {
+                    if (userId.equals(it.next().details().getUserId())) {
+                        it.remove();
+                        invalidations.increment();
+                    }
+                }
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (entries) {
+                epoch++;
+                invalidations.increment(entries.size());
+                entries.clear();
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String name, String tagKey, String tagValue) {
+        return Counter.builder(name)
+                .tag("cache", CACHE_NAME)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+
+    private record Entry(CustomUserDetails details, long loadedAt) {
+    }
+}
@@ -12,8 +12,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.dev.core.security.CustomUserDetails;
 import com.dev.core.security.CustomUserDetailsService;
 import com.dev.core.security.JwtTokenProvider;
+import com.dev.core.security.TokenVersionCache;
 import com.dev.core.wrapper.OrganizationRequestWrapper;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
@@ -32,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,38 +43,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         final String header = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
 
         try {
-            if (header != null && header.startsWith("Bearer ")) {
-                token = header.substring(7);
-                username = jwtTokenProvider.extractUsername(token);
-            }
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                var userDetails = userDetailsService.loadUserByUsername(username);
-
-                if (jwtTokenProvider.validateToken(token, userDetails)) {
-                    UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(auth);
+            if (header != null && header.startsWith("Bearer ")
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                // Signature and expiry are verified here, once
+                Claims claims = jwtTokenProvider.parseClaims(header.substring(7));
+                CustomUserDetails userDetails = jwtTokenProvider.toPrincipal(claims);
+
+                if (userDetails == null) {
+                    // Token issued before claims were embedded → load principal the old way
+                    userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(claims.getSubject());
+                } else if (!tokenVersionCache.isCurrent(userDetails.getUserId(), userDetails.getTokenVersion())) {
+                    log.warn("⚠️ JWT revoked for user {}", userDetails.getUsername());
+                    sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "Token revoked. Please login again.");
+                    return;
+                }
 
-                    log.info("JWT validated for user {}", username);
+                UsernamePasswordAuthenticationToken auth =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(auth);
 
-                    // Inject orgId
-                    Long orgId = ((CustomUserDetails) userDetails).getOrganizationId();
+                log.debug("JWT validated for user {}", userDetails.getUsername());
 
-                    OrganizationRequestWrapper wrappedRequest =
-                            new OrganizationRequestWrapper(request, orgId);
+                // Inject orgId
+                OrganizationRequestWrapper wrappedRequest =
+                        new OrganizationRequestWrapper(request, userDetails.getOrganizationId());
 
-                    filterChain.doFilter(wrappedRequest, response);
-                    return;
-                }
+                filterChain.doFilter(wrappedRequest, response);
+                return;
             }
 
-
             filterChain.doFilter(request, response);
 
         } catch (ExpiredJwtException ex) {
@@ -122,4 +126,3 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return skip;
     }
 }
-
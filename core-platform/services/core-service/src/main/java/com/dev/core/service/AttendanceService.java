@@ -28,6 +28,9 @@ public interface AttendanceService {
 
     List<AttendanceDTO> getEmployeeAttendanceHistory(Long employeeId, LocalDate startDate, LocalDate endDate);
 
+    /** Attendance on the date of everyone reporting to the manager, directly or indirectly */
+    List<AttendanceDTO> getTeamAttendanceForDate(Long managerId, LocalDate date);
+
     Map<String, Object> getAttendanceStats(Long organizationId, LocalDate date);
 
     Map<String, Object> getEmployeeAttendanceSummary(Long employeeId, LocalDate startDate, LocalDate endDate);
@@ -0,0 +1,37 @@
+package com.dev.core.service;
+
+import java.util.List;
+
+import com.dev.core.domain.Employee;
+
+/**
+ * The transitive reporting line, kept in the {@code employee_hierarchy} closure
+ * table. Subordinate lists are cached per manager; every change clears the cache
+ * once the changing transaction commits, and entries expire after a TTL since other
+ * instances' changes are not seen before that.
+ */
+public interface EmployeeHierarchyService {
+
+    /** Everyone reporting to the manager, directly or indirectly, nearest first */
+    List<Long> getSubordinateIds(Long managerId);
+
+    /** Login user ids of {@link #getSubordinateIds(Long)}; reports without a login are skipped */
+    List<Long> getSubordinateUserIds(Long managerId);
+
+    /**
+     * Whether the employee reports to the manager at any level. Read from the closure
+     * table on every call, never from the cache, since it decides approvals.
+     */
+    boolean isSubordinate(Long managerId, Long employeeId);
+
+    /**
+     * Moves the employee, with everyone under it, below its current
+     * {@link Employee#getManager()} (or to the top when it has none). Call after the
+     * manager changed from {@code previousManagerId}; rejects a move that would make
+     * the employee report to one of its own reports.
+     */
+    void managerChanged(Employee employee, Long previousManagerId);
+
+    /** Drops the employee from the hierarchy before it is deleted */
+    void remove(Employee employee);
+}
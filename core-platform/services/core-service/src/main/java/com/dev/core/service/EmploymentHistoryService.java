@@ -1,5 +1,6 @@
 package com.dev.core.service;
 
+import com.dev.core.model.DepartmentMonthlyMetricsDTO;
 import com.dev.core.model.EmploymentHistoryDTO;
 
 import java.util.List;
@@ -16,4 +17,7 @@ public interface EmploymentHistoryService {
     long countPromotions(Long organizationId);
 
     long countResignations(Long organizationId);
+
+    /** Joins, promotions and resignations per department and month of the year */
+    List<DepartmentMonthlyMetricsDTO> getMonthlyMetrics(Long organizationId, int year);
 }
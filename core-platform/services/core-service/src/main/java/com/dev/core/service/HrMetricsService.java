@@ -0,0 +1,23 @@
+package com.dev.core.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.dev.core.domain.Employee;
+import com.dev.core.repository.projection.DepartmentMonthlyMetrics;
+
+/**
+ * Monthly HR counters (joins, promotions, resignations) per department. Updates
+ * join the caller's transaction, so a rolled-back change is not counted; employees
+ * without an organization are not counted.
+ */
+public interface HrMetricsService {
+
+    void recordJoin(Employee employee, LocalDate date);
+
+    void recordPromotion(Employee employee, LocalDate date);
+
+    void recordResignation(Employee employee, LocalDate date);
+
+    List<DepartmentMonthlyMetrics> getMonthlyMetrics(Long organizationId, int year);
+}
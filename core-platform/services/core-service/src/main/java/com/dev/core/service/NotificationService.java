@@ -5,7 +5,8 @@ import java.util.List;
 public interface NotificationService {
 
     /**
-     * Sends a plain text email.
+     * Sends a plain text email. The message is queued in the email outbox within the
+     * caller's transaction and delivered asynchronously.
      *
      * @param to Recipient email
      * @param subject Email subject
@@ -24,7 +25,8 @@ public interface NotificationService {
     void sendTemplateEmail(String to, String subject, String templateName, Object variables);
 
     /**
-     * Common error logging or fallback for notification failures.
+     * Common error logging or fallback for notifications that could not be queued.
+     * Delivery failures are retried by the outbox and dead-lettered there.
      */
     void handleNotificationFailure(String recipient, String reason, Exception ex);
     
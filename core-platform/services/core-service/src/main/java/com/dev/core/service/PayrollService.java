@@ -2,6 +2,7 @@ package com.dev.core.service;
 
 import com.dev.core.dto.PayrollDTO;
 import com.dev.core.dto.PayrollHistoryDTO;
+import com.dev.core.dto.PayrollRunDTO;
 import com.dev.core.dto.PayrollSummaryDTO;
 
 import java.time.LocalDate;
@@ -50,6 +51,8 @@ public interface PayrollService {
 
     List<PayrollDTO> bulkMarkAsPaid(List<Long> payrollIds, Long paidBy);
 
+    List<PayrollRunDTO> getPayrollRuns(Long organizationId);
+
     // Summary & Statistics
     PayrollSummaryDTO getPayrollSummary(Long organizationId, Integer month, Integer year);
 
@@ -1,6 +1,10 @@
 package com.dev.core.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import com.dev.core.model.ProjectActivityDTO;
+import com.dev.core.service.export.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,5 +16,8 @@ public interface ProjectActivityService {
 
     ProjectActivityDTO getActivity(Long id);
     
-    byte[] exportActivities(Long projectId, String format);
+    /**
+     * Streams the project's activity log to {@code out} in the given format.
+     */
+    void exportActivities(Long projectId, ExportFormat format, OutputStream out) throws IOException;
 }
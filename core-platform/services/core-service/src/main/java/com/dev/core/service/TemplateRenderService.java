@@ -6,6 +6,8 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import com.dev.core.email.EmailTemplateCache;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -13,10 +15,12 @@ import lombok.RequiredArgsConstructor;
 public class TemplateRenderService {
 
     private final SpringTemplateEngine engine;
+    private final EmailTemplateCache templateCache;
 
     public String render(String templateName, Map<String, Object> variables) {
         Context ctx = new Context();
         ctx.setVariables(variables);
-        return engine.process(templateName, ctx);
+        // Render under the versioned name so the engine reuses the parsed template
+        return engine.process(templateCache.cacheKey(templateName), ctx);
     }
 }
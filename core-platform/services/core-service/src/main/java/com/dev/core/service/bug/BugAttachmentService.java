@@ -3,6 +3,7 @@ package com.dev.core.service.bug;
 import com.dev.core.model.bug.BugAttachmentDTO;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public interface BugAttachmentService {
@@ -13,5 +14,5 @@ public interface BugAttachmentService {
 
     List<BugAttachmentDTO> getAttachmentsByBug(Long bugId);
 
-	byte[] getAttachmentFileBytes(Long attachmentId);
+	Path getAttachmentFilePath(Long attachmentId);
 }
@@ -0,0 +1,14 @@
+package com.dev.core.service.export;
+
+import java.util.function.Function;
+
+/**
+ * One column of an export: its header and how to read the cell value from a row.
+ * Values are written as numbers when they are {@link Number}s and as text otherwise.
+ */
+public record ExportColumn<T>(String header, Function<T, ?> value) {
+
+    public static <T> ExportColumn<T> of(String header, Function<T, ?> value) {
+        return new ExportColumn<>(header, value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dev.core.service.export;
+
+/**
+ * File formats supported by {@link TabularExporter}.
+ */
+public enum ExportFormat {
+
+    EXCEL("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Parses a request parameter; anything other than CSV falls back to Excel.
+     */
+    public static ExportFormat from(String value) {
+        return "CSV".equalsIgnoreCase(value) ? CSV : EXCEL;
+    }
+}
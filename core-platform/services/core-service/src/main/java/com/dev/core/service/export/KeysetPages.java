@@ -0,0 +1,67 @@
+package com.dev.core.service.export;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lazily walks a keyset-paged query so an export only ever holds one page of rows.
+ *
+ * {@code fetch} receives the key of the last row already returned ({@code null} for
+ * the first page) and returns the next page in key order; an empty or short page ends
+ * the iteration. Callers should run it outside a transaction and page over
+ * projections rather than entities, so written rows are never held by a
+ * persistence context and can be collected.
+ */
+public final class KeysetPages<T, K> implements Iterable<T> {
+
+    private final Function<K, List<T>> fetch;
+    private final Function<T, K> keyOf;
+    private final int pageSize;
+
+    private KeysetPages(Function<K, List<T>> fetch, Function<T, K> keyOf, int pageSize) {
+        this.fetch = fetch;
+        this.keyOf = keyOf;
+        this.pageSize = pageSize;
+    }
+
+    public static <T, K> KeysetPages<T, K> of(Function<K, List<T>> fetch, Function<T, K> keyOf, int pageSize) {
+        return new KeysetPages<>(fetch, keyOf, pageSize);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private List<T> page = fetch.apply(null);
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (page.size() < pageSize) {
+                    return false;
+                }
+                page = nextPage();
+                index = 0;
+                return !page.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+
+            private List<T> nextPage() {
+                List<T> next = fetch.apply(keyOf.apply(page.get(page.size() - 1)));
+                return next != null ? next : Collections.emptyList();
+            }
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package com.dev.core.service.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.FileBlob;
+import com.dev.core.repository.FileBlobRepository;
+import com.dev.core.util.TransactionUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed, deduplicating store for uploaded file bodies.
+ *
+ * An upload is hashed (SHA-256) while it streams to a temp file; its content id is
+ * the hex digest plus the original extension, and the body lives once under
+ * {@code <upload dir>/blobs/ab/cd/<hash>}. Uploading bytes that are already stored
+ * only adds a reference in {@code file_blobs}; {@link #release(String)} drops one
+ * after the caller's transaction commits and deletes the body with the last.
+ *
+ * Each reference change runs in its own short transaction that holds the blob's row
+ * lock ({@code SELECT ... FOR UPDATE}) while the body is written or deleted, so an
+ * upload on one instance can never re-reference a body that another instance is
+ * deleting. If the caller then rolls back, the blob keeps an extra reference (a
+ * leaked file, never a deleted live one).
+ */
+@Component
+@Slf4j
+public class BlobStore {
+
+    private static final Pattern CONTENT_ID = Pattern.compile("^[0-9a-f]{64}(\\.[A-Za-z0-9]{1,16})?$");
+    private static final Pattern EXTENSION = Pattern.compile("^\\.[A-Za-z0-9]{1,16}$");
+
+    private final FileBlobRepository blobRepository;
+    private final TransactionTemplate ownTransaction;
+    private final Path root;
+
+    private final Counter storedNew;
+    private final Counter storedDeduplicated;
+    private final Counter deleted;
+
+    public BlobStore(FileBlobRepository blobRepository,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.upload.dir:uploads}") String uploadDir) {
+        this.blobRepository = blobRepository;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.root = Paths.get(uploadDir, "blobs").normalize();
+
+        this.storedNew = Counter.builder("file.blobs.stored").tag("result", "new").register(meterRegistry);
+        this.storedDeduplicated = Counter.builder("file.blobs.stored").tag("result", "deduplicated").register(meterRegistry);
+        this.deleted = Counter.builder("file.blobs.deleted").register(meterRegistry);
+    }
+
+    /**
+     * Stores the stream (or references the identical body already stored) and
+     * returns its content id.
+     *
+     * @param extension original file extension including the dot, or empty
+     */
+    public String store(InputStream content, String extension) throws IOException {
+        Path tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            if (addReference(hash, size, tmp)) {
+                storedDeduplicated.increment();
+            } else {
+                storedNew.increment();
+            }
+            return hash + normalizeExtension(extension);
+
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public boolean isContentId(String fileId) {
+        return fileId != null && CONTENT_ID.matcher(fileId).matches();
+    }
+
+    public Path resolve(String contentId) {
+        return blobPath(hashOf(contentId));
+    }
+
+    /**
+     * Drops one reference once the current transaction commits; the body is
+     * deleted when no references remain.
+     */
+    public void release(String contentId) {
+        String hash = hashOf(contentId);
+        TransactionUtils.afterCommit(() -> ownTransaction.executeWithoutResult(tx -> {
+            FileBlob blob = blobRepository.findByContentHashForUpdate(hash).orElse(null);
+            if (blob == null) {
+                return;
+            }
+            if (blob.getRefCount() > 1) {
+                blob.setRefCount(blob.getRefCount() - 1);
+                return;
+            }
+            blobRepository.delete(blob);
+            blobRepository.flush();
+            // Still under the row lock: an upload of the same content waits, then re-creates row and body
+            try {
+                Files.deleteIfExists(blobPath(hash));
+                deleted.increment();
+            } catch (IOException e) {
+                log.warn("⚠ Failed to delete unreferenced blob {}: {}", hash, e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Adds a reference to the blob, registering it if new, and makes sure its body is
+     * on disk (moving the upload into place if not). Returns whether it was known.
+     */
+    private boolean addReference(String hash, long size, Path upload) throws IOException {
+        try {
+            return Boolean.TRUE.equals(ownTransaction.execute(tx -> {
+                FileBlob blob = blobRepository.findByContentHashForUpdate(hash).orElse(null);
+                if (blob != null) {
+                    blob.setRefCount(blob.getRefCount() + 1);
+                    ensureBody(hash, upload, true);
+                    return true;
+                }
+                blob = new FileBlob();
+                blob.setContentHash(hash);
+                blob.setSizeBytes(size);
+                blob.setRefCount(1);
+                blobRepository.saveAndFlush(blob);
+                ensureBody(hash, upload, false);
+                return false;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance registered the same content first; its row now exists to lock
+            return addReference(hash, size, upload);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void ensureBody(String hash, Path upload, boolean known) {
+        Path target = blobPath(hash);
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Rolls the reference back with it
+            throw new UncheckedIOException(e);
+        }
+        if (known) {
+            log.warn("⚠ Blob {} was registered but missing on disk; restored from upload", hash);
+        }
+    }
+
+    private Path blobPath(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static String hashOf(String contentId) {
+        int dot = contentId.indexOf('.');
+        return dot < 0 ? contentId : contentId.substring(0, dot);
+    }
+
+    private static String normalizeExtension(String extension) {
+        if (extension == null || !EXTENSION.matcher(extension).matches()) {
+            return "";
+        }
+        return extension.toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
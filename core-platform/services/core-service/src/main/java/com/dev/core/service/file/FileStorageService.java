@@ -10,15 +10,24 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
+/**
+ * Stores uploads in the shared {@link BlobStore}; the returned file id is the blob's
+ * content id. Ids issued before the blob store (random UUIDs under
+ * {@code <upload dir>/<owner id>/}) still resolve and delete as before.
+ */
 @Service
 public class FileStorageService {
 
     @Value("${app.upload.dir}")
     private String uploadDir;
 
+    private final BlobStore blobStore;
+
+    public FileStorageService(BlobStore blobStore) {
+        this.blobStore = blobStore;
+    }
+
     private final String[] allowedTypes = {
         "application/pdf", "image/jpeg", "image/png",
         "application/msword",
@@ -31,16 +40,10 @@ public class FileStorageService {
         validateFile(file);
 
         try {
-            Path clientDir = Paths.get(uploadDir, clientId.toString());
-            Files.createDirectories(clientDir);
-
             String fileExt = getFileExtension(file.getOriginalFilename());
-            String fileId = UUID.randomUUID().toString() + fileExt;
-            Path targetLocation = clientDir.resolve(fileId);
 
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            return fileId; // This is what you store in DB as fileId
+            // Identical content already stored only gains a reference
+            return blobStore.store(file.getInputStream(), fileExt); // This is what you store in DB as fileId
 
         } catch (IOException ex) {
         	ex.printStackTrace();
@@ -49,11 +52,18 @@ public class FileStorageService {
     }
 
     public Path getFilePath(String fileId, Long clientId) {
+        if (blobStore.isContentId(fileId)) {
+            return blobStore.resolve(fileId);
+        }
         return Paths.get(uploadDir
         		, clientId.toString(), fileId);
     }
 
     public void deleteFile(String fileId, Long clientId) {
+        if (blobStore.isContentId(fileId)) {
+            blobStore.release(fileId);
+            return;
+        }
         try {
             Path filePath = getFilePath(fileId, clientId);
             Files.deleteIfExists(filePath);
@@ -90,20 +100,5 @@ public class FileStorageService {
         }
         return fileName.substring(fileName.lastIndexOf("."));
     }
-    
-    public byte[] getFileBytes(String fileId, Long clientId) {
-        try {
-            Path filePath = getFilePath(fileId, clientId);
-
-            if (!Files.exists(filePath)) {
-                throw new BaseException("error.file.not.found", new Object[]{fileId});
-            }
-
-            return Files.readAllBytes(filePath);
-
-        } catch (IOException e) {
-            throw new BaseException("error.file.read.failed", new Object[]{fileId});
-        }
-    }
 
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.dev.core.exception.BaseException;
 import com.dev.core.mapper.AnnouncementMapper;
 import com.dev.core.model.AnnouncementDTO;
 import com.dev.core.repository.AnnouncementRepository;
+import com.dev.core.repository.projection.StatusCount;
 import com.dev.core.service.AnnouncementService;
 import com.dev.core.service.AuthorizationService;
 import com.dev.core.specification.SpecificationBuilder;
@@ -196,9 +197,15 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         authorize("READ");
 
         Map<String, Object> stats = new HashMap<>();
-        
-        Long totalCount = announcementRepository.countByOrganizationIdAndActiveTrue(organizationId);
-        Long activeCount = announcementRepository.countByOrganizationIdAndActiveTrueAndStatus(organizationId, "Active");
+
+        long totalCount = 0;
+        long activeCount = 0;
+        for (StatusCount row : announcementRepository.countActiveByStatus(organizationId)) {
+            totalCount += row.count();
+            if ("Active".equals(row.status())) {
+                activeCount = row.count();
+            }
+        }
         
         stats.put("totalPosts", totalCount);
         stats.put("active", activeCount);
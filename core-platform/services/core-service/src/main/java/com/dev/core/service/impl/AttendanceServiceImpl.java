@@ -7,8 +7,11 @@ import com.dev.core.mapper.AttendanceMapper;
 import com.dev.core.model.AttendanceDTO;
 import com.dev.core.repository.AttendanceRepository;
 import com.dev.core.repository.EmployeeRepository;
+import com.dev.core.repository.projection.AttendanceTotals;
+import com.dev.core.repository.projection.DepartmentStatusCount;
 import com.dev.core.service.AttendanceService;
 import com.dev.core.service.AuthorizationService;
+import com.dev.core.service.EmployeeHierarchyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +34,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
     private final AuthorizationService authorizationService;
+    private final EmployeeHierarchyService hierarchyService;
 
     private static final LocalTime STANDARD_CHECK_IN_TIME = LocalTime.of(9, 0); // 9:00 AM
 
@@ -218,22 +222,45 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDTO> getTeamAttendanceForDate(Long managerId, LocalDate date) {
+        authorize("READ");
+
+        List<Long> teamIds = hierarchyService.getSubordinateIds(managerId);
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        return attendanceRepository.findByEmployeeIdInAndAttendanceDate(teamIds, date)
+                .stream()
+                .map(AttendanceMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> getAttendanceStats(Long organizationId, LocalDate date) {
         authorize("READ");
 
         Map<String, Object> stats = new HashMap<>();
-        
-        Long presentCount = attendanceRepository.countByOrganizationIdAndDateAndStatus(organizationId, date, "Present");
-        Long lateCount = attendanceRepository.countByOrganizationIdAndDateAndStatus(organizationId, date, "Late");
-        Long absentCount = attendanceRepository.countByOrganizationIdAndDateAndStatus(organizationId, date, "Absent");
-        Long onLeaveCount = attendanceRepository.countByOrganizationIdAndDateAndStatus(organizationId, date, "On Leave");
+
+        // One grouped query; the organization-wide counts are folded from the department rows
+        List<DepartmentStatusCount> byDepartment = attendanceRepository.countByDepartmentAndStatus(organizationId, date);
+        Map<String, Long> byStatus = byDepartment.stream()
+                .filter(c -> c.status() != null)
+                .collect(Collectors.groupingBy(DepartmentStatusCount::status,
+                        Collectors.summingLong(DepartmentStatusCount::count)));
+
+        Long presentCount = byStatus.getOrDefault("Present", 0L);
+        Long lateCount = byStatus.getOrDefault("Late", 0L);
+        Long absentCount = byStatus.getOrDefault("Absent", 0L);
+        Long onLeaveCount = byStatus.getOrDefault("On Leave", 0L);
         
         stats.put("presentToday", presentCount + lateCount);
         stats.put("absent", absentCount);
         stats.put("lateArrivals", lateCount);
         stats.put("onLeave", onLeaveCount);
+        stats.put("byDepartment", byDepartment);
         
         return stats;
     }
@@ -243,14 +270,14 @@ public class AttendanceServiceImpl implements AttendanceService {
     public Map<String, Object> getEmployeeAttendanceSummary(Long employeeId, LocalDate startDate, LocalDate endDate) {
         authorize("READ");
 
-        List<Attendance> records = attendanceRepository.findByEmployeeIdAndAttendanceDateBetween(employeeId, startDate, endDate);
+        AttendanceTotals totals = attendanceRepository.sumForEmployee(employeeId, startDate, endDate);
         
         Map<String, Object> summary = new HashMap<>();
         
-        long presentDays = records.stream().filter(a -> "Present".equals(a.getStatus()) || "Late".equals(a.getStatus())).count();
-        long absentDays = records.stream().filter(a -> "Absent".equals(a.getStatus())).count();
-        long lateDays = records.stream().filter(a -> Boolean.TRUE.equals(a.getIsLate())).count();
-        double totalHours = records.stream().mapToDouble(a -> a.getWorkHours() != null ? a.getWorkHours() : 0).sum();
+        long presentDays = totals.presentDays();
+        long absentDays = totals.absentDays();
+        long lateDays = totals.lateDays();
+        double totalHours = totals.totalWorkHours();
         
         summary.put("presentDays", presentDays);
         summary.put("absentDays", absentDays);
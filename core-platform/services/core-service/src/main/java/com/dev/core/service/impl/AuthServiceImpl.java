@@ -30,10 +30,15 @@ import com.dev.core.model.RoleSummary;
 import com.dev.core.model.UserDTO;
 import com.dev.core.repository.PasswordResetTokenRepository;
 import com.dev.core.repository.UserRepository;
+import com.dev.core.security.CustomUserDetails;
+import com.dev.core.security.CustomUserDetailsService;
 import com.dev.core.security.JwtTokenProvider;
+import com.dev.core.security.TokenVersionCache;
+import com.dev.core.security.UserDetailsCache;
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.RefreshTokenService;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -53,6 +58,9 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordResetTokenRepository tokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserDetailsCache userDetailsCache;
 
     private static final long ACCESS_TOKEN_EXPIRATION_MINUTES = 60;
     
@@ -71,7 +79,8 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        String accessToken = jwtTokenProvider.generateToken(user.getUsername());
+        // Principal was just loaded by the authentication manager; embed it in the token
+        String accessToken = jwtTokenProvider.generateToken((CustomUserDetails) auth.getPrincipal());
 
         RefreshTokenDTO refreshToken = refreshTokenService.createToken(
                 UserDTO.builder()
@@ -108,7 +117,8 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findById(token.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        String newAccessToken = jwtTokenProvider.generateToken(user.getUsername());
+        String newAccessToken = jwtTokenProvider.generateToken(
+                (CustomUserDetails) userDetailsService.loadUserByUsername(user.getEmail()));
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
@@ -134,12 +144,9 @@ public class AuthServiceImpl implements AuthService {
 
         // Try Access Token first
         try {
-            String username = jwtTokenProvider.extractUsername(token);
-            Date expiration = jwtTokenProvider.extractExpiration(token);
-
-            if (expiration.before(new Date())) {
-                throw new ExpiredJwtException(null, null, "Token expired");
-            }
+            // Parsing rejects expired tokens with ExpiredJwtException
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            String username = claims.getSubject();
 
             User user = userRepository.findByUsernameOrEmailWithRoles(username)
                     .orElseThrow(() -> new RuntimeException("User not found"));
@@ -263,9 +270,12 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BaseException("error.user.not.found"));
 
-        // Update password safely
+        // Update password safely and revoke access tokens issued with the old one
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.setTokenVersion(Optional.ofNullable(user.getTokenVersion()).orElse(0L) + 1);
         userRepository.save(user);
+        tokenVersionCache.invalidate(userId);
+        userDetailsCache.invalidateUser(userId);
 
         // Mark token inactive
         token.setActive(false);
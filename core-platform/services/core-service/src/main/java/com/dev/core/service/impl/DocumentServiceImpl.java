@@ -7,10 +7,10 @@ import com.dev.core.model.DocumentDTO;
 import com.dev.core.repository.DocumentRepository;
 import com.dev.core.service.AuthorizationService;
 import com.dev.core.service.DocumentService;
+import com.dev.core.service.file.BlobStore;
 import com.dev.core.service.validation.DocumentValidator;
 import com.dev.core.specification.SpecificationBuilder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,9 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.*;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,13 +31,7 @@ public class DocumentServiceImpl implements DocumentService {
     private final DocumentRepository documentRepository;
     private final DocumentValidator documentValidator;
     private final AuthorizationService authorizationService;
-
-    /**
-     * Directory where uploaded files are stored. Can be configured in application.properties.
-     * Example: app.upload.dir=/var/app/uploads
-     */
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final BlobStore blobStore;
 
     private void authorize(String action) {
         String resource = "DOCUMENT";
@@ -59,25 +51,14 @@ public class DocumentServiceImpl implements DocumentService {
             throw new BaseException("validation.document.file.required");
         }
 
-        // Ensure upload dir exists
         try {
-            Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // Generate fileId (UUID). Keep original extension if present.
+            // Content-addressed fileId (hash + original extension); identical uploads share one stored copy
             String original = file.getOriginalFilename();
             String ext = "";
             if (original != null && original.contains(".")) {
                 ext = original.substring(original.lastIndexOf('.'));
             }
-            String uuid = UUID.randomUUID().toString();
-            String storedFileName = uuid + ext;
-            Path target = uploadPath.resolve(storedFileName);
-
-            // Copy file stream to the target location (replace existing just in case)
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+            String storedFileName = blobStore.store(file.getInputStream(), ext);
 
             // Populate DocumentDTO with fileId (we store storedFileName as the fileId)
             dto.setFileId(storedFileName);
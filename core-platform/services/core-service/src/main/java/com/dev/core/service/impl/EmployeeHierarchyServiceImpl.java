@@ -0,0 +1,248 @@
+package com.dev.core.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.EmployeeHierarchy;
+import com.dev.core.exception.ValidationFailedException;
+import com.dev.core.repository.EmployeeHierarchyRepository;
+import com.dev.core.repository.EmployeeRepository;
+import com.dev.core.service.EmployeeHierarchyService;
+import com.dev.core.util.TransactionUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@Transactional
+public class EmployeeHierarchyServiceImpl implements EmployeeHierarchyService {
+
+    private static final String CACHE_NAME = "subordinates";
+
+    // Guards the backfill against manager cycles already present in the data
+    private static final int MAX_DEPTH = 64;
+
+    private final EmployeeHierarchyRepository hierarchyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxSize;
+    // Invalidation only reaches this instance; the TTL bounds how long others serve a stale line
+    private final long ttlMs;
+    private final Map<Long, Subordinates> cache;
+
+    // Bumped on every invalidation (guarded by cache) so a load that raced with one is not cached
+    private long epoch;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+
+    private record Subordinates(Set<Long> employeeIds, List<Long> userIds, long loadedAt) {
+    }
+
+    public EmployeeHierarchyServiceImpl(EmployeeHierarchyRepository hierarchyRepository,
+                                        EmployeeRepository employeeRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${hierarchy.subordinates-cache.max-size:5000}") int maxSize,
+                                        @Value("${hierarchy.subordinates-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.hierarchyRepository = hierarchyRepository;
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlSeconds * 1000;
+
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Subordinates> eldest) {
+                return size() > EmployeeHierarchyServiceImpl.this.maxSize;
+            }
+        };
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.expirations = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).tag("cause", "expired")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, EmployeeHierarchyServiceImpl::cacheSize)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    // ---------------------------------------------------------------------
+    // READ
+    // ---------------------------------------------------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getSubordinateIds(Long managerId) {
+        return new ArrayList<>(subordinates(managerId).employeeIds());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getSubordinateUserIds(Long managerId) {
+        return subordinates(managerId).userIds();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isSubordinate(Long managerId, Long employeeId) {
+        // Not from the cache: approvals must not trust a reporting line changed on another instance
+        return managerId != null && employeeId != null
+                && hierarchyRepository.existsByAncestorIdAndDescendantId(managerId, employeeId);
+    }
+
+    private Subordinates subordinates(Long managerId) {
+        if (managerId == null) {
+            return new Subordinates(Set.of(), List.of(), 0L);
+        }
+        long now = System.currentTimeMillis();
+        long seenEpoch;
+        synchronized (cache) {
+            seenEpoch = epoch;
+            Subordinates cached = cache.get(managerId);
+            if (cached != null) {
+                if (now - cached.loadedAt() <= ttlMs) {
+                    hits.increment();
+                    return cached;
+                }
+                cache.remove(managerId);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        List<Long> userIds = new ArrayList<>();
+        for (Map<String, Object> row : hierarchyRepository.findSubordinates(managerId)) {
+            employeeIds.add((Long) row.get("employeeId"));
+            if (row.get("userId") != null) {
+                userIds.add((Long) row.get("userId"));
+            }
+        }
+        Subordinates loaded = new Subordinates(Collections.unmodifiableSet(employeeIds), List.copyOf(userIds), now);
+
+        synchronized (cache) {
+            if (epoch == seenEpoch) {
+                cache.put(managerId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // ---------------------------------------------------------------------
+    // MAINTENANCE
+    // ---------------------------------------------------------------------
+    @Override
+    public void managerChanged(Employee employee, Long previousManagerId) {
+        Long employeeId = employee.getId();
+        Long managerId = employee.getManager() != null ? employee.getManager().getId() : null;
+        if (Objects.equals(previousManagerId, managerId)) {
+            return;
+        }
+
+        if (managerId != null && (managerId.equals(employeeId)
+                || hierarchyRepository.existsByAncestorIdAndDescendantId(employeeId, managerId))) {
+            throw new ValidationFailedException("error.employee.manager.cycle", new Object[]{employeeId, managerId});
+        }
+
+        detach(employeeId);
+        if (managerId != null) {
+            Long orgId = employee.getOrganizationId();
+            hierarchyRepository.linkAncestorsToEmployee(orgId, managerId, employeeId);
+            hierarchyRepository.linkManagerToSubtree(orgId, managerId, employeeId);
+            hierarchyRepository.linkAncestorsToSubtree(orgId, managerId, employeeId);
+
+            EmployeeHierarchy direct = new EmployeeHierarchy();
+            direct.setOrganizationId(orgId);
+            direct.setAncestorId(managerId);
+            direct.setDescendantId(employeeId);
+            direct.setDepth(1);
+            hierarchyRepository.save(direct);
+        }
+        invalidateAll();
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        detach(employee.getId());
+        hierarchyRepository.deleteByAncestorId(employee.getId());
+        invalidateAll();
+    }
+
+    /** Cuts the employee and its subtree off from everyone above the employee */
+    private void detach(Long employeeId) {
+        List<Long> ancestors = hierarchyRepository.findAncestorIds(employeeId);
+        if (ancestors.isEmpty()) {
+            return;
+        }
+        List<Long> subtree = new ArrayList<>(hierarchyRepository.findDescendantIds(employeeId));
+        subtree.add(employeeId);
+        hierarchyRepository.unlink(ancestors, subtree);
+    }
+
+    private void invalidateAll() {
+        TransactionUtils.afterCommit(() -> {
+            synchronized (cache) {
+                epoch++;
+                cache.clear();
+            }
+        });
+    }
+
+    private int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Seeds the closure table from {@code Employee.manager} the first time the
+     * application starts with it empty, one reporting level per statement. Employees
+     * set as their own manager get no row, and every statement skips pairs already
+     * seeded, so manager cycles in the data cannot collide with
+     * uk_employee_hierarchy_pair. When several instances start together only one seed
+     * commits; the others hit the unique key and roll back.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> seedIfEmpty());
+        } catch (DataIntegrityViolationException ex) {
+            log.info("🧭 Employee hierarchy was seeded by another instance; skipping");
+        }
+    }
+
+    private void seedIfEmpty() {
+        if (hierarchyRepository.count() > 0 || !employeeRepository.existsByManagerIsNotNull()) {
+            return;
+        }
+        int rows = hierarchyRepository.seedDirectReports();
+        int depth = 1;
+        for (int added = rows; added > 0 && depth < MAX_DEPTH; depth++) {
+            added = hierarchyRepository.seedNextLevel(depth);
+            rows += added;
+        }
+        log.info("🧭 Seeded {} employee hierarchy rows ({} reporting levels)", rows, depth);
+    }
+}
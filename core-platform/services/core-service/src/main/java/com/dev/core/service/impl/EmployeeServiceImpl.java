@@ -39,8 +39,12 @@ import com.dev.core.repository.RoleRepository;
 import com.dev.core.repository.TeamMemberRepository;
 import com.dev.core.repository.TeamRepository;
 import com.dev.core.security.SecurityContextUtil;
+import com.dev.core.security.UserDetailsCache;
+import com.dev.core.service.impl.identity.UserIdentityResolver;
 import com.dev.core.service.AuthorizationService;
+import com.dev.core.service.EmployeeHierarchyService;
 import com.dev.core.service.EmployeeService;
+import com.dev.core.service.HrMetricsService;
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.UserService;
 import com.dev.core.service.validation.EmployeeValidator;
@@ -71,8 +75,12 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final UserService userService;
 
     private final NotificationService notificationService;
+    private final HrMetricsService hrMetricsService;
+    private final EmployeeHierarchyService hierarchyService;
     private final EmployeeAssetRepository employeeAssetRepository;
     private final SecurityContextUtil securityContext;
+    private final UserDetailsCache userDetailsCache;
+    private final UserIdentityResolver userIdentityResolver;
    
 
     /**
@@ -136,6 +144,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         entity.setJoiningDate(LocalDate.now());
         entity.setWorkEmail(dto.getFirstName().replaceAll(" ", "")+"."+dto.getLastName().replaceAll(" ","")+"@yopmail.com");
         Employee saved = employeeRepository.save(entity);
+        hrMetricsService.recordJoin(saved, saved.getJoiningDate());
+        hierarchyService.managerChanged(saved, null);
         log.info("✅ Employee created: {} ({})", saved.getFirstName(), saved.getEmail());
         
         // Automatically determine role based on designation
@@ -225,16 +235,24 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (dto.getSecurityTraining() != null) existing.setSecurityTraining(dto.getSecurityTraining());
         if (dto.getToolsTraining() != null) existing.setToolsTraining(dto.getToolsTraining());
 
+        Long previousManagerId = existing.getManager() != null ? existing.getManager().getId() : null;
         if (dto.getManagerId() != null) {
             Employee manager = employeeRepository.findById(dto.getManagerId())
                     .orElseThrow(() -> new ValidationFailedException("error.manager.notfound", new Object[]{dto.getManagerId()}));
             existing.setManager(manager);
+            hierarchyService.managerChanged(existing, previousManagerId);
         }
 
 
         Employee updated = employeeRepository.save(existing);
         log.info("✏️ Employee updated: {}", updated.getEmail());
 
+        // Cached principals embed the employee summary (name, email, phone)
+        if (updated.getUser() != null) {
+            userDetailsCache.invalidateUser(updated.getUser().getId());
+            userIdentityResolver.invalidate(updated.getUser().getId());
+        }
+
         return EmployeeMapper.toDTO(updated);
     }
 
@@ -247,10 +265,15 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (id == null)
             throw new ValidationFailedException("error.employee.id.required");
 
-        if (!employeeRepository.existsById(id))
-            throw new ValidationFailedException("error.employee.notfound", new Object[]{id});
+        Employee existing = employeeRepository.findById(id)
+                .orElseThrow(() -> new ValidationFailedException("error.employee.notfound", new Object[]{id}));
 
-        employeeRepository.deleteById(id);
+        hierarchyService.remove(existing);
+        employeeRepository.delete(existing);
+        if (existing.getUser() != null) {
+            userDetailsCache.invalidateUser(existing.getUser().getId());
+            userIdentityResolver.invalidate(existing.getUser().getId());
+        }
         log.info("🗑️ Employee deleted: {}", id);
     }
 
@@ -357,6 +380,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         hist.setRemarks(remarks);
         hist.setOrganizationId(emp.getOrganizationId());
         historyRepository.save(hist);
+        hrMetricsService.recordResignation(emp, hist.getEffectiveDate());
 
         log.info("🚪 Employee {} marked as resigned", employeeId);
     }
@@ -395,6 +419,12 @@ public class EmployeeServiceImpl implements EmployeeService {
         hist.setOrganizationId(emp.getOrganizationId());
         historyRepository.save(hist);
 
+        // Same rule as the history-based count: only a designation change is a promotion
+        if (hist.getNewDesignation() != null && oldDesig != null
+                && !hist.getNewDesignation().equalsIgnoreCase(oldDesig)) {
+            hrMetricsService.recordPromotion(emp, hist.getEffectiveDate());
+        }
+
         log.info("🎖️ Employee {} promoted to {}", employeeId, newDesignation);
     }
 
@@ -501,7 +531,9 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee manager = employeeRepository.findById(managerId)
                 .orElseThrow(() -> new ValidationFailedException("error.manager.notfound", new Object[]{managerId}));
 
+        Long previousManagerId = employee.getManager() != null ? employee.getManager().getId() : null;
         employee.setManager(manager);
+        hierarchyService.managerChanged(employee, previousManagerId);
         employeeRepository.save(employee);
 
         // Send notification to manager
@@ -531,6 +563,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (oldManager == null) return;
 
         employee.setManager(null);
+        hierarchyService.managerChanged(employee, oldManager.getId());
         employeeRepository.save(employee);
 
         // Notify previous manager
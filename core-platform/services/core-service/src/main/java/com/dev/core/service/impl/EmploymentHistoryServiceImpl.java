@@ -4,11 +4,13 @@ import com.dev.core.domain.EmploymentHistory;
 import com.dev.core.domain.Employee;
 import com.dev.core.exception.ValidationFailedException;
 import com.dev.core.mapper.EmploymentHistoryMapper;
+import com.dev.core.model.DepartmentMonthlyMetricsDTO;
 import com.dev.core.model.EmploymentHistoryDTO;
 import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.EmploymentHistoryRepository;
 import com.dev.core.service.AuthorizationService;
 import com.dev.core.service.EmploymentHistoryService;
+import com.dev.core.service.HrMetricsService;
 import com.dev.core.service.validation.EmploymentHistoryValidator;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ public class EmploymentHistoryServiceImpl implements EmploymentHistoryService {
     private final EmployeeRepository employeeRepository;
     private final EmploymentHistoryValidator historyValidator;
     private final AuthorizationService authorizationService;
+    private final HrMetricsService hrMetricsService;
 
     /**
      * RBAC helper
@@ -99,11 +102,7 @@ public class EmploymentHistoryServiceImpl implements EmploymentHistoryService {
         authorize("READ");
 
         // Counts all records where newDesignation differs from previousDesignation
-        long count = historyRepository.findAll().stream()
-                .filter(h -> organizationId.equals(h.getOrganizationId()))
-                .filter(h -> h.getNewDesignation() != null && h.getPreviousDesignation() != null)
-                .filter(h -> !h.getNewDesignation().equalsIgnoreCase(h.getPreviousDesignation()))
-                .count();
+        long count = historyRepository.countPromotions(organizationId);
 
         log.debug("🎖️ Promotions count for org {}: {}", organizationId, count);
         return count;
@@ -115,12 +114,18 @@ public class EmploymentHistoryServiceImpl implements EmploymentHistoryService {
         authorize("READ");
 
         // Counts all records where newDesignation is 'Resigned' (case-insensitive)
-        long count = historyRepository.findAll().stream()
-                .filter(h -> organizationId.equals(h.getOrganizationId()))
-                .filter(h -> "RESIGNED".equalsIgnoreCase(h.getNewDesignation()))
-                .count();
+        long count = historyRepository.countResignations(organizationId);
 
         log.debug("🚪 Resignations count for org {}: {}", organizationId, count);
         return count;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentMonthlyMetricsDTO> getMonthlyMetrics(Long organizationId, int year) {
+        authorize("READ");
+        return hrMetricsService.getMonthlyMetrics(organizationId, year).stream()
+                .map(EmploymentHistoryMapper::toDTO)
+                .collect(Collectors.toList());
+    }
 }
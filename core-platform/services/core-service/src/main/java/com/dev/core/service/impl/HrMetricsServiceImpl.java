@@ -0,0 +1,61 @@
+package com.dev.core.service.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.HrMonthlyMetric;
+import com.dev.core.repository.HrMonthlyMetricRepository;
+import com.dev.core.repository.projection.DepartmentMonthlyMetrics;
+import com.dev.core.service.HrMetricsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class HrMetricsServiceImpl implements HrMetricsService {
+
+    private final HrMonthlyMetricRepository metricRepository;
+
+    @Override
+    public void recordJoin(Employee employee, LocalDate date) {
+        increment(employee, date, 1, 0, 0);
+    }
+
+    @Override
+    public void recordPromotion(Employee employee, LocalDate date) {
+        increment(employee, date, 0, 1, 0);
+    }
+
+    @Override
+    public void recordResignation(Employee employee, LocalDate date) {
+        increment(employee, date, 0, 0, 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentMonthlyMetrics> getMonthlyMetrics(Long organizationId, int year) {
+        return metricRepository.findByOrganizationAndYear(organizationId, year);
+    }
+
+    private void increment(Employee employee, LocalDate date, int joins, int promotions, int resignations) {
+        Long orgId = employee.getOrganizationId();
+        if (orgId == null) {
+            // NULL never conflicts in the bucket key, so each event would add a row no report reads
+            log.warn("Employee {} has no organization; not counted in HR metrics", employee.getId());
+            return;
+        }
+        Long deptId = employee.getDepartment() != null ? employee.getDepartment().getId() : HrMonthlyMetric.NO_DEPARTMENT;
+        int year = date.getYear();
+        int month = date.getMonthValue();
+
+        // Upsert in the caller's transaction: the bucket appears with the change that counted it
+        metricRepository.increment(orgId, year, month, deptId, joins, promotions, resignations);
+    }
+}
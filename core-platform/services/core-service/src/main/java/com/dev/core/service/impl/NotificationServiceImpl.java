@@ -1,17 +1,16 @@
 package com.dev.core.service.impl;
 
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import com.dev.core.domain.email.EmailOutboxMessage;
+import com.dev.core.repository.EmailOutboxRepository;
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.TemplateRenderService;
 
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,46 +19,76 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepository;
     private final TemplateRenderService templateRenderService;
 
+    // Column length of the outbox recipient and subject
+    private static final int MAX_LENGTH = 255;
+
+    /**
+     * Queues the email in the outbox as part of the caller's transaction; delivery,
+     * retries and dead-lettering are handled by {@code EmailOutboxDispatcher}.
+     *
+     * Bad input is rejected before the insert rather than caught after it: a failed
+     * insert marks the caller's transaction rollback-only, so the business change would
+     * be lost at commit even though the error was logged here. Errors from the insert
+     * itself therefore propagate.
+     */
     @Override
     public void sendEmail(String to, String subject, String body) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            log.info("📧 Email sent successfully to {}", to);
-        } catch (Exception ex) {
-            handleNotificationFailure(to, "Failed to send email", ex);
+        if (!isValidRecipient(to)) {
+            handleNotificationFailure(to, "Email not queued", new IllegalArgumentException("Invalid recipient"));
+            return;
         }
+        enqueue(to, subject, body, false);
+        log.info("📧 Email to {} queued", to);
     }
 
     @Override
     public void sendTemplateEmail(String to, String subject, String templateName, Object variablesObj) {
+        if (!isValidRecipient(to)) {
+            handleNotificationFailure(to, "Template email not queued", new IllegalArgumentException("Invalid recipient"));
+            return;
+        }
 
         Map<String, Object> variables =
                 variablesObj instanceof Map ? (Map<String, Object>) variablesObj : Map.of("value", variablesObj);
 
+        String html;
         try {
-            String html = templateRenderService.render(templateName, variables);
-
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(html, true);
+            html = templateRenderService.render(templateName, variables);
+        } catch (Exception e) {
+            log.error("❌ Failed to render template email {} → {}", templateName, e.getMessage(), e);
+            return;
+        }
 
-            mailSender.send(message);
+        enqueue(to, subject, html, true);
+        log.info("📨 Template email '{}' to {} queued", templateName, to);
+    }
 
-            log.info("📨 Template email '{}' sent to {}", templateName, to);
+    private void enqueue(String to, String subject, String body, boolean html) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(to.trim());
+        message.setSubject(truncate(subject == null ? "" : subject));
+        message.setBody(body == null ? "" : body);
+        message.setHtml(html);
+        message.setNextAttemptAt(LocalDateTime.now());
+        outboxRepository.save(message);
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Failed to send template email {} → {}", templateName, e.getMessage(), e);
+    private static boolean isValidRecipient(String to) {
+        if (to == null) {
+            return false;
         }
+        String address = to.trim();
+        return !address.isEmpty()
+                && address.length() <= MAX_LENGTH
+                && address.indexOf('@') > 0
+                && address.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_LENGTH ? value : value.substring(0, MAX_LENGTH - 1) + "…";
     }
 
 
@@ -4,13 +4,17 @@ import com.dev.core.constants.EmployeeStatus;
 import com.dev.core.domain.Employee;
 import com.dev.core.domain.Payroll;
 import com.dev.core.domain.PayrollHistory;
+import com.dev.core.domain.PayrollRun;
 import com.dev.core.dto.PayrollDTO;
 import com.dev.core.dto.PayrollHistoryDTO;
+import com.dev.core.dto.PayrollRunDTO;
 import com.dev.core.dto.PayrollSummaryDTO;
 import com.dev.core.mapper.PayrollMapper;
 import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.PayrollHistoryRepository;
 import com.dev.core.repository.PayrollRepository;
+import com.dev.core.repository.PayrollRunRepository;
+import com.dev.core.repository.projection.PayrollStatusTotals;
 import com.dev.core.service.PayrollService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,10 +22,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,8 +42,11 @@ public class PayrollServiceImpl implements PayrollService {
     private final PayrollRepository payrollRepository;
     private final PayrollHistoryRepository payrollHistoryRepository;
     private final EmployeeRepository employeeRepository;
+    private final PayrollRunRepository payrollRunRepository;
     private final PayrollMapper payrollMapper;
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     @Override
     @Transactional
     public PayrollDTO createPayroll(PayrollDTO payrollDTO) {
@@ -271,44 +284,30 @@ public class PayrollServiceImpl implements PayrollService {
     @Transactional
     public List<PayrollDTO> generateMonthlyPayrolls(Long organizationId, Integer month, Integer year) {
         log.info("Generating monthly payrolls for organization: {}, month: {}, year: {}", organizationId, month, year);
+        long started = System.currentTimeMillis();
 
-        // Get all active employees
-        List<Employee> employees = employeeRepository.findByOrganizationIdAndStatus(
-                organizationId, EmployeeStatus.ACTIVE);
-
-        List<Payroll> generatedPayrolls = new ArrayList<>();
+        // Payrolls that already exist for this period, fetched once instead of per employee
+        Set<Long> existingIds = new HashSet<>(
+                payrollRepository.findIdsByOrganizationAndPeriod(organizationId, month, year));
 
-        for (Employee employee : employees) {
-            // Check if payroll already exists for this period
-            if (payrollRepository.findByEmployeeIdAndMonthAndYearAndIsActiveTrue(
-                    employee.getId(), month, year).isPresent()) {
-                log.info("Payroll already exists for employee: {} for period: {}/{}", 
-                        employee.getEmployeeCode(), month, year);
-                continue;
-            }
+        // One INSERT ... SELECT for every active employee still without a payroll
+        // (default/base salary - should come from employee salary configuration)
+        int generated = payrollRepository.generateDrafts(organizationId, EmployeeStatus.ACTIVE, month, year,
+                LocalDate.of(year, month, 1), getWorkingDaysInMonth(month, year));
 
-            // Create new payroll (with default/base salary - should be configured per employee)
-            Payroll payroll = new Payroll();
-            payroll.setEmployee(employee);
-            payroll.setOrganizationId(organizationId);
-            payroll.setMonth(month);
-            payroll.setYear(year);
-            payroll.setEffectiveDate(LocalDate.of(year, month, 1));
-            payroll.setStatus("DRAFT");
-            payroll.setIsActive(true);
-            payroll.setPayPeriod("MONTHLY");
+        List<Payroll> generatedPayrolls = payrollRepository
+                .findWithEmployeeByOrganizationAndPeriod(organizationId, month, year)
+                .stream()
+                .filter(p -> !existingIds.contains(p.getId()))
+                .toList();
 
-            // Set default values (these should come from employee salary configuration)
-            payroll.setBasicSalary(BigDecimal.ZERO);
-            payroll.setWorkingDays(getWorkingDaysInMonth(month, year));
+        forEachChunk(ids(generatedPayrolls), chunk -> payrollHistoryRepository.recordCreated(
+                chunk, "GENERATED", 1L, LocalDate.now(), "Payroll auto-generated"));
 
-            payroll.calculateNetSalary();
-
-            Payroll savedPayroll = payrollRepository.save(payroll);
-            generatedPayrolls.add(savedPayroll);
-
-            createHistoryEntry(savedPayroll, "GENERATED", null, null, "Payroll auto-generated");
-        }
+        log.info("Generated {} payrolls for organization: {} ({} already existed)",
+                generated, organizationId, existingIds.size());
+        recordRun(organizationId, "GENERATE", month, year, generated + existingIds.size(), generated,
+                existingIds.size(), null, started);
 
         return payrollMapper.toDTOList(generatedPayrolls);
     }
@@ -317,21 +316,20 @@ public class PayrollServiceImpl implements PayrollService {
     @Transactional
     public List<PayrollDTO> bulkApprovePayrolls(List<Long> payrollIds, Long approvedBy) {
         log.info("Bulk approving {} payrolls", payrollIds.size());
+        long started = System.currentTimeMillis();
 
-        List<Payroll> payrolls = payrollRepository.findAllById(payrollIds);
-        List<Payroll> approvedPayrolls = new ArrayList<>();
-
-        for (Payroll payroll : payrolls) {
-            String previousStatus = payroll.getStatus();
-            payroll.setStatus("APPROVED");
-            payroll.setApprovedBy(approvedBy);
-            payroll.setApprovedAt(LocalDate.now());
+        List<Long> ids = payrollIds.stream().distinct().toList();
+        LocalDate today = LocalDate.now();
+        int[] approved = {0};
 
-            Payroll updated = payrollRepository.save(payroll);
-            approvedPayrolls.add(updated);
+        forEachChunk(ids, chunk -> {
+            payrollHistoryRepository.recordTransition(chunk, "APPROVED", "APPROVED", approvedBy, today, "Bulk approved");
+            approved[0] += payrollRepository.approveAll(chunk, approvedBy, today);
+        });
 
-            createHistoryEntry(updated, "APPROVED", previousStatus, null, "Bulk approved");
-        }
+        List<Payroll> approvedPayrolls = loadWithEmployee(ids);
+        recordRun(organizationOf(approvedPayrolls), "BULK_APPROVE", null, null, ids.size(), approved[0],
+                ids.size() - approved[0], approvedBy, started);
 
         return payrollMapper.toDTOList(approvedPayrolls);
     }
@@ -340,40 +338,55 @@ public class PayrollServiceImpl implements PayrollService {
     @Transactional
     public List<PayrollDTO> bulkMarkAsPaid(List<Long> payrollIds, Long paidBy) {
         log.info("Bulk marking {} payrolls as paid", payrollIds.size());
-
-        List<Payroll> payrolls = payrollRepository.findAllById(payrollIds);
-        List<Payroll> paidPayrolls = new ArrayList<>();
-
-        for (Payroll payroll : payrolls) {
-            if (!"APPROVED".equals(payroll.getStatus())) {
-                log.warn("Skipping payroll {} - not approved", payroll.getId());
-                continue;
+        long started = System.currentTimeMillis();
+
+        List<Long> ids = payrollIds.stream().distinct().toList();
+        LocalDate today = LocalDate.now();
+        List<Long> approvedIds = new ArrayList<>();
+        int[] paid = {0};
+
+        // Only approved payrolls move to PAID
+        forEachChunk(ids, chunk -> {
+            List<Long> payable = payrollRepository.findIdsByIdInAndStatus(chunk, "APPROVED");
+            if (payable.isEmpty()) {
+                return;
             }
+            payrollHistoryRepository.recordTransition(payable, "PAID", "PAID", paidBy, today, "Bulk marked as paid");
+            paid[0] += payrollRepository.markApprovedAsPaid(payable, paidBy, today);
+            approvedIds.addAll(payable);
+        });
 
-            String previousStatus = payroll.getStatus();
-            payroll.setStatus("PAID");
-            payroll.setPaidBy(paidBy);
-            payroll.setPaidAt(LocalDate.now());
-
-            Payroll updated = payrollRepository.save(payroll);
-            paidPayrolls.add(updated);
-
-            createHistoryEntry(updated, "PAID", previousStatus, null, "Bulk marked as paid");
+        if (paid[0] < ids.size()) {
+            log.warn("Skipped {} of {} payrolls - not approved", ids.size() - paid[0], ids.size());
         }
 
+        List<Payroll> paidPayrolls = loadWithEmployee(approvedIds);
+        recordRun(organizationOf(paidPayrolls), "BULK_PAY", null, null, ids.size(), paid[0],
+                ids.size() - paid[0], paidBy, started);
+
         return payrollMapper.toDTOList(paidPayrolls);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PayrollRunDTO> getPayrollRuns(Long organizationId) {
+        return payrollRunRepository.findTop50ByOrganizationIdOrderByStartedAtDesc(organizationId)
+                .stream()
+                .map(this::toRunDTO)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PayrollSummaryDTO getPayrollSummary(Long organizationId, Integer month, Integer year) {
-        List<Payroll> payrolls = payrollRepository.findByOrganizationAndPeriod(organizationId, month, year);
+        // Sums and counts come back per status; no payroll rows are loaded
+        List<PayrollStatusTotals> byStatus = payrollRepository.sumByStatus(organizationId, month, year);
 
         PayrollSummaryDTO summary = new PayrollSummaryDTO();
         summary.setMonth(month);
         summary.setYear(year);
-        summary.setTotalEmployees((long) payrolls.size());
 
+        long totalEmployees = 0;
         BigDecimal totalGross = BigDecimal.ZERO;
         BigDecimal totalDeductions = BigDecimal.ZERO;
         BigDecimal totalNet = BigDecimal.ZERO;
@@ -381,25 +394,31 @@ public class PayrollServiceImpl implements PayrollService {
         long approved = 0;
         long paid = 0;
 
-        for (Payroll payroll : payrolls) {
-            totalGross = totalGross.add(payroll.getGrossSalary() != null ? payroll.getGrossSalary() : BigDecimal.ZERO);
-            totalDeductions = totalDeductions.add(payroll.getTotalDeductions() != null ? payroll.getTotalDeductions() : BigDecimal.ZERO);
-            totalNet = totalNet.add(payroll.getNetSalary() != null ? payroll.getNetSalary() : BigDecimal.ZERO);
+        for (PayrollStatusTotals totals : byStatus) {
+            totalEmployees += totals.payrolls();
+            totalGross = totalGross.add(totals.grossSalary());
+            totalDeductions = totalDeductions.add(totals.totalDeductions());
+            totalNet = totalNet.add(totals.netSalary());
 
-            switch (payroll.getStatus()) {
+            switch (totals.status()) {
                 case "PENDING":
                 case "DRAFT":
-                    pending++;
+                    pending += totals.payrolls();
                     break;
                 case "APPROVED":
-                    approved++;
+                    approved += totals.payrolls();
                     break;
                 case "PAID":
-                    paid++;
+                    paid += totals.payrolls();
                     break;
             }
         }
 
+        summary.setTotalEmployees(totalEmployees);
+        summary.setDepartments(payrollRepository.sumByDepartment(organizationId, month, year).stream()
+                .map(payrollMapper::toDepartmentSummaryDTO)
+                .collect(Collectors.toList()));
+
         summary.setTotalGrossSalary(totalGross);
         summary.setTotalDeductions(totalDeductions);
         summary.setTotalNetSalary(totalNet);
@@ -448,6 +467,59 @@ public class PayrollServiceImpl implements PayrollService {
         payrollHistoryRepository.save(history);
     }
 
+    private static void forEachChunk(List<Long> ids, Consumer<List<Long>> action) {
+        // Keeps IN lists well below driver bind-parameter limits
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+    }
+
+    private static List<Long> ids(List<Payroll> payrolls) {
+        return payrolls.stream().map(Payroll::getId).toList();
+    }
+
+    private List<Payroll> loadWithEmployee(List<Long> ids) {
+        List<Payroll> payrolls = new ArrayList<>(ids.size());
+        forEachChunk(ids, chunk -> payrolls.addAll(payrollRepository.findWithEmployeeByIdIn(chunk)));
+        return payrolls;
+    }
+
+    private static Long organizationOf(List<Payroll> payrolls) {
+        return payrolls.isEmpty() ? null : payrolls.get(0).getOrganizationId();
+    }
+
+    private void recordRun(Long organizationId, String operation, Integer month, Integer year,
+                           int requested, int processed, int skipped, Long actionBy, long startedMillis) {
+        PayrollRun run = new PayrollRun();
+        run.setOrganizationId(organizationId);
+        run.setOperation(operation);
+        run.setMonth(month);
+        run.setYear(year);
+        run.setRequested(requested);
+        run.setProcessed(processed);
+        run.setSkipped(skipped);
+        run.setActionBy(actionBy);
+        run.setStartedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(startedMillis), ZoneId.systemDefault()));
+        run.setDurationMs(System.currentTimeMillis() - startedMillis);
+        payrollRunRepository.save(run);
+    }
+
+    private PayrollRunDTO toRunDTO(PayrollRun run) {
+        PayrollRunDTO dto = new PayrollRunDTO();
+        dto.setId(run.getId());
+        dto.setOrganizationId(run.getOrganizationId());
+        dto.setOperation(run.getOperation());
+        dto.setMonth(run.getMonth());
+        dto.setYear(run.getYear());
+        dto.setRequested(run.getRequested());
+        dto.setProcessed(run.getProcessed());
+        dto.setSkipped(run.getSkipped());
+        dto.setActionBy(run.getActionBy());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setDurationMs(run.getDurationMs());
+        return dto;
+    }
+
     private PayrollHistoryDTO toHistoryDTO(PayrollHistory history) {
         PayrollHistoryDTO dto = new PayrollHistoryDTO();
         dto.setId(history.getId());
@@ -106,6 +106,7 @@ import com.dev.core.model.PolicyDTO;
 import com.dev.core.repository.PolicyRepository;
 import com.dev.core.service.AuthorizationService; // ✅ Correct import for RBAC
 import com.dev.core.service.PolicyService;
+import com.dev.core.service.impl.authorization.PolicyDecisionCache;
 import com.dev.core.service.validation.PolicyValidator;
 import com.dev.core.specification.SpecificationBuilder;
 
@@ -119,6 +120,7 @@ public class PolicyServiceImpl implements PolicyService {
     private final PolicyRepository policyRepository;
     private final PolicyValidator policyValidator;
     private final AuthorizationService authorizationService; // ✅ Injected for dynamic policy checks
+    private final PolicyDecisionCache policyDecisionCache;
 
     /**
      * Helper method for dynamic RBAC authorization.
@@ -137,6 +139,7 @@ public class PolicyServiceImpl implements PolicyService {
         policyValidator.validateBeforeCreate(dto);
 
         Policy saved = policyRepository.save(PolicyMapper.toEntity(dto));
+        policyDecisionCache.evict(saved.getOrganizationId());
         return PolicyMapper.toDTO(saved);
     }
 
@@ -160,6 +163,7 @@ public class PolicyServiceImpl implements PolicyService {
             existing.setAction(ActionMapper.toEntity(dto.getAction()));
 
         Policy updated = policyRepository.save(existing);
+        policyDecisionCache.evict(updated.getOrganizationId());
         return PolicyMapper.toDTO(updated);
     }
 
@@ -167,7 +171,9 @@ public class PolicyServiceImpl implements PolicyService {
     public void deletePolicy(Long id) {
         authorize("DELETE"); // ✅ Ensure user can DELETE POLICY
         policyValidator.validateBeforeUpdate(id);
+        Long orgId = policyRepository.findById(id).map(Policy::getOrganizationId).orElse(null);
         policyRepository.deleteById(id);
+        policyDecisionCache.evict(orgId);
     }
 
     @Override
@@ -1,16 +1,13 @@
 package com.dev.core.service.impl;
 
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -21,12 +18,16 @@ import com.dev.core.mapper.ProjectActivityMapper;
 import com.dev.core.model.ProjectActivityDTO;
 import com.dev.core.repository.ProjectActivityRepository;
 import com.dev.core.repository.ProjectRepository;
+import com.dev.core.repository.projection.ProjectActivityExportRow;
 import com.dev.core.service.BaseEntityAuditService;
 import com.dev.core.service.ProjectActivityService;
+import com.dev.core.service.export.ExportColumn;
+import com.dev.core.service.export.ExportFormat;
+import com.dev.core.service.export.KeysetPages;
+import com.dev.core.service.export.TabularExporter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.jsonwebtoken.io.IOException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +41,16 @@ public class ProjectActivityServiceImpl implements ProjectActivityService {
     private final ObjectMapper objectMapper;
     private final ProjectActivityMapper projectActivityMapper;
     private final BaseEntityAuditService baseAuditService;
+    private final TabularExporter tabularExporter;
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private static final List<ExportColumn<ProjectActivityExportRow>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("Timestamp", act -> act.createdAt() != null ? act.createdAt().toString() : ""),
+            ExportColumn.of("User ID", ProjectActivityExportRow::performedBy),
+            ExportColumn.of("Activity", ProjectActivityExportRow::summary),
+            ExportColumn.of("Description", act -> act.description() != null ? act.description() : "")
+    );
 
     @Override
     public ProjectActivityDTO logActivity(ProjectActivityDTO dto) {
@@ -78,57 +89,21 @@ public class ProjectActivityServiceImpl implements ProjectActivityService {
                 .orElse(null);
     }
     
+    /**
+     * Runs without a transaction and reads pages as projections, which the request's
+     * open-in-view persistence context never manages, so memory stays flat regardless
+     * of the log's length and nothing else in the request is detached.
+     */
     @Override
-    public byte[] exportActivities(Long projectId, String format) {
-
-        List<ProjectActivity> activities =
-                activityRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-
-        try {
-            return switch (format.toUpperCase()) {
-                case "EXCEL" -> generateExcel(activities);
-                default -> generateExcel(activities);
-            };
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to export project activities", e);
-        } catch (java.io.IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
-		return null;
-    }
-
-    
-    
-    private byte[] generateExcel(List<ProjectActivity> activities) throws java.io.IOException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             Workbook workbook = new XSSFWorkbook()) {
-
-            Sheet sheet = workbook.createSheet("Activity Log");
-            int rowIdx = 0;
-
-            Row header = sheet.createRow(rowIdx++);
-            header.createCell(0).setCellValue("Timestamp");
-            header.createCell(1).setCellValue("User ID");
-            header.createCell(2).setCellValue("Activity");
-            header.createCell(3).setCellValue("Description");
-
-            for (ProjectActivity act : activities) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(act.getCreatedAt().toString());
-                row.createCell(1).setCellValue(act.getPerformedBy());
-                row.createCell(2).setCellValue(act.getSummary());
-                row.createCell(3).setCellValue(
-                        act.getDescription() != null ? act.getDescription() : ""
-                );
-            }
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void exportActivities(Long projectId, ExportFormat format, OutputStream out) throws IOException {
 
-            workbook.write(out);
-            return out.toByteArray();
+        Iterable<ProjectActivityExportRow> activities = KeysetPages.of(
+                beforeId -> activityRepository.findExportPage(projectId, beforeId, PageRequest.of(0, EXPORT_PAGE_SIZE)),
+                ProjectActivityExportRow::id,
+                EXPORT_PAGE_SIZE);
 
-        } catch (IOException e) {
-            throw new RuntimeException("Error generating Excel", e);
-        }
+        tabularExporter.export(format, "Activity Log", EXPORT_COLUMNS, activities, out);
     }
 
 
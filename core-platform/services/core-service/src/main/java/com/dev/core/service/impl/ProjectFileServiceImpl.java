@@ -323,15 +323,8 @@ public class ProjectFileServiceImpl implements ProjectFileService {
         ProjectFile file = projectFileRepository.findById(id)
                 .orElseThrow(() -> new BaseException("error.file.not.found", new Object[]{id}));
 
-        // Delete from disk
-        try {
-            Path path = fileStorageService.getFilePath(file.getStoredPath(), file.getProject().getId());
-            if (Files.exists(path)) {
-                Files.delete(path);
-            }
-        } catch (IOException e) {
-            log.warn("⚠ Failed to delete file from disk: {}", file.getStoredPath());
-        }
+        // Release the stored body (deleted from disk once no other record references it)
+        fileStorageService.deleteFile(file.getStoredPath(), file.getProject().getId());
 
         projectFileRepository.delete(file);
 
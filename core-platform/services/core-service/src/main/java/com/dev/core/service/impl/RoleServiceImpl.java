@@ -110,10 +110,14 @@ import com.dev.core.model.RolePermissionIdsDTO;
 import com.dev.core.repository.PermissionRepository;
 import com.dev.core.repository.PolicyRepository;
 import com.dev.core.repository.RoleRepository;
+import com.dev.core.repository.UserRepository;
 import com.dev.core.security.SecurityContextUtil;
+import com.dev.core.security.TokenVersionCache;
+import com.dev.core.security.UserDetailsCache;
 import com.dev.core.service.AuthorizationService;
 import com.dev.core.service.RoleService;
 import com.dev.core.service.UserService;
+import com.dev.core.service.impl.authorization.PolicyDecisionCache;
 import com.dev.core.service.validation.RoleValidator;
 import com.dev.core.specification.SpecificationBuilder;
 
@@ -131,6 +135,10 @@ public class RoleServiceImpl implements RoleService {
     private final PolicyRepository policyRepository;
     private final UserService userService;
     private final SecurityContextUtil securityContextUtil;
+    private final PolicyDecisionCache policyDecisionCache;
+    private final UserDetailsCache userDetailsCache;
+    private final UserRepository userRepository;
+    private final TokenVersionCache tokenVersionCache;
 
     // Small helper for automatic resource name inference
     private void authorize(String action) {
@@ -147,6 +155,7 @@ public class RoleServiceImpl implements RoleService {
         roleValidator.validateBeforeCreate(dto);
 
         Role saved = roleRepository.save(RoleMapper.toEntity(dto));
+        policyDecisionCache.evict(saved.getOrganizationId());
         return RoleMapper.toDTO(saved);
     }
 
@@ -167,14 +176,30 @@ public class RoleServiceImpl implements RoleService {
                     .collect(Collectors.toSet()));
         }
 
-        return RoleMapper.toDTO(roleRepository.save(existing));
+        Role updated = roleRepository.save(existing);
+        userDetailsCache.invalidateAll(); // cached authorities carry role names
+        policyDecisionCache.evict(updated.getOrganizationId()); // the name decides full access
+        return RoleMapper.toDTO(updated);
     }
 
     @Override
     public void deleteRole(Long id) {
         authorize("DELETE"); // ✅ dynamic RBAC
         roleValidator.validateBeforeUpdate(id); // reuse to check existence
+        Long orgId = roleRepository.findById(id).map(Role::getOrganizationId).orElse(null);
+
+        // Holders' tokens carry this role id; their role set changes, so revoke them
+        List<Long> holders = userRepository.findIdsByRoleId(id);
+        if (!holders.isEmpty()) {
+            userRepository.bumpTokenVersions(holders);
+            holders.forEach(userId -> {
+                tokenVersionCache.invalidate(userId);
+                userDetailsCache.invalidateUser(userId);
+            });
+        }
+
         roleRepository.deleteById(id);
+        policyDecisionCache.evict(orgId);
     }
 
     @Override
@@ -250,6 +275,8 @@ public class RoleServiceImpl implements RoleService {
                 perm.getResource().getId(),
                 perm.getAction().getId()
             );
+            policyDecisionCache.revokeFromRole(role.getOrganizationId(), roleId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         // Add policies for added permissions
@@ -269,6 +296,8 @@ public class RoleServiceImpl implements RoleService {
                 pol.setOrganizationId(role.getOrganizationId());
                 policyRepository.save(pol);
             }
+            policyDecisionCache.grantToRole(role.getOrganizationId(), roleId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         return RoleMapper.toDTO(savedRole);
@@ -290,6 +319,8 @@ public class RoleServiceImpl implements RoleService {
             List<Policy> policies = policyRepository.findAllByRoleIdAndResourceIdAndActionId(
                     roleId, perm.getResource().getId(), perm.getAction().getId());
             policyRepository.deleteAll(policies);
+            policyDecisionCache.revokeFromRole(role.getOrganizationId(), roleId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         return RoleMapper.toDTO(savedRole);
@@ -179,6 +179,7 @@ import com.dev.core.constants.OrganizationStatus;
 import com.dev.core.constants.UserStatus;
 import com.dev.core.domain.*;
 import com.dev.core.repository.*;
+import com.dev.core.service.impl.authorization.PolicyDecisionCache;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -200,6 +201,7 @@ public class SystemSeederService {
     private final DepartmentRepository departmentRepository;
     private final DesignationRepository designationRepository;
     private final com.dev.core.repository.leave.LeaveTypeRepository leaveTypeRepository;
+    private final PolicyDecisionCache policyDecisionCache;
 
     @Lazy
     private final PasswordEncoder passwordEncoder;
@@ -299,6 +301,9 @@ public class SystemSeederService {
         
         // Verify roles have permissions
         verifyRolePermissions(org);
+
+        // Seeded roles/policies must be visible to the compiled authorization table
+        policyDecisionCache.evict(org.getId());
     }
     
     /**
@@ -0,0 +1,114 @@
+package com.dev.core.service.impl;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.TimeLog;
+import com.dev.core.domain.TimeLogDailyRollup;
+import com.dev.core.repository.TimeLogDailyRollupRepository;
+import com.dev.core.repository.TimeLogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps {@link TimeLogDailyRollup} in step with {@link TimeLog} writes. Callers take a
+ * {@link Contribution} snapshot before mutating a log and apply the difference inside
+ * the same transaction, so rollups and logs commit or roll back together.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimeLogRollupMaintainer implements SmartInitializingSingleton {
+
+    private final TimeLogDailyRollupRepository rollupRepository;
+    private final TimeLogRepository timeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** What a single log currently adds to its rollup row */
+    public record Contribution(Long organizationId, Long userId, Long projectId, LocalDate workDate, long minutes) {
+
+        public static Contribution of(TimeLog timeLog) {
+            return new Contribution(
+                    timeLog.getOrganizationId(),
+                    timeLog.getUserId(),
+                    timeLog.getProject() != null ? timeLog.getProject().getId() : TimeLogDailyRollup.NO_PROJECT,
+                    timeLog.getWorkDate(),
+                    timeLog.getDurationMinutes() == null ? 0L : timeLog.getDurationMinutes());
+        }
+    }
+
+    public void added(TimeLog timeLog) {
+        apply(Contribution.of(timeLog), 1);
+    }
+
+    public void removed(Contribution before) {
+        apply(before, -1);
+    }
+
+    public void changed(Contribution before, TimeLog after) {
+        Contribution now = Contribution.of(after);
+        if (now.equals(before)) {
+            return;
+        }
+        boolean sameRow = Objects.equals(before.organizationId(), now.organizationId())
+                && Objects.equals(before.userId(), now.userId())
+                && Objects.equals(before.projectId(), now.projectId())
+                && Objects.equals(before.workDate(), now.workDate());
+        if (sameRow) {
+            // Only the duration moved (e.g. a timer stopped)
+            add(now, now.minutes() - before.minutes(), 0);
+        } else {
+            apply(before, -1);
+            apply(now, 1);
+        }
+    }
+
+    private void apply(Contribution c, int sign) {
+        add(c, sign * c.minutes(), sign);
+        if (sign < 0 && c.organizationId() != null) {
+            rollupRepository.deleteEmpty(c.organizationId(), c.userId(), c.workDate());
+        }
+    }
+
+    private void add(Contribution c, long minutes, long entries) {
+        if (c.organizationId() == null || c.userId() == null || c.workDate() == null) {
+            return;  // dashboards are per organization; untenanted logs are never reported
+        }
+        if (entries > 0) {
+            // A new log may be the first for its key; the upsert creates or adds in one statement
+            rollupRepository.upsertRollup(
+                    c.organizationId(), c.userId(), c.projectId(), c.workDate(), minutes, entries);
+        } else {
+            rollupRepository.addToRollup(
+                    c.organizationId(), c.userId(), c.projectId(), c.workDate(), minutes, entries);
+        }
+    }
+
+    /**
+     * Seeds the rollup table from existing logs the first time the application starts
+     * with it empty. Runs once all beans exist but before the web server and schedulers
+     * start, so no live write can reach the table ahead of the seed and have its day's
+     * earlier logs skipped. When several instances start together only one seed
+     * commits; the others hit the rollup unique key and roll back.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                if (rollupRepository.count() > 0 || timeLogRepository.count() == 0) {
+                    return;
+                }
+                int rows = rollupRepository.rebuildFromTimeLogs();
+                log.info("⏱️ Seeded {} time log daily rollups from existing time logs", rows);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            log.info("⏱️ Time log rollups were seeded by another instance; skipping");
+        }
+    }
+}
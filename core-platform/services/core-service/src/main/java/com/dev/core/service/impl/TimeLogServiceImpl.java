@@ -4,9 +4,11 @@ package com.dev.core.service.impl;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 
@@ -17,18 +19,21 @@ import com.dev.core.domain.Task;
 import com.dev.core.domain.TimeLog;
 import com.dev.core.exception.BaseException;
 import com.dev.core.mapper.TimeLogMapper;
-import com.dev.core.model.EmployeeDTO;
 import com.dev.core.model.TimeLogDTO;
 import com.dev.core.model.UserDTO;
 import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.ProjectRepository;
+import com.dev.core.repository.TimeLogDailyRollupRepository;
 import com.dev.core.repository.TimeLogRepository;
 import com.dev.core.repository.bug.BugRepository;
 import com.dev.core.repository.task.TaskRepository;
 import com.dev.core.security.SecurityContextUtil;
-import com.dev.core.service.EmployeeService;
+import com.dev.core.service.EmployeeHierarchyService;
 import com.dev.core.service.TimeLogService;
 import com.dev.core.service.UserService;
+import com.dev.core.service.impl.TimeLogRollupMaintainer.Contribution;
+import com.dev.core.service.impl.identity.UserIdentityResolver;
+import com.dev.core.service.impl.identity.UserIdentityResolver.Identity;
 import com.dev.core.service.validation.TimeLogValidator;
 
 import jakarta.transaction.Transactional;
@@ -45,10 +50,13 @@ public class TimeLogServiceImpl implements TimeLogService {
     private final TaskRepository taskRepository;
     private final BugRepository bugRepository;
     private final ProjectRepository projectRepository;
-    private final EmployeeService employeeService;
     private final TimeLogValidator validator;
     private final SecurityContextUtil securityContextUtil;
     private final EmployeeRepository employeeRepository;
+    private final TimeLogDailyRollupRepository rollupRepository;
+    private final TimeLogRollupMaintainer rollupMaintainer;
+    private final UserIdentityResolver userIdentityResolver;
+    private final EmployeeHierarchyService hierarchyService;
 
 
     // ---------------------------------------------------------
@@ -112,6 +120,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         log.setOrganizationId(securityContextUtil.getCurrentOrganizationId());
 
         TimeLog saved = timeLogRepository.save(log);
+        rollupMaintainer.added(saved);
         return TimeLogMapper.toDTO(saved);
     }
 
@@ -121,6 +130,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         validator.validateStopTimer(userId);
 
         TimeLog active = loadActiveTimer(userId);
+        Contribution before = Contribution.of(active);
 
         active.setEndTime(LocalDateTime.now());
         active.setDurationMinutes(
@@ -129,6 +139,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         active.setActive(false);
 
         TimeLog saved = timeLogRepository.save(active);
+        rollupMaintainer.changed(before, saved);
         return TimeLogMapper.toDTO(saved);
     }
 
@@ -169,6 +180,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         entity.setOrganizationId(securityContextUtil.getCurrentOrganizationId());
 
         TimeLog saved = timeLogRepository.save(entity);
+        rollupMaintainer.added(saved);
         return TimeLogMapper.toDTO(saved);
     }
 
@@ -179,6 +191,7 @@ public class TimeLogServiceImpl implements TimeLogService {
 
         TimeLog existing = timeLogRepository.findById(id)
                 .orElseThrow(() -> new BaseException("error.timelog.not.found", new Object[]{id}));
+        Contribution before = Contribution.of(existing);
 
         Task task = null;
         Bug bug = null;
@@ -219,6 +232,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         existing.setProject(project);
 
         TimeLog saved = timeLogRepository.save(existing);
+        rollupMaintainer.changed(before, saved);
         return TimeLogMapper.toDTO(saved);
     }
 
@@ -228,10 +242,12 @@ public class TimeLogServiceImpl implements TimeLogService {
     public void delete(Long id) {
         validator.validateDelete(id);
 
-        if (!timeLogRepository.existsById(id))
-            throw new BaseException("error.timelog.not.found", new Object[]{id});
+        TimeLog existing = timeLogRepository.findById(id)
+                .orElseThrow(() -> new BaseException("error.timelog.not.found", new Object[]{id}));
+        Contribution before = Contribution.of(existing);
 
-        timeLogRepository.deleteById(id);
+        timeLogRepository.delete(existing);
+        rollupMaintainer.removed(before);
     }
 
 
@@ -503,25 +519,16 @@ public class TimeLogServiceImpl implements TimeLogService {
         LocalDate from = fromDate != null ? fromDate : LocalDate.now().minusDays(30);
         LocalDate to = toDate != null ? toDate : LocalDate.now();
         
-        List<TimeLog> timeLogs = timeLogRepository.findByOrganizationIdAndDateRange(organizationId, from, to);
+        // Answered from the daily rollups rather than the raw logs
+        Map<String, Object> totals = rollupRepository.getOrganizationTotals(organizationId, from, to);
         
-        // Calculate statistics
-        long totalMinutes = timeLogs.stream()
-                .mapToLong(TimeLog::getDurationMinutes)
-                .sum();
+        long totalMinutes = asLong(totals.get("minutes"));
         
         long totalHours = totalMinutes / 60;
         
-        long activeEmployees = timeLogs.stream()
-                .map(TimeLog::getUserId)
-                .distinct()
-                .count();
+        long activeEmployees = asLong(totals.get("employees"));
         
-        long activeProjects = timeLogs.stream()
-                .filter(tl -> tl.getProject() != null)
-                .map(tl -> tl.getProject().getId())
-                .distinct()
-                .count();
+        long activeProjects = asLong(totals.get("projects"));
         
         double avgHoursPerEmployee = activeEmployees > 0 ? (double) totalHours / activeEmployees : 0.0;
         
@@ -534,7 +541,7 @@ public class TimeLogServiceImpl implements TimeLogService {
         stats.put("avgHoursPerEmployee", Math.round(avgHoursPerEmployee * 10.0) / 10.0);
         stats.put("fromDate", from.toString());
         stats.put("toDate", to.toString());
-        stats.put("totalEntries", timeLogs.size());
+        stats.put("totalEntries", asLong(totals.get("entries")));
         
         return stats;
     }
@@ -546,38 +553,23 @@ public class TimeLogServiceImpl implements TimeLogService {
         LocalDate from = fromDate != null ? fromDate : LocalDate.now().minusDays(30);
         LocalDate to = toDate != null ? toDate : LocalDate.now();
         
-        List<TimeLog> timeLogs = timeLogRepository.findByOrganizationIdAndDateRange(organizationId, from, to);
-        
-        // Group by employee
-        Map<Long, List<TimeLog>> logsByEmployee = timeLogs.stream()
-                .collect(java.util.stream.Collectors.groupingBy(TimeLog::getUserId));
+        // Per-employee totals come from the daily rollups; only running timers are read from the logs
+        List<Map<String, Object>> rows = rollupRepository.getEmployeeTotals(organizationId, from, to);
+        Set<Long> usersWithOpenEntries =
+                new HashSet<>(timeLogRepository.findUserIdsWithOpenEntries(organizationId, from, to));
+        Map<Long, Identity> identities = userIdentityResolver.resolve(
+                rows.stream().map(row -> asLong(row.get("userId"))).toList());
         
         // Build summary for each employee
         List<Map<String, Object>> summary = new java.util.ArrayList<>();
         
-        logsByEmployee.forEach((userId, logs) -> {
-            long totalMinutes = logs.stream()
-            		.mapToLong(TimeLog::getDurationMinutes)
-                    .sum();
+        rows.forEach(row -> {
+            Long userId = asLong(row.get("userId"));
+            long totalMinutes = asLong(row.get("minutes"));
             
-            long projectCount = logs.stream()
-                    .filter(tl -> tl.getProject() != null)
-                    .map(tl -> tl.getProject().getId())
-                    .distinct()
-                    .count();
+            long projectCount = asLong(row.get("projects"));
             
-            // Get employee name (if available from first log)
-            String employeeName = "User " + userId;
-            try {
-                EmployeeDTO user = employeeService.getEmployeeById(userId);
-                if (user != null && user.getFirstName() != null && user.getLastName() != null) {
-                    employeeName = user.getFirstName() + " " + user.getLastName();
-                } else if (user != null && user.getEmail() != null) {
-                    employeeName = user.getEmail();
-                }
-            } catch (Exception e) {
-                log.warn("Could not fetch user details for userId {}: {}", userId, e.getMessage());
-            }
+            String employeeName = identities.get(userId).displayName();
             
             Map<String, Object> employeeData = new java.util.HashMap<>();
             employeeData.put("userId", userId);
@@ -585,8 +577,8 @@ public class TimeLogServiceImpl implements TimeLogService {
             employeeData.put("totalHours", totalMinutes / 60.0);
             employeeData.put("totalMinutes", totalMinutes);
             employeeData.put("projectCount", projectCount);
-            employeeData.put("entryCount", logs.size());
-            employeeData.put("status", logs.stream().anyMatch(tl -> tl.getEndTime() == null) ? "active" : "inactive");
+            employeeData.put("entryCount", asLong(row.get("entries")));
+            employeeData.put("status", usersWithOpenEntries.contains(userId) ? "active" : "inactive");
             
             summary.add(employeeData);
         });
@@ -599,6 +591,10 @@ public class TimeLogServiceImpl implements TimeLogService {
         
         return summary;
     }
+
+    private static long asLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
     
     // ---------------------------------------------------------
     // MANAGER-SUBORDINATE VISIBILITY
@@ -606,7 +602,7 @@ public class TimeLogServiceImpl implements TimeLogService {
     
     /**
      * Helper method to get all user IDs that should be visible to the given user
-     * (the user themselves + any subordinates if they are a manager)
+     * (the user themselves + everyone reporting to them, directly or indirectly)
      */
     private List<Long> getVisibleUserIds(Long userId) {
         List<Long> visibleUserIds = new java.util.ArrayList<>();
@@ -616,20 +612,12 @@ public class TimeLogServiceImpl implements TimeLogService {
         Employee employee = employeeRepository.findByUserId(userId);
         
         if (employee != null) {
-            // Find all employees who report to this manager
-            List<Employee> subordinates = employeeRepository.findByManager_IdAndOrganizationId(
-                    employee.getId(), 
-                    securityContextUtil.getCurrentOrganizationId()
-            );
-            
-            // Add subordinate user IDs
-            subordinates.stream()
-                    .filter(e -> e.getUser() != null)
-                    .map(e -> e.getUser().getId())
-                    .forEach(visibleUserIds::add);
+            // Whole reporting tree from the (cached) hierarchy, one query on a miss
+            List<Long> subordinateUserIds = hierarchyService.getSubordinateUserIds(employee.getId());
+            visibleUserIds.addAll(subordinateUserIds);
             
             log.debug("User {} can view time logs for {} users (self + {} subordinates)", 
-                    userId, visibleUserIds.size(), subordinates.size());
+                    userId, visibleUserIds.size(), subordinateUserIds.size());
         }
         
         return visibleUserIds;
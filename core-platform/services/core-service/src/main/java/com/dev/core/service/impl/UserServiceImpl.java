@@ -105,6 +105,7 @@ package com.dev.core.service.impl;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -136,9 +137,13 @@ import com.dev.core.repository.PolicyRepository;
 import com.dev.core.repository.RoleRepository;
 import com.dev.core.repository.UserRepository;
 import com.dev.core.security.SecurityContextUtil;
+import com.dev.core.security.TokenVersionCache;
+import com.dev.core.security.UserDetailsCache;
+import com.dev.core.service.impl.identity.UserIdentityResolver;
 import com.dev.core.service.AuthorizationService; // ✅ Correct import
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.UserService;
+import com.dev.core.service.impl.authorization.PolicyDecisionCache;
 import com.dev.core.service.validation.UserValidator;
 import com.dev.core.specification.SpecificationBuilder;
 
@@ -162,6 +167,10 @@ public class UserServiceImpl implements UserService {
     private final NotificationService notificationService;
     private final SecurityContextUtil securityContextUtil;
     private final RoleRepository roleRepository;
+    private final PolicyDecisionCache policyDecisionCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final UserDetailsCache userDetailsCache;
+    private final UserIdentityResolver userIdentityResolver;
     /**
      * Helper method to perform dynamic policy-based authorization.
      */
@@ -210,6 +219,10 @@ public class UserServiceImpl implements UserService {
         User existing = userRepository.findById(id)
                 .orElseThrow(() -> new BaseException("error.user.not.found", new Object[]{id}));
 
+        // Username, status, password and roles are all baked into issued access tokens
+        boolean revokeTokens = !Objects.equals(existing.getUsername(), dto.getUsername())
+                || existing.getStatus() != dto.getStatus();
+
         existing.setUsername(dto.getUsername());
         existing.setEmail(dto.getEmail());
         existing.setStatus(dto.getStatus());
@@ -217,6 +230,7 @@ public class UserServiceImpl implements UserService {
         // Update password only if provided
         if (dto.getPassword() != null && !dto.getPassword().trim().isEmpty()) {
             existing.setPassword(passwordEncoder.encode(dto.getPassword()));
+            revokeTokens = true;
         }
 
         if (dto.getRoles() != null && !dto.getRoles().isEmpty()) {
@@ -230,11 +244,20 @@ public class UserServiceImpl implements UserService {
                 newRoles.add(role);
             }
             log.info("New roles being assigned: {}", newRoles);
+            // Tokens carry role ids: revoke only when the set of ids really changes
+            revokeTokens |= !roleIds(newRoles).equals(roleIds(existing.getRoles()));
             existing.getRoles().clear();
             existing.getRoles().addAll(newRoles);
         }
 
+        if (revokeTokens) {
+            existing.setTokenVersion(Optional.ofNullable(existing.getTokenVersion()).orElse(0L) + 1);
+            tokenVersionCache.invalidate(id);
+        }
+
         User updated = userRepository.save(existing);
+        userDetailsCache.invalidateUser(id);
+        userIdentityResolver.invalidate(id);
         return UserMapper.toDTO(updated);
     }
 
@@ -247,6 +270,9 @@ public class UserServiceImpl implements UserService {
             throw new BaseException("error.user.not.found", new Object[]{id});
         }
         userRepository.deleteById(id);
+        tokenVersionCache.invalidate(id);
+        userDetailsCache.invalidateUser(id);
+        userIdentityResolver.invalidate(id);
     }
 
     @Override
@@ -338,6 +364,8 @@ public class UserServiceImpl implements UserService {
                     perm.getResource().getId(),
                     perm.getAction().getId()
             );
+            policyDecisionCache.revokeFromUser(user.getOrganizationId(), userId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         // Add new policies
@@ -364,6 +392,8 @@ public class UserServiceImpl implements UserService {
 
                 policyRepository.save(policy);
             }
+            policyDecisionCache.grantToUser(user.getOrganizationId(), userId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         return UserMapper.toDTO(savedUser);
@@ -388,6 +418,8 @@ public class UserServiceImpl implements UserService {
             List<Policy> policies = policyRepository.findAllByUserIdAndResourceIdAndActionId(
                     userId, perm.getResource().getId(), perm.getAction().getId());
             policyRepository.deleteAll(policies);
+            policyDecisionCache.revokeFromUser(user.getOrganizationId(), userId,
+                    perm.getResource().getCode(), perm.getAction().getCode());
         }
 
         return UserMapper.toDTO(savedUser);
@@ -496,5 +528,8 @@ public class UserServiceImpl implements UserService {
         return UserMapper.toDTO(user);
     }
 
+    private static Set<Long> roleIds(Set<Role> roles) {
+        return roles.stream().map(Role::getId).collect(Collectors.toSet());
+    }
 
 }
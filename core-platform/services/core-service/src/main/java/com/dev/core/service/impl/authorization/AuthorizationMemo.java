@@ -0,0 +1,75 @@
+package com.dev.core.service.impl.authorization;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Per-request record of authorization decisions, stored as a request attribute.
+ *
+ * {@code PolicyAuthorizationFilter} opens it and the first check for a
+ * (resource, action) pair populates it; later service-level checks of the same
+ * pair within the request reuse the decision instead of re-evaluating. Outside a
+ * web request (schedulers, async work) there is no memo and every check evaluates.
+ */
+public final class AuthorizationMemo {
+
+    private static final String ATTRIBUTE = AuthorizationMemo.class.getName();
+
+    private final Map<String, Boolean> decisions = new HashMap<>();
+    private int evaluations;
+    private int memoHits;
+
+    /**
+     * Binds a fresh memo to the current request and returns it.
+     */
+    public static AuthorizationMemo open() {
+        AuthorizationMemo memo = new AuthorizationMemo();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    /**
+     * The memo bound to the current request, or {@code null} when there is none.
+     */
+    public static AuthorizationMemo current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (AuthorizationMemo) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    synchronized Boolean lookup(String resourceCode, String actionCode) {
+        Boolean decision = decisions.get(key(resourceCode, actionCode));
+        if (decision != null) {
+            memoHits++;
+        }
+        return decision;
+    }
+
+    synchronized void record(String resourceCode, String actionCode, boolean allowed) {
+        evaluations++;
+        decisions.put(key(resourceCode, actionCode), allowed);
+    }
+
+    /** Number of checks that actually evaluated policies in this request. */
+    public synchronized int getEvaluations() {
+        return evaluations;
+    }
+
+    /** Number of checks answered from the memo in this request. */
+    public synchronized int getMemoHits() {
+        return memoHits;
+    }
+
+    private static String key(String resourceCode, String actionCode) {
+        return resourceCode.toUpperCase(Locale.ROOT) + ':' + actionCode.toUpperCase(Locale.ROOT);
+    }
+}
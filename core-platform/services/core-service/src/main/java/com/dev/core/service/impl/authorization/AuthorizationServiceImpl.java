@@ -2,18 +2,11 @@
 package com.dev.core.service.impl.authorization;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.dev.core.domain.Policy;
-import com.dev.core.domain.Role;
-import com.dev.core.domain.User;
 import com.dev.core.exception.BaseException;
 import com.dev.core.exception.UnauthorizedAccessException;
-import com.dev.core.repository.PolicyRepository;
-import com.dev.core.repository.UserRepository;
 import com.dev.core.security.SecurityContextUtil;
 import com.dev.core.service.AuthorizationService;
 
@@ -22,14 +15,16 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Evaluates access dynamically using Policy → (Role, Resource, Action)
+ *
+ * Roles come from the authenticated principal and policies from the compiled
+ * {@link PolicyDecisionCache}, so a check does not touch the database.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthorizationServiceImpl implements AuthorizationService {
 
-    private final UserRepository userRepository;
-    private final PolicyRepository policyRepository;
+    private final PolicyDecisionCache policyDecisionCache;
     private final SecurityContextUtil securityContextUtil;
 
     /**
@@ -111,90 +106,74 @@ public class AuthorizationServiceImpl implements AuthorizationService {
 //        log.debug("🏁 [AUTHZ] Authorization check complete for userId={} → allowed={}", userId, allowed);
 //    }
     @Override
-    @Transactional(readOnly = true)
     public void authorize(String resourceCode, String actionCode) {
+        // Same (resource, action) already decided in this request → reuse the decision
+        AuthorizationMemo memo = AuthorizationMemo.current();
+        Boolean memoized = memo != null ? memo.lookup(resourceCode, actionCode) : null;
+        if (memoized != null) {
+            log.debug("♻️ [AUTHZ] Reusing request decision: resource='{}', action='{}', allowed={}",
+                    resourceCode, actionCode, memoized);
+            if (!memoized) {
+                throw new UnauthorizedAccessException("error.auth.access.denied", resourceCode, actionCode);
+            }
+            return;
+        }
+
+        boolean allowed = evaluate(resourceCode, actionCode);
+        if (memo != null) {
+            memo.record(resourceCode, actionCode, allowed);
+        }
+
+        if (!allowed) {
+            throw new UnauthorizedAccessException(
+            	    "error.auth.access.denied",
+            	    resourceCode, actionCode
+            	);
+        }
+    }
+
+    private boolean evaluate(String resourceCode, String actionCode) {
         log.info("🔐 [AUTHZ] Starting authorization check: resource='{}', action='{}'", resourceCode, actionCode);
 
         Long userId = securityContextUtil.getCurrentUserId();
         Long orgId = securityContextUtil.getCurrentOrganizationId();
+        // Role names are display-only; decisions use the role ids from the token
+        Set<String> roleNames = securityContextUtil.getCurrentRoleNames();
+        Set<Long> roleIds = securityContextUtil.getCurrentRoleIds();
 
-        log.debug("👤 [AUTHZ] Context resolved → userId={}, orgId={}", userId, orgId);
+        log.debug("👤 [AUTHZ] Context resolved → userId={}, orgId={}, roles={}", userId, orgId, roleNames);
 
-        // Fetch user with roles
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("❌ [AUTHZ] User not found: id={}", userId);
-                    return new BaseException("error.auth.user.notfound", new Object[]{userId});
-                });
-
-        log.debug("✅ [AUTHZ] User loaded: username={}, email={}, rolesInitialized={}",
-                user.getUsername(), user.getEmail(), user.getRoles() != null);
-
-        Set<Role> roles = user.getRoles();
-        if (roles == null || roles.isEmpty()) {
+        if (roleIds.isEmpty()) {
             log.warn("⚠️ [AUTHZ] User has no roles assigned → userId={}", userId);
             throw new BaseException("error.auth.no.roles");
         }
 
-        Set<Long> roleIds = roles.stream()
-                .map(Role::getId)
-                .collect(Collectors.toSet());
-
-        Set<String> roleNames = roles.stream()
-                .map(Role::getName)
-                .collect(Collectors.toSet());
-
-        log.debug("🧩 [AUTHZ] Extracted user roles → ids={}, names={}", roleIds, roleNames);
-
         // ⭐ ADMIN and SUPER_ADMIN have full access to everything
-        if (roleNames.contains("ADMIN") || roleNames.contains("SUPER_ADMIN")) {
-            log.info("👑 [AUTHZ] Access GRANTED → user='{}' has ADMIN/SUPER_ADMIN role → resource='{}', action='{}'",
-                    user.getUsername(), resourceCode, actionCode);
-            return; // Allow access immediately
+        if (policyDecisionCache.hasFullAccess(orgId, roleIds)) {
+            log.info("👑 [AUTHZ] Access GRANTED → userId={} has ADMIN/SUPER_ADMIN role → resource='{}', action='{}'",
+                    userId, resourceCode, actionCode);
+            return true; // Allow access immediately
         }
 
-        // Fetch all policies for this organization
-        var policies = policyRepository.findAllByOrganizationId(orgId);
-        log.debug("📜 [AUTHZ] Loaded {} policies for orgId={}", policies.size(), orgId);
-
-        // Filter applicable policies - either assigned to any user role or directly to the user
-        var matchingPolicies = policies.stream()
-                .filter(p -> (p.getRole() != null && roleIds.contains(p.getRole().getId()))
-                        || (p.getUser() != null && userId.equals(p.getUser().getId())))
-                .peek(p -> log.trace("🔎 [AUTHZ] Checking policy: role={}, user={}, resource={}, action={}",
-                        p.getRole() != null ? p.getRole().getName() : "N/A",
-                        p.getUser() != null ? p.getUser().getUsername() : "N/A",
-                        p.getResource().getCode(),
-                        p.getAction().getCode()))
-                .filter(p ->
-                        p.getResource().getCode().equalsIgnoreCase(resourceCode) &&
-                        p.getAction().getCode().equalsIgnoreCase(actionCode))
-                .collect(Collectors.toList());
-
-        boolean allowed = !matchingPolicies.isEmpty();
+        // Role grants or direct user grants, answered from the compiled org table
+        boolean allowed = policyDecisionCache.isAllowed(orgId, userId, roleIds, resourceCode, actionCode);
 
         if (allowed) {
-            Policy matched = matchingPolicies.get(0);
-            log.info("✅ [AUTHZ] Access GRANTED for user='{}' (role='{}', user policy='{}') → resource='{}', action='{}'",
-                    user.getUsername(),
-                    matched.getRole() != null ? matched.getRole().getName() : "N/A",
-                    matched.getUser() != null ? matched.getUser().getUsername() : "N/A",
+            log.info("✅ [AUTHZ] Access GRANTED for userId={} (roles={}) → resource='{}', action='{}'",
+                    userId,
+                    roleNames,
                     resourceCode,
                     actionCode);
         } else {
-            log.warn("🚫 [AUTHZ] Access DENIED → user='{}', roles={}, resource='{}', action='{}'",
-                    user.getUsername(),
+            log.warn("🚫 [AUTHZ] Access DENIED → userId={}, roles={}, resource='{}', action='{}'",
+                    userId,
                     roleNames,
                     resourceCode,
                     actionCode);
-
-            throw new UnauthorizedAccessException(
-            	    "error.auth.access.denied",
-            	    resourceCode, actionCode
-            	);
         }
 
         log.debug("🏁 [AUTHZ] Authorization check complete for userId={} → allowed={}", userId, allowed);
+        return allowed;
     }
 
 }
@@ -0,0 +1,79 @@
+package com.dev.core.service.impl.authorization;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-organization decision table: role/user → bitset of granted permission slots,
+ * plus the ids of the roles that bypass policies altogether.
+ *
+ * Bitsets are never mutated after they are published; grants and revokes swap in
+ * a modified copy so concurrent readers never need a lock.
+ */
+final class CompiledPolicySet {
+
+    private final ConcurrentHashMap<Long, BitSet> roleGrants = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BitSet> userGrants = new ConcurrentHashMap<>();
+    private final Set<Long> fullAccessRoles;
+
+    CompiledPolicySet(Collection<Long> fullAccessRoles) {
+        this.fullAccessRoles = Set.copyOf(fullAccessRoles);
+    }
+
+    boolean hasFullAccess(Collection<Long> roleIds) {
+        for (Long roleId : roleIds) {
+            if (fullAccessRoles.contains(roleId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isGranted(Long userId, Collection<Long> roleIds, int slot) {
+        if (slot < 0) {
+            return false;
+        }
+
+        BitSet direct = userGrants.get(userId);
+        if (direct != null && direct.get(slot)) {
+            return true;
+        }
+
+        for (Long roleId : roleIds) {
+            BitSet bits = roleGrants.get(roleId);
+            if (bits != null && bits.get(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void grantToRole(Long roleId, int slot) {
+        roleGrants.compute(roleId, (id, bits) -> with(bits, slot, true));
+    }
+
+    void revokeFromRole(Long roleId, int slot) {
+        roleGrants.computeIfPresent(roleId, (id, bits) -> with(bits, slot, false));
+    }
+
+    void grantToUser(Long userId, int slot) {
+        userGrants.compute(userId, (id, bits) -> with(bits, slot, true));
+    }
+
+    void revokeFromUser(Long userId, int slot) {
+        userGrants.computeIfPresent(userId, (id, bits) -> with(bits, slot, false));
+    }
+
+    int grantCount() {
+        return roleGrants.values().stream().mapToInt(BitSet::cardinality).sum()
+                + userGrants.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+
+    private static BitSet with(BitSet bits, int slot, boolean value) {
+        BitSet copy = bits == null ? new BitSet() : (BitSet) bits.clone();
+        copy.set(slot, value);
+        return copy;
+    }
+}
@@ -0,0 +1,171 @@
+package com.dev.core.service.impl.authorization;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.dev.core.repository.PolicyRepository;
+import com.dev.core.repository.RoleRepository;
+import com.dev.core.repository.PolicyRepository.PolicyGrant;
+import com.dev.core.util.TransactionUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory, per-organization compiled form of the policies table.
+ *
+ * Each (resource, action) pair is interned to an int slot once; an organization's
+ * policies are then compiled into role/user bitsets over those slots, so a check
+ * is a map lookup plus a bit test. Mutations from the policy, role and user services
+ * are applied incrementally after their transaction commits; anything that is hard
+ * to patch in place (policy edits, role create/update/delete, permission deletion)
+ * evicts the organization instead and the next check recompiles it.
+ *
+ * Decisions are keyed by the role ids carried in the caller's token, never by role
+ * name, so renaming a role only needs this organization's table to be rebuilt.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyDecisionCache {
+
+    /** Roles with these names are granted everything in their organization */
+    static final List<String> FULL_ACCESS_ROLE_NAMES = List.of("ADMIN", "SUPER_ADMIN");
+
+    private final PolicyRepository policyRepository;
+    private final RoleRepository roleRepository;
+
+    private final ConcurrentHashMap<String, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    private final ConcurrentHashMap<Long, CompiledPolicySet> compiled = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+
+    public boolean isAllowed(Long orgId, Long userId, Collection<Long> roleIds,
+                             String resourceCode, String actionCode) {
+        // Compile first: it interns the slots this organization's policies use.
+        CompiledPolicySet set = forOrganization(orgId);
+        Integer slot = slots.get(key(resourceCode, actionCode));
+        return set.isGranted(userId, roleIds, slot == null ? -1 : slot);
+    }
+
+    /** Whether any of the given roles is an ADMIN / SUPER_ADMIN role of the organization */
+    public boolean hasFullAccess(Long orgId, Collection<Long> roleIds) {
+        return forOrganization(orgId).hasFullAccess(roleIds);
+    }
+
+    public void grantToRole(Long orgId, Long roleId, String resourceCode, String actionCode) {
+        afterCommit(orgId, set -> set.grantToRole(roleId, slot(resourceCode, actionCode)));
+    }
+
+    public void revokeFromRole(Long orgId, Long roleId, String resourceCode, String actionCode) {
+        afterCommit(orgId, set -> set.revokeFromRole(roleId, slot(resourceCode, actionCode)));
+    }
+
+    public void grantToUser(Long orgId, Long userId, String resourceCode, String actionCode) {
+        afterCommit(orgId, set -> set.grantToUser(userId, slot(resourceCode, actionCode)));
+    }
+
+    public void revokeFromUser(Long orgId, Long userId, String resourceCode, String actionCode) {
+        afterCommit(orgId, set -> set.revokeFromUser(userId, slot(resourceCode, actionCode)));
+    }
+
+    /**
+     * Drops the compiled table for an organization; it is rebuilt on the next check.
+     */
+    public void evict(Long orgId) {
+        afterCommit(orgId, null);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getCompilations() {
+        return compilations.get();
+    }
+
+    private CompiledPolicySet forOrganization(Long orgId) {
+        CompiledPolicySet set = compiled.get(orgId);
+        if (set != null) {
+            hits.incrementAndGet();
+            return set;
+        }
+
+        // A mutation committing while we read would bump the generation;
+        // in that case serve this snapshot once but don't install it.
+        AtomicLong generation = generation(orgId);
+        long seen = generation.get();
+        set = compile(orgId);
+        if (generation.get() == seen) {
+            CompiledPolicySet raced = compiled.putIfAbsent(orgId, set);
+            if (raced != null) {
+                return raced;
+            }
+        }
+        return set;
+    }
+
+    private CompiledPolicySet compile(Long orgId) {
+        long start = System.nanoTime();
+
+        CompiledPolicySet set = new CompiledPolicySet(
+                roleRepository.findIdsByOrganizationIdAndNameIn(orgId, FULL_ACCESS_ROLE_NAMES));
+        List<PolicyGrant> grants = policyRepository.findGrantsByOrganizationId(orgId);
+        for (PolicyGrant grant : grants) {
+            int slot = slot(grant.getResourceCode(), grant.getActionCode());
+            if (grant.getRoleId() != null) {
+                set.grantToRole(grant.getRoleId(), slot);
+            }
+            if (grant.getUserId() != null) {
+                set.grantToUser(grant.getUserId(), slot);
+            }
+        }
+
+        compilations.incrementAndGet();
+        log.debug("📦 [AUTHZ] Compiled {} policies ({} grants) for orgId={} in {}µs",
+                grants.size(), set.grantCount(), orgId,
+                (System.nanoTime() - start) / 1_000);
+        return set;
+    }
+
+    private void afterCommit(Long orgId, Consumer<CompiledPolicySet> patch) {
+        if (orgId == null) {
+            return;
+        }
+
+        TransactionUtils.afterCommit(() -> {
+            generation(orgId).incrementAndGet();
+            if (patch == null) {
+                compiled.remove(orgId);
+            } else {
+                compiled.computeIfPresent(orgId, (id, set) -> {
+                    patch.accept(set);
+                    return set;
+                });
+            }
+        });
+    }
+
+    private AtomicLong generation(Long orgId) {
+        return generations.computeIfAbsent(orgId, id -> new AtomicLong());
+    }
+
+    private int slot(String resourceCode, String actionCode) {
+        return slots.computeIfAbsent(key(resourceCode, actionCode), k -> nextSlot.getAndIncrement());
+    }
+
+    private static String key(String resourceCode, String actionCode) {
+        return resourceCode.toUpperCase(Locale.ROOT) + ':' + actionCode.toUpperCase(Locale.ROOT);
+    }
+}
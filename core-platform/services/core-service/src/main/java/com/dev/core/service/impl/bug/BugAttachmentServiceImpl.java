@@ -162,6 +162,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
 @Slf4j
@@ -201,7 +203,7 @@ public class BugAttachmentServiceImpl implements BugAttachmentService {
         entity.setBug(bug);
         entity.setOrganizationId(bug.getOrganizationId());
         entity.setFileName(file.getOriginalFilename());
-        entity.setStoredPath(fileStorageService.getFilePath(fileId, bugId).toString());     // Store only fileId
+        entity.setStoredPath(fileId);     // Store only fileId
         entity.setContentType(file.getContentType());
         entity.setFileSize(file.getSize());
         entity.setDescription(description);
@@ -231,7 +233,8 @@ public class BugAttachmentServiceImpl implements BugAttachmentService {
         BugAttachment attachment = attachmentRepository.findById(id)
                 .orElseThrow(() -> new BaseException("error.bug.attachment.not.found", new Object[]{id}));
 
-        String fileId = attachment.getStoredPath();
+        // Older rows hold the full path; the fileId is its last segment
+        String fileId = Paths.get(attachment.getStoredPath()).getFileName().toString();
         Long bugId = attachment.getBug().getId();
 
         // ✔ Delete from storage
@@ -259,18 +262,18 @@ public class BugAttachmentServiceImpl implements BugAttachmentService {
     }
 
     // ----------------------------------------------------------------
-    // ⭐ NEW: GET FILE BYTES (for download)
+    // ⭐ NEW: GET FILE PATH (for streamed download)
     // ----------------------------------------------------------------
     @Override
-    public byte[] getAttachmentFileBytes(Long attachmentId) {
+    public Path getAttachmentFilePath(Long attachmentId) {
         authorize("READ");
 
         BugAttachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new BaseException("error.bug.attachment.not.found", new Object[]{attachmentId}));
 
-        String fileId = attachment.getStoredPath();
+        String fileId = Paths.get(attachment.getStoredPath()).getFileName().toString();
         Long bugId = attachment.getBug().getId();
 
-        return fileStorageService.getFileBytes(fileId, bugId);
+        return fileStorageService.getFilePath(fileId, bugId);
     }
 }
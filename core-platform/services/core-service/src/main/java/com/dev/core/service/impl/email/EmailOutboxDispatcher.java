@@ -0,0 +1,285 @@
+package com.dev.core.service.impl.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.email.EmailOutboxMessage;
+import com.dev.core.domain.email.EmailOutboxMessage.Status;
+import com.dev.core.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers queued {@link EmailOutboxMessage}s.
+ *
+ * Each poll claims up to {@code batch-size × workers} due messages, splits them into
+ * batches and hands each batch to the mail worker pool. A batch goes out over a single
+ * SMTP connection ({@link JavaMailSender#send(MimeMessage...)}). Failed messages are
+ * retried with exponential backoff and dead-lettered ({@link Status#DEAD}) once
+ * {@code max-attempts} is reached or the message itself is malformed.
+ *
+ * The poll loop is registered on the shared {@code taskScheduler} once the application
+ * is ready, rather than through {@code @EnableScheduling}, which would also switch on
+ * the other {@code @Scheduled} jobs in the codebase.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor mailExecutor;
+    private final TaskScheduler taskScheduler;
+
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long backoffBaseSeconds;
+    private final long backoffMaxSeconds;
+    private final long claimTimeoutMinutes;
+    private final long pollIntervalMs;
+
+    private volatile ScheduledFuture<?> poller;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository outboxRepository,
+                                 JavaMailSender mailSender,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("mailExecutor") TaskExecutor mailExecutor,
+                                 @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.outbox.batch-size:50}") int batchSize,
+                                 @Value("${notification.outbox.workers:4}") int workers,
+                                 @Value("${notification.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${notification.outbox.backoff-base-seconds:30}") long backoffBaseSeconds,
+                                 @Value("${notification.outbox.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                                 @Value("${notification.outbox.claim-timeout-minutes:10}") long claimTimeoutMinutes,
+                                 @Value("${notification.outbox.poll-interval-ms:2000}") long pollIntervalMs) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.mailExecutor = mailExecutor;
+        this.taskScheduler = taskScheduler;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseSeconds = backoffBaseSeconds;
+        this.backoffMaxSeconds = backoffMaxSeconds;
+        this.claimTimeoutMinutes = claimTimeoutMinutes;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.sent = outboxCounter(meterRegistry, "sent");
+        this.retried = outboxCounter(meterRegistry, "retried");
+        this.deadLettered = outboxCounter(meterRegistry, "dead");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (poller == null) {
+            poller = taskScheduler.scheduleWithFixedDelay(this::dispatchSafely, Duration.ofMillis(pollIntervalMs));
+            log.info("📧 Email outbox dispatcher polling every {}ms", pollIntervalMs);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        ScheduledFuture<?> running = poller;
+        if (running != null) {
+            running.cancel(false);
+            poller = null;
+        }
+    }
+
+    public void dispatch() {
+        List<List<EmailOutboxMessage>> batches = claim();
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        // Wait for this round so the next poll never claims more than the pool can take
+        CompletableFuture.allOf(batches.stream()
+                        .map(batch -> CompletableFuture.runAsync(() -> deliver(batch), mailExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Exception ex) {
+            // Keep polling; the failed round's rows are released after the claim timeout
+            log.error("❌ Email outbox poll failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private List<List<EmailOutboxMessage>> claim() {
+        return transactionTemplate.execute(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            int released = outboxRepository.releaseStale(now.minusMinutes(claimTimeoutMinutes));
+            if (released > 0) {
+                log.warn("♻️ Released {} outbox emails left in SENDING by an interrupted dispatcher", released);
+            }
+
+            List<EmailOutboxMessage> due = outboxRepository.lockDue(now, PageRequest.of(0, batchSize * workers));
+            List<List<EmailOutboxMessage>> batches = new ArrayList<>();
+            for (int i = 0; i < due.size(); i += batchSize) {
+                List<EmailOutboxMessage> batch = due.subList(i, Math.min(i + batchSize, due.size()));
+                batch.forEach(m -> {
+                    m.setStatus(Status.SENDING);
+                    m.setClaimedAt(now);
+                });
+                batches.add(new ArrayList<>(batch));
+            }
+            return batches;
+        });
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        Map<Long, Exception> failures = new HashMap<>();
+        Set<Long> malformed = new HashSet<>();
+        Map<Object, Long> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+
+        for (EmailOutboxMessage outbox : batch) {
+            try {
+                MimeMessage message = toMimeMessage(outbox);
+                idsByMessage.put(message, outbox.getId());
+                messages.add(message);
+            } catch (MessagingException | MailException ex) {
+                failures.put(outbox.getId(), ex);
+                malformed.add(outbox.getId());
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            } catch (MailSendException ex) {
+                if (ex.getFailedMessages().isEmpty()) {
+                    idsByMessage.values().forEach(id -> failures.put(id, ex));
+                } else {
+                    ex.getFailedMessages().forEach((message, cause) -> {
+                        Long id = idsByMessage.get(message);
+                        if (id != null) {
+                            failures.put(id, cause);
+                        }
+                    });
+                }
+            } catch (Exception ex) {
+                // Connection / authentication failure → nothing in the batch went out
+                idsByMessage.values().forEach(id -> failures.put(id, ex));
+            }
+        }
+
+        try {
+            recordOutcome(batch, failures, malformed);
+        } catch (Exception ex) {
+            // Rows stay in SENDING and are released after the claim timeout
+            log.error("❌ Failed to record outbox delivery results: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void recordOutcome(List<EmailOutboxMessage> batch, Map<Long, Exception> failures, Set<Long> malformed) {
+        List<Long> ids = batch.stream().map(EmailOutboxMessage::getId).toList();
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            for (EmailOutboxMessage outbox : outboxRepository.findAllById(ids)) {
+                outbox.setClaimedAt(null);
+                Exception failure = failures.get(outbox.getId());
+
+                if (failure == null) {
+                    outbox.setStatus(Status.SENT);
+                    outbox.setSentAt(now);
+                    outbox.setLastError(null);
+                    sent.increment();
+                    continue;
+                }
+
+                outbox.setAttempts(outbox.getAttempts() + 1);
+                outbox.setLastError(truncate(failure.getMessage()));
+
+                if (malformed.contains(outbox.getId()) || outbox.getAttempts() >= maxAttempts) {
+                    outbox.setStatus(Status.DEAD);
+                    deadLettered.increment();
+                    log.error("☠️ Email {} to {} dead-lettered after {} attempt(s): {}",
+                            outbox.getId(), outbox.getRecipient(), outbox.getAttempts(), failure.getMessage());
+                } else {
+                    outbox.setStatus(Status.PENDING);
+                    outbox.setNextAttemptAt(now.plusSeconds(backoffSeconds(outbox.getAttempts())));
+                    retried.increment();
+                    log.warn("⚠️ Email {} to {} failed (attempt {}), retrying at {}: {}",
+                            outbox.getId(), outbox.getRecipient(), outbox.getAttempts(),
+                            outbox.getNextAttemptAt(), failure.getMessage());
+                }
+            }
+        });
+
+        log.info("📧 Outbox batch delivered: {} sent, {} failed", batch.size() - failures.size(), failures.size());
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, outbox.isHtml());
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody(), outbox.isHtml());
+        return message;
+    }
+
+    private long backoffSeconds(int attempts) {
+        long delay = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        // Up to 20% jitter so a failed batch does not retry in lockstep
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter outboxCounter(MeterRegistry registry, String result) {
+        return Counter.builder("email.outbox.deliveries")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -4,6 +4,7 @@ package com.dev.core.service.impl.email;
 
 import com.dev.core.domain.email.EmailTemplate;
 import com.dev.core.domain.email.EmailTemplateVersion;
+import com.dev.core.email.EmailTemplateCache;
 import com.dev.core.mapper.email.EmailTemplateMapper;
 import com.dev.core.model.email.EmailTemplateDTO;
 import com.dev.core.repository.EmailTemplateRepository;
@@ -22,6 +23,7 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
     private final EmailTemplateVersionRepository versionRepo;
     private final EmailTemplateValidator validator;
     private final EmailTemplateMapper mapper;
+    private final EmailTemplateCache templateCache;
 
     @Override
     public EmailTemplateDTO createTemplate(EmailTemplateDTO dto) {
@@ -33,6 +35,7 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
         EmailTemplate saved = templateRepo.save(entity);
 
         saveVersion(saved, "Created");
+        templateCache.evict(saved.getCode());
 
         return mapper.toDTO(saved);
     }
@@ -45,11 +48,14 @@ public class EmailTemplateServiceImpl implements EmailTemplateService {
 
         validator.validate(dto);
 
+        String previousCode = entity.getCode();
         mapper.updateEntityFromDTO(dto, entity);
 
         EmailTemplate updated = templateRepo.save(entity);
 
         saveVersion(updated, "Updated");
+        templateCache.evict(previousCode);
+        templateCache.evict(updated.getCode());
 
         return mapper.toDTO(updated);
     }
@@ -0,0 +1,107 @@
+package com.dev.core.service.impl.identity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.dev.core.repository.UserRepository;
+import com.dev.core.repository.UserRepository.IdentityRow;
+import com.dev.core.util.TransactionUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves user ids to display identities (name, email, employee id) for summary
+ * screens, in one query per batch of misses instead of one lookup per row.
+ *
+ * Results are cached briefly; employee and user edits invalidate their entry after
+ * commit and the TTL bounds anything else.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdentityResolver {
+
+    private static final long TTL_MS = 60_000;
+    private static final int MAX_ENTRIES = 50_000;
+    // Keeps the IN list within what every supported database accepts
+    private static final int QUERY_CHUNK = 1_000;
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public record Identity(Long userId, Long employeeId, String displayName, String email) {
+    }
+
+    /**
+     * Returns an identity for every given id; unknown users get a "User {id}" placeholder.
+     */
+    public Map<Long, Identity> resolve(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, Identity> result = new HashMap<>(userIds.size() * 2);
+        Set<Long> misses = new HashSet<>();
+
+        for (Long userId : userIds) {
+            if (userId == null) {
+                continue;
+            }
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt() <= TTL_MS) {
+                result.put(userId, entry.identity());
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            if (entries.size() + misses.size() > MAX_ENTRIES) {
+                entries.clear();
+            }
+            Long[] ids = misses.toArray(Long[]::new);
+            for (int i = 0; i < ids.length; i += QUERY_CHUNK) {
+                Set<Long> chunk = Set.of(Arrays.copyOfRange(ids, i, Math.min(i + QUERY_CHUNK, ids.length)));
+                for (IdentityRow row : userRepository.findIdentitiesByIdIn(chunk)) {
+                    Identity identity = toIdentity(row);
+                    entries.put(identity.userId(), new Entry(identity, now));
+                    result.put(identity.userId(), identity);
+                }
+            }
+            for (Long userId : misses) {
+                result.computeIfAbsent(userId, id -> new Identity(id, null, "User " + id, null));
+            }
+        }
+        return result;
+    }
+
+    public Identity resolve(Long userId) {
+        return resolve(Set.of(userId)).get(userId);
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            TransactionUtils.afterCommit(() -> entries.remove(userId));
+        }
+    }
+
+    private static Identity toIdentity(IdentityRow row) {
+        String email = row.getEmployeeEmail() != null ? row.getEmployeeEmail() : row.getUserEmail();
+        String name;
+        if (row.getFirstName() != null && row.getLastName() != null) {
+            name = row.getFirstName() + " " + row.getLastName();
+        } else if (email != null) {
+            name = email;
+        } else {
+            name = "User " + row.getUserId();
+        }
+        return new Identity(row.getUserId(), row.getEmployeeId(), name, email);
+    }
+
+    private record Entry(Identity identity, long loadedAt) {
+    }
+}
@@ -146,7 +146,7 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
     
     @Transactional(readOnly = true)
     @Override
-    public byte[] loadDocument(Long attachmentId) {
+    public Path getDocumentPath(Long attachmentId) {
         authorize("READ");
 
         TaskAttachment attachment = attachmentRepository.findById(attachmentId)
@@ -157,7 +157,7 @@ public class TaskAttachmentServiceImpl implements TaskAttachmentService {
         // Extract fileId from storedPath (stored like: uploadDir/taskId/fileId.ext)
         String fileId = Paths.get(attachment.getStoredPath()).getFileName().toString();
 
-        return fileStorageService.getFileBytes(fileId, taskId);
+        return fileStorageService.getFilePath(fileId, taskId);
     }
 
 }
@@ -0,0 +1,197 @@
+package com.dev.core.service.impl.task;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.core.constants.TaskStatus;
+import com.dev.core.domain.Task;
+import com.dev.core.repository.task.TaskDependencyRepository;
+import com.dev.core.service.task.TaskDependencyGraph;
+import com.dev.core.service.task.TaskDependencyGraphService;
+import com.dev.core.util.TransactionUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskDependencyGraphServiceImpl implements TaskDependencyGraphService {
+
+    private static final String CACHE_NAME = "taskDependencyGraphs";
+
+    private final TaskDependencyRepository dependencyRepository;
+
+    private final int maxSize;
+    // Invalidation only reaches this instance; the TTL bounds how long others serve a stale graph
+    private final long ttlMs;
+    private final Map<Long, CachedGraph> cache;
+
+    // Bumped on every invalidation (guarded by cache) so a load that raced with one is not cached
+    private long epoch;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+
+    private record CachedGraph(TaskDependencyGraph graph, long loadedAt) {
+    }
+
+    public TaskDependencyGraphServiceImpl(TaskDependencyRepository dependencyRepository,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${tasks.dependency-graph-cache.max-size:500}") int maxSize,
+                                          @Value("${tasks.dependency-graph-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.dependencyRepository = dependencyRepository;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlSeconds * 1000;
+
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedGraph> eldest) {
+                return size() > TaskDependencyGraphServiceImpl.this.maxSize;
+            }
+        };
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.expirations = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).tag("cause", "expired")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, TaskDependencyGraphServiceImpl::cacheSize)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TaskDependencyGraph.Analysis analyzeProject(Long projectId) {
+        return graph(projectId).analyze();
+    }
+
+    @Override
+    public List<TaskDependencyGraph.BlockedTask> getBlockedTasks(Long projectId) {
+        return graph(projectId).blockedTasks();
+    }
+
+    /**
+     * Walks the database rather than the cached graph: the check guards a write, so it
+     * must see dependencies added on other instances and earlier in the caller's
+     * transaction, which a cached graph may not.
+     */
+    @Override
+    public boolean wouldCreateCycle(Task task, Task dependsOn) {
+        if (task.getId().equals(dependsOn.getId())) {
+            return true;
+        }
+        // A cycle closes exactly when the new prerequisite already depends on the task
+        return reaches(dependsOn.getId(), task.getId());
+    }
+
+    /** Breadth-first walk of prerequisites in the database, one query per level */
+    private boolean reaches(Long fromTaskId, Long targetTaskId) {
+        Set<Long> seen = new HashSet<>();
+        Set<Long> frontier = Set.of(fromTaskId);
+        while (!frontier.isEmpty()) {
+            seen.addAll(frontier);
+            Set<Long> next = new HashSet<>();
+            for (Long id : dependencyRepository.findDependsOnIds(frontier)) {
+                if (id.equals(targetTaskId)) {
+                    return true;
+                }
+                if (!seen.contains(id)) {
+                    next.add(id);
+                }
+            }
+            frontier = next;
+        }
+        return false;
+    }
+
+    @Override
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            synchronized (cache) {
+                epoch++;
+                cache.remove(projectId);
+            }
+        });
+    }
+
+    @Override
+    public void invalidateTask(Task task) {
+        Set<Long> projectIds = new HashSet<>();
+        projectIds.add(projectIdOf(task));
+        dependencyRepository.findByDependsOn_Id(task.getId())
+                .forEach(dependency -> projectIds.add(projectIdOf(dependency.getTask())));
+        projectIds.forEach(this::invalidate);
+    }
+
+    private static Long projectIdOf(Task task) {
+        return task.getProject() != null ? task.getProject().getId() : null;
+    }
+
+    private TaskDependencyGraph graph(Long projectId) {
+        long now = System.currentTimeMillis();
+        long seenEpoch;
+        synchronized (cache) {
+            seenEpoch = epoch;
+            CachedGraph cached = cache.get(projectId);
+            if (cached != null) {
+                if (now - cached.loadedAt() <= ttlMs) {
+                    hits.increment();
+                    return cached.graph();
+                }
+                cache.remove(projectId);
+                expirations.increment();
+            }
+        }
+
+        misses.increment();
+        TaskDependencyGraph loaded = load(projectId);
+
+        synchronized (cache) {
+            if (epoch == seenEpoch) {
+                cache.put(projectId, new CachedGraph(loaded, now));
+            }
+        }
+        return loaded;
+    }
+
+    private TaskDependencyGraph load(Long projectId) {
+        List<Map<String, Object>> rows = dependencyRepository.findGraphRows(projectId);
+        TaskDependencyGraph.Builder builder = TaskDependencyGraph.builder(projectId);
+
+        for (Map<String, Object> row : rows) {
+            builder.task((Long) row.get("taskId"), (TaskStatus) row.get("status"),
+                    (Double) row.get("estimatedHours"), false);
+        }
+        for (Map<String, Object> row : rows) {
+            Long dependsOnId = (Long) row.get("dependsOnId");
+            if (dependsOnId == null) {
+                continue;
+            }
+            builder.task(dependsOnId, (TaskStatus) row.get("dependsOnStatus"), (Double) row.get("dependsOnEstimatedHours"),
+                    !projectId.equals(row.get("dependsOnProjectId")));
+            builder.edge((Long) row.get("taskId"), dependsOnId);
+        }
+
+        log.debug("Built dependency graph for project {} from {} rows", projectId, rows.size());
+        return builder.build();
+    }
+
+    private int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import com.dev.core.repository.task.TaskDependencyRepository;
 import com.dev.core.repository.task.TaskRepository;
 import com.dev.core.service.AuthorizationService;
 import com.dev.core.service.task.TaskAutomationService;
+import com.dev.core.service.task.TaskDependencyGraph;
+import com.dev.core.service.task.TaskDependencyGraphService;
 import com.dev.core.service.task.TaskDependencyService;
 import com.dev.core.service.validation.task.TaskDependencyValidator;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     private final TaskDependencyValidator dependencyValidator;
     private final AuthorizationService authorizationService;
     private final TaskAutomationService taskAutomationService;
+    private final TaskDependencyGraphService graphService;
 
     // --- AUTHORIZATION WRAPPER ---
     private void authorize(String action) {
@@ -66,6 +69,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         entity.setActive(true);
 
         TaskDependency saved = dependencyRepository.save(entity);
+        graphService.invalidate(projectIdOf(task));
 
         log.info("✅ Dependency created: Task {} depends on Task {}", task.getId(), dependsOn.getId());
 
@@ -84,6 +88,7 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
                 .orElseThrow(() -> new BaseException("error.dependency.not.found", new Object[]{id}));
 
         dependencyRepository.delete(dependency);
+        graphService.invalidate(projectIdOf(dependency.getTask()));
 
         taskAutomationService.onDependencyResolved(dependency.getTask().getId(), dependency.getId());
     }
@@ -121,9 +126,27 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     @Override
     public boolean hasUnresolvedDependencies(Long taskId) {
         authorize("READ");
-        return dependencyRepository.findByTaskId(taskId)
-                .stream()
-                .map(TaskDependency::getDependsOn)
-                .anyMatch(t -> t.getStatus() != com.dev.core.constants.TaskStatus.DONE);
+        return dependencyRepository.countUnresolved(taskId) > 0;
+    }
+
+    // --------------------------------------------------------------
+    // PROJECT DEPENDENCY GRAPH
+    // --------------------------------------------------------------
+    @Transactional(readOnly = true)
+    @Override
+    public TaskDependencyGraph.Analysis analyzeProject(Long projectId) {
+        authorize("READ");
+        return graphService.analyzeProject(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<TaskDependencyGraph.BlockedTask> getBlockedTasks(Long projectId) {
+        authorize("READ");
+        return graphService.getBlockedTasks(projectId);
+    }
+
+    private static Long projectIdOf(Task task) {
+        return task.getProject() != null ? task.getProject().getId() : null;
     }
 }
@@ -30,6 +30,7 @@ import com.dev.core.service.AuthorizationService;
 import com.dev.core.service.BaseEntityAuditService;
 import com.dev.core.service.task.TaskAssignmentService;
 import com.dev.core.service.task.TaskAutomationService;
+import com.dev.core.service.task.TaskDependencyGraphService;
 import com.dev.core.service.task.TaskService;
 import com.dev.core.service.task.TaskTagService;
 import com.dev.core.service.validation.task.TaskValidator;
@@ -55,6 +56,7 @@ public class TaskServiceImpl implements TaskService {
     private final TaskMapper taskMapper;
     private final TaskAssignmentService taskAssignmentService;
     private final TaskTagService taskTagService;
+    private final TaskDependencyGraphService dependencyGraphService;
 
 
     // ✅ Authorization wrapper for all actions
@@ -98,6 +100,7 @@ public class TaskServiceImpl implements TaskService {
         entity.setOwnerId(securityContextUtil.getCurrentEmployee().getId());
 
         Task saved = taskRepository.save(entity);
+        dependencyGraphService.invalidate(dto.getProjectId());
         
         if (dto.getAssigneeIds() != null && !dto.getAssigneeIds().isEmpty()) {
             taskAssignmentService.replaceAssignees(saved.getId(), new HashSet<>(dto.getAssigneeIds()));
@@ -145,6 +148,9 @@ public class TaskServiceImpl implements TaskService {
         baseAuditService.applyAudit(existing, OperationType.UPDATE);
         
         Task updated = taskRepository.save(existing);
+        if (dto.getEstimatedHours() != null) {
+            dependencyGraphService.invalidateTask(updated);
+        }
         return taskMapper.toDTO(updated);
     }
 
@@ -164,6 +170,7 @@ public class TaskServiceImpl implements TaskService {
                     .forEach(sub -> taskRepository.deleteById(sub.getId()));
         }
         baseAuditService.applyAudit(task, OperationType.DELETE);
+        dependencyGraphService.invalidateTask(task);
 
 //        taskRepository.deleteById(id);
         taskAutomationService.onTaskDeleted(id);
@@ -280,6 +287,7 @@ public class TaskServiceImpl implements TaskService {
 
 
         Task updated = taskRepository.save(task);
+        dependencyGraphService.invalidateTask(updated);
         taskAutomationService.onTaskStatusChanged(taskId, oldStatus.name(), newStatus.name());
 
         // Auto close parent if all subtasks are done
@@ -350,6 +358,8 @@ public class TaskServiceImpl implements TaskService {
 
         Task task = taskRepository.findById(taskId).orElseThrow();
         Task dependsOn = taskRepository.findById(dependsOnTaskId).orElseThrow();
+        if (dependencyGraphService.wouldCreateCycle(task, dependsOn))
+            throw new BaseException("error.task.dependency.cycle", new Object[]{taskId, dependsOnTaskId});
 
         com.dev.core.domain.TaskDependency dependency = new com.dev.core.domain.TaskDependency();
         dependency.setTask(task);
@@ -359,14 +369,17 @@ public class TaskServiceImpl implements TaskService {
 
         task.getDependencies().add(dependency);
         taskRepository.save(task);
+        dependencyGraphService.invalidate(projectIdOf(task));
     }
 
     @Override
     public void removeDependency(Long taskId, Long dependsOnTaskId) {
         authorize("UPDATE");
-        taskRepository.findById(taskId).ifPresent(task ->
-                task.getDependencies().removeIf(d -> d.getDependsOn().getId().equals(dependsOnTaskId))
-        );
+        taskRepository.findById(taskId).ifPresent(task -> {
+            if (task.getDependencies().removeIf(d -> d.getDependsOn().getId().equals(dependsOnTaskId))) {
+                dependencyGraphService.invalidate(projectIdOf(task));
+            }
+        });
     }
 
     @Override
@@ -421,4 +434,8 @@ public class TaskServiceImpl implements TaskService {
             markTaskComplete(parentTaskId);
         }
     }
+
+    private static Long projectIdOf(Task task) {
+        return task.getProject() != null ? task.getProject().getId() : null;
+    }
 }
@@ -0,0 +1,24 @@
+package com.dev.core.service.leave;
+
+import java.util.List;
+
+import com.dev.core.domain.leave.LeaveBalance;
+import com.dev.core.domain.leave.LeaveRequest;
+import com.dev.core.domain.leave.LeaveType;
+
+/**
+ * The only writer of leave balances: every change is an atomic SQL increment on
+ * {@link LeaveBalance} plus an append-only ledger entry, so approvals and the
+ * scheduled jobs never overwrite each other's updates.
+ */
+public interface LeaveLedgerService {
+
+    /** Deducts an approved request; fails when the balance no longer covers it */
+    void debit(LeaveBalance balance, LeaveRequest request, int days);
+
+    /** Credits one month's accrual to the given balances of the type; returns how many were credited */
+    int accrue(LeaveType leaveType, int month, int days, List<Long> balanceIds);
+
+    /** Sets the carried-forward opening balance, saving {@code balance} first when it is new */
+    void applyCarryForward(LeaveBalance balance, int carry);
+}
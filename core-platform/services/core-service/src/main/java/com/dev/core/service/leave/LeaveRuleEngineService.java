@@ -4,6 +4,7 @@ package com.dev.core.service.leave;
 import java.time.LocalDate;
 
 import com.dev.core.domain.Employee;
+import com.dev.core.domain.leave.LeaveBalance;
 import com.dev.core.domain.leave.LeaveRequest;
 import com.dev.core.domain.leave.LeaveType;
 
@@ -11,12 +12,24 @@ public interface LeaveRuleEngineService {
 
     void validateDateRange(LeaveRequest request);
 
+    /**
+     * Runs every submission rule (dates, overlaps, limits, balance) against a single
+     * usage aggregate and returns the balance it checked.
+     */
+    LeaveBalance validateRequest(Employee employee, LeaveType leaveType, LeaveRequest request);
+
+    LeaveUsage loadUsage(Employee employee, LeaveType leaveType, LeaveRequest request);
+
     void validateLeaveLimits(Employee employee, LeaveType leaveType, LeaveRequest request);
 
-    void validateLeaveBalance(Employee employee, LeaveType leaveType, LeaveRequest request);
+    void validateLeaveLimits(LeaveType leaveType, LeaveRequest request, LeaveUsage usage);
+
+    LeaveBalance validateLeaveBalance(Employee employee, LeaveType leaveType, LeaveRequest request);
 
     void checkOverlappingLeaves(Employee employee, LeaveRequest request);
 
+    void checkOverlappingLeaves(LeaveRequest request, LeaveUsage usage);
+
     void checkManagerApproval(Employee employee, Long managerId);
     
     int calculateWorkingDays(LocalDate start, LocalDate end);
@@ -0,0 +1,13 @@
+package com.dev.core.service.leave;
+
+/**
+ * An employee's existing usage of one leave type around a request, loaded once by
+ * {@link LeaveRuleEngineService#loadUsage} and shared by the limit and overlap checks.
+ *
+ * @param usedThisMonth   days used in the request's start month
+ * @param usedThisQuarter days used in the request's start quarter
+ * @param usedThisYear    days used in the request's start year
+ * @param overlaps        other pending/approved requests overlapping the request dates
+ */
+public record LeaveUsage(int usedThisMonth, int usedThisQuarter, int usedThisYear, int overlaps) {
+}
@@ -0,0 +1,96 @@
+package com.dev.core.service.leave.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.core.constants.LeaveLedgerEntryType;
+import com.dev.core.domain.leave.LeaveBalance;
+import com.dev.core.domain.leave.LeaveLedgerEntry;
+import com.dev.core.domain.leave.LeaveRequest;
+import com.dev.core.domain.leave.LeaveType;
+import com.dev.core.exception.ValidationFailedException;
+import com.dev.core.repository.leave.LeaveBalanceRepository;
+import com.dev.core.repository.leave.LeaveLedgerEntryRepository;
+import com.dev.core.service.leave.LeaveLedgerService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LeaveLedgerServiceImpl implements LeaveLedgerService {
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerEntryRepository ledgerRepository;
+
+    @Override
+    public void debit(LeaveBalance balance, LeaveRequest request, int days) {
+        // Guarded increment: a concurrent approval that drained the balance makes this a no-op
+        if (leaveBalanceRepository.debit(balance.getId(), days) == 0) {
+            throw new ValidationFailedException("error.leaveRequest.insufficient.balance",
+                    new Object[]{available(balance), days});
+        }
+
+        LeaveLedgerEntry entry = entry(balance, LeaveLedgerEntryType.LEAVE_TAKEN, -days);
+        entry.setLeaveRequestId(request.getId());
+        ledgerRepository.save(entry);
+    }
+
+    @Override
+    public int accrue(LeaveType leaveType, int month, int days, List<Long> balanceIds) {
+        if (balanceIds.isEmpty()) {
+            return 0;
+        }
+        // Same predicate in both statements: only balances without this month's entry.
+        // A racing run that credited the same balances fails on uk_leave_ledger_accrual
+        // when posting, which rolls its credits back with it.
+        int credited = leaveBalanceRepository.accrue(balanceIds, month, days);
+        int posted = ledgerRepository.postAccruals(balanceIds, month, days);
+        if (credited != posted) {
+            throw new IllegalStateException(String.format(
+                    "Leave accrual type=%d month=%d: credited %d balances but posted %d ledger entries",
+                    leaveType.getId(), month, credited, posted));
+        }
+        return credited;
+    }
+
+    @Override
+    public void applyCarryForward(LeaveBalance balance, int carry) {
+        int previous = balance.getOpeningBalance() == null ? 0 : balance.getOpeningBalance();
+
+        if (balance.getId() == null) {
+            balance.setOpeningBalance(carry);
+            balance.setClosingBalance(available(balance));
+            leaveBalanceRepository.save(balance);
+        } else {
+            leaveBalanceRepository.setOpeningBalance(balance.getId(), carry);
+        }
+
+        // Record only the change, so re-running the job adds nothing
+        if (carry != previous) {
+            ledgerRepository.save(entry(balance, LeaveLedgerEntryType.CARRY_FORWARD, carry - previous));
+        }
+    }
+
+    private LeaveLedgerEntry entry(LeaveBalance balance, LeaveLedgerEntryType type, int days) {
+        LeaveLedgerEntry entry = new LeaveLedgerEntry();
+        entry.setOrganizationId(balance.getOrganizationId());
+        entry.setEmployeeId(balance.getEmployee().getId());
+        entry.setLeaveTypeId(balance.getLeaveType().getId());
+        entry.setYear(balance.getYear());
+        entry.setEntryType(type);
+        entry.setDays(days);
+        entry.setPostedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    private static int available(LeaveBalance balance) {
+        int opening = balance.getOpeningBalance() == null ? 0 : balance.getOpeningBalance();
+        int earned = balance.getEarned() == null ? 0 : balance.getEarned();
+        int used = balance.getUsed() == null ? 0 : balance.getUsed();
+        return opening + earned - used;
+    }
+}
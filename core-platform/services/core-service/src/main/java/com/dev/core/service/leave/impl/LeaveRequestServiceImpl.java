@@ -11,15 +11,14 @@ import com.dev.core.domain.Employee;
 import com.dev.core.domain.leave.LeaveBalance;
 import com.dev.core.domain.leave.LeaveRequest;
 import com.dev.core.domain.leave.LeaveType;
-import com.dev.core.exception.ValidationFailedException;
 import com.dev.core.mapper.leave.LeaveRequestMapper;
 import com.dev.core.model.leave.LeaveRequestDTO;
 import com.dev.core.model.leave.MinimalLeaveRequestDTO;
 import com.dev.core.repository.EmployeeRepository;
-import com.dev.core.repository.leave.LeaveBalanceRepository;
 import com.dev.core.repository.leave.LeaveRequestRepository;
 import com.dev.core.repository.leave.LeaveTypeRepository;
 import com.dev.core.service.NotificationService;
+import com.dev.core.service.leave.LeaveLedgerService;
 import com.dev.core.service.leave.LeaveRequestService;
 import com.dev.core.service.leave.LeaveRuleEngineService;
 import com.dev.core.service.validation.leave.LeaveRequestValidator;
@@ -34,9 +33,9 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
     private final LeaveTypeRepository leaveTypeRepository;
-    private final LeaveBalanceRepository leaveBalanceRepository;
     private final LeaveRequestValidator validator;
     private final LeaveRuleEngineService ruleEngine;
+    private final LeaveLedgerService ledgerService;
     private final NotificationService notificationService;
 
     @Override
@@ -59,10 +58,7 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         entity.setManager(employeeRepository.findById(dto.getManagerId()).orElse(null));
 
         // ---------------- RULE ENGINE VALIDATIONS ----------------
-        ruleEngine.validateDateRange(entity);
-        ruleEngine.checkOverlappingLeaves(employee, entity);
-        ruleEngine.validateLeaveLimits(employee, leaveType, entity);
-        ruleEngine.validateLeaveBalance(employee, leaveType, entity);
+        ruleEngine.validateRequest(employee, leaveType, entity);
 
         // Save
         entity = leaveRequestRepository.save(entity);
@@ -106,10 +102,7 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         Employee employee = entity.getEmployee();
         LeaveType leaveType = entity.getLeaveType();
 
-        ruleEngine.validateDateRange(entity);
-        ruleEngine.checkOverlappingLeaves(employee, entity);
-        ruleEngine.validateLeaveLimits(employee, leaveType, entity);
-        ruleEngine.validateLeaveBalance(employee, leaveType, entity);
+        ruleEngine.validateRequest(employee, leaveType, entity);
 
         entity = leaveRequestRepository.save(entity);
         return LeaveRequestMapper.toDTO(entity);
@@ -152,29 +145,15 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
 
         // ---------------- RULE ENGINE VALIDATIONS ----------------
         ruleEngine.validateDateRange(entity);
-        ruleEngine.validateLeaveBalance(employee, leaveType, entity);
+        LeaveBalance balance = ruleEngine.validateLeaveBalance(employee, leaveType, entity);
 
         // -------------- DEDUCT BALANCE (Atomic) ----------------
-        int year = entity.getStartDate().getYear();
-        LeaveBalance balance = leaveBalanceRepository
-                .findByEmployeeIdAndLeaveTypeIdAndYear(employee.getId(), leaveType.getId(), year)
-                .orElseThrow(() -> new ValidationFailedException(
-                    "error.leaveRequest.balance.notfound",
-                    new Object[]{employee.getId(), leaveType.getId(), year}
-                ));
 
         int requestedDays = entity.getTotalDays() != null ?
                 (int) Math.round(entity.getTotalDays()) :
                 ruleEngine.calculateWorkingDays(entity.getStartDate(), entity.getEndDate());
 
-        int used = (balance.getUsed() == null ? 0 : balance.getUsed()) + requestedDays;
-        balance.setUsed(used);
-
-        int opening = balance.getOpeningBalance() == null ? 0 : balance.getOpeningBalance();
-        int earned = balance.getEarned() == null ? 0 : balance.getEarned();
-        balance.setClosingBalance(opening + earned - used);
-
-        leaveBalanceRepository.save(balance);
+        ledgerService.debit(balance, entity, requestedDays);
 
         // ---------------- UPDATE REQUEST ----------------
         entity.setStatus(LeaveStatus.APPROVED);
@@ -3,6 +3,7 @@ package com.dev.core.service.leave.impl;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -20,7 +21,9 @@ import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.leave.LeaveBalanceRepository;
 import com.dev.core.repository.leave.LeaveRequestRepository;
 import com.dev.core.repository.leave.LeaveTypeRepository;
+import com.dev.core.service.EmployeeHierarchyService;
 import com.dev.core.service.leave.LeaveRuleEngineService;
+import com.dev.core.service.leave.LeaveUsage;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,6 +37,7 @@ public class LeaveRuleEngineServiceImpl implements LeaveRuleEngineService {
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeHierarchyService hierarchyService;
 
     private static final Set<LeaveStatus> OVERLAP_STATUSES = Set.of(LeaveStatus.PENDING, LeaveStatus.APPROVED);
 
@@ -63,80 +67,88 @@ public class LeaveRuleEngineServiceImpl implements LeaveRuleEngineService {
     }
 
     @Override
-    public void validateLeaveLimits(Employee employee, LeaveType leaveType, LeaveRequest request) {
+    public LeaveBalance validateRequest(Employee employee, LeaveType leaveType, LeaveRequest request) {
+        validateDateRange(request);
+
+        LeaveUsage usage = loadUsage(employee, leaveType, request);
+        checkOverlappingLeaves(request, usage);
+        validateLeaveLimits(leaveType, request, usage);
+
+        return validateLeaveBalance(employee, leaveType, request);
+    }
+
+    @Override
+    public LeaveUsage loadUsage(Employee employee, LeaveType leaveType, LeaveRequest request) {
         if (employee == null) throw new ValidationFailedException("error.employee.null", null);
         if (leaveType == null) throw new ValidationFailedException("error.leaveType.null", null);
         if (request == null) throw new ValidationFailedException("error.leaveRequest.null", null);
 
-        Long empId = employee.getId();
-        Long typeId = leaveType.getId();
         LocalDate start = request.getStartDate();
         LocalDate end = request.getEndDate();
+        Long excludeId = request.getId() != null ? request.getId() : -1L;
+
+        LocalDate monthStart = start.withDayOfMonth(1);
+        LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+        LocalDate quarterStart = LocalDate.of(start.getYear(), ((start.getMonthValue() - 1) / 3) * 3 + 1, 1);
+        LocalDate quarterEnd = quarterStart.plusMonths(2).withDayOfMonth(quarterStart.plusMonths(2).lengthOfMonth());
+        LocalDate yearStart = LocalDate.of(start.getYear(), 1, 1);
+        LocalDate yearEnd = LocalDate.of(start.getYear(), 12, 31);
+
+        Map<String, Object> row = leaveRequestRepository.aggregateUsage(
+                employee.getId(), leaveType.getId(), excludeId, start, end,
+                monthStart, monthEnd, quarterStart, quarterEnd, yearStart, yearEnd);
+
+        int month = asInt(row.get("monthDays"));
+        int quarter = asInt(row.get("quarterDays"));
+        int year = asInt(row.get("yearDays"));
+
+        // Requests saved without totalDays: derive their days from the dates, as before
+        if (asInt(row.get("unsizedRows")) > 0) {
+            for (LeaveRequest r : leaveRequestRepository.findUnsizedInYear(
+                    employee.getId(), leaveType.getId(), excludeId, yearStart, yearEnd)) {
+                int days = calculateWorkingDays(r.getStartDate(), r.getEndDate());
+                year += days;
+                if (!r.getStartDate().isBefore(quarterStart) && !r.getStartDate().isAfter(quarterEnd)) quarter += days;
+                if (!r.getStartDate().isBefore(monthStart) && !r.getStartDate().isAfter(monthEnd)) month += days;
+            }
+        }
+
+        return new LeaveUsage(month, quarter, year, asInt(row.get("overlaps")));
+    }
 
-        int requestedDays = request.getTotalDays() != null ? (int) Math.round(request.getTotalDays()) :
-                calculateWorkingDays(start, end);
+    @Override
+    public void validateLeaveLimits(Employee employee, LeaveType leaveType, LeaveRequest request) {
+        validateLeaveLimits(leaveType, request, loadUsage(employee, leaveType, request));
+    }
 
-        int year = start.getYear();
-        int month = start.getMonthValue();
-        int quarter = ((month - 1) / 3) + 1;
+    @Override
+    public void validateLeaveLimits(LeaveType leaveType, LeaveRequest request, LeaveUsage usage) {
+        int requestedDays = requestedDays(request);
 
         // MONTHLY
-        if (leaveType.getMonthlyLimit() != null) {
-            LocalDate monthStart = LocalDate.of(year, month, 1);
-            LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
-            int usedThisMonth = leaveRequestRepository.findByEmployeeIdAndStartDateBetween(empId, monthStart, monthEnd)
-                    .stream()
-                    .filter(r -> r.getStatus() != null && r.getStatus() != LeaveStatus.REJECTED
-                            && r.getLeaveType() != null && typeId.equals(r.getLeaveType().getId()))
-                    .mapToInt(r -> r.getTotalDays() != null ? (int)Math.round(r.getTotalDays())
-                            : calculateWorkingDays(r.getStartDate(), r.getEndDate()))
-                    .sum();
-
-            if ((usedThisMonth + requestedDays) > leaveType.getMonthlyLimit()) {
-                throw new ValidationFailedException("error.leaveRequest.monthly.limit.exceeded",
-                        new Object[]{leaveType.getMonthlyLimit(), usedThisMonth, requestedDays});
-            }
+        if (leaveType.getMonthlyLimit() != null
+                && (usage.usedThisMonth() + requestedDays) > leaveType.getMonthlyLimit()) {
+            throw new ValidationFailedException("error.leaveRequest.monthly.limit.exceeded",
+                    new Object[]{leaveType.getMonthlyLimit(), usage.usedThisMonth(), requestedDays});
         }
 
         // QUARTERLY
-        if (leaveType.getQuarterlyLimit() != null) {
-            LocalDate qStart = LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
-            LocalDate qEnd = qStart.plusMonths(2).withDayOfMonth(qStart.plusMonths(2).lengthOfMonth());
-            int usedThisQuarter = leaveRequestRepository.findByEmployeeIdAndStartDateBetween(empId, qStart, qEnd)
-                    .stream()
-                    .filter(r -> r.getStatus() != null && r.getStatus() != LeaveStatus.REJECTED
-                            && r.getLeaveType() != null && typeId.equals(r.getLeaveType().getId()))
-                    .mapToInt(r -> r.getTotalDays() != null ? (int)Math.round(r.getTotalDays())
-                            : calculateWorkingDays(r.getStartDate(), r.getEndDate()))
-                    .sum();
-
-            if ((usedThisQuarter + requestedDays) > leaveType.getQuarterlyLimit()) {
-                throw new ValidationFailedException("error.leaveRequest.quarterly.limit.exceeded",
-                        new Object[]{leaveType.getQuarterlyLimit(), usedThisQuarter, requestedDays});
-            }
+        if (leaveType.getQuarterlyLimit() != null
+                && (usage.usedThisQuarter() + requestedDays) > leaveType.getQuarterlyLimit()) {
+            throw new ValidationFailedException("error.leaveRequest.quarterly.limit.exceeded",
+                    new Object[]{leaveType.getQuarterlyLimit(), usage.usedThisQuarter(), requestedDays});
         }
 
         // ANNUAL
-        if (leaveType.getAnnualLimit() != null) {
-            LocalDate yearStart = LocalDate.of(year, 1, 1);
-            LocalDate yearEnd = LocalDate.of(year, 12, 31);
-            int usedThisYear = leaveRequestRepository.findByEmployeeIdAndStartDateBetween(empId, yearStart, yearEnd)
-                    .stream()
-                    .filter(r -> r.getStatus() != null && r.getStatus() != LeaveStatus.REJECTED
-                            && r.getLeaveType() != null && typeId.equals(r.getLeaveType().getId()))
-                    .mapToInt(r -> r.getTotalDays() != null ? (int)Math.round(r.getTotalDays())
-                            : calculateWorkingDays(r.getStartDate(), r.getEndDate()))
-                    .sum();
-
-            if ((usedThisYear + requestedDays) > leaveType.getAnnualLimit()) {
-                throw new ValidationFailedException("error.leaveRequest.annual.limit.exceeded",
-                        new Object[]{leaveType.getAnnualLimit(), usedThisYear, requestedDays});
-            }
+        if (leaveType.getAnnualLimit() != null
+                && (usage.usedThisYear() + requestedDays) > leaveType.getAnnualLimit()) {
+            throw new ValidationFailedException("error.leaveRequest.annual.limit.exceeded",
+                    new Object[]{leaveType.getAnnualLimit(), usage.usedThisYear(), requestedDays});
         }
     }
 
     @Override
-    public void validateLeaveBalance(Employee employee, LeaveType leaveType, LeaveRequest request) {
+    public LeaveBalance validateLeaveBalance(Employee employee, LeaveType leaveType, LeaveRequest request) {
         if (employee == null) throw new ValidationFailedException("error.employee.null", null);
         if (leaveType == null) throw new ValidationFailedException("error.leaveType.null", null);
         if (request == null) throw new ValidationFailedException("error.leaveRequest.null", null);
@@ -151,13 +163,13 @@ public class LeaveRuleEngineServiceImpl implements LeaveRuleEngineService {
         int used = balance.getUsed() == null ? 0 : balance.getUsed();
 
         int available = opening + earned - used;
-        int requestedDays = request.getTotalDays() != null ? (int) Math.round(request.getTotalDays()) :
-                calculateWorkingDays(request.getStartDate(), request.getEndDate());
+        int requestedDays = requestedDays(request);
 
         if (available < requestedDays) {
             throw new ValidationFailedException("error.leaveRequest.insufficient.balance",
                     new Object[]{available, requestedDays});
         }
+        return balance;
     }
 
     @Override
@@ -183,6 +195,14 @@ public class LeaveRuleEngineServiceImpl implements LeaveRuleEngineService {
         }
     }
 
+    @Override
+    public void checkOverlappingLeaves(LeaveRequest request, LeaveUsage usage) {
+        // The aggregate already excludes the request itself
+        if (usage.overlaps() > 0) {
+            throw new ValidationFailedException("error.leaveRequest.overlap", new Object[]{usage.overlaps()});
+        }
+    }
+
     @Override
     public void checkManagerApproval(Employee employee, Long managerId) {
         if (employee == null) throw new ValidationFailedException("error.employee.null", null);
@@ -192,13 +212,23 @@ public class LeaveRuleEngineServiceImpl implements LeaveRuleEngineService {
             throw new UnauthorizedAccessException("This employee has no assigned manager.");
         }
 
+        // The direct manager or anyone above them in the reporting line may approve
         Long actualManagerId = employee.getManager().getId();
-        if (!actualManagerId.equals(managerId)) {
+        if (!actualManagerId.equals(managerId) && !hierarchyService.isSubordinate(managerId, employee.getId())) {
             throw new UnauthorizedAccessException("You are not authorized to approve this leave request.");
         }
     }
 
     // ---------- helper ----------
+    private int requestedDays(LeaveRequest request) {
+        return request.getTotalDays() != null ? (int) Math.round(request.getTotalDays()) :
+                calculateWorkingDays(request.getStartDate(), request.getEndDate());
+    }
+
+    private static int asInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
     public int calculateWorkingDays(LocalDate start, LocalDate end) {
         if (start == null || end == null) return 0;
         if (end.isBefore(start)) return 0;
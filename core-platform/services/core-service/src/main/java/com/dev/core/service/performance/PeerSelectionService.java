@@ -3,6 +3,9 @@
 package com.dev.core.service.performance;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import com.dev.core.domain.Employee;
 
 public interface PeerSelectionService {
@@ -12,4 +15,17 @@ public interface PeerSelectionService {
      */
     List<Employee> selectPeers(Employee employee, int limit);
 
+    /**
+     * Picks peer reviewers for every member of one department in a single pass,
+     * always taking the least-loaded eligible colleagues so review work is spread
+     * evenly (no one is asked for many more reviews than the others).
+     *
+     * @param members  the department's employees
+     * @param limit    peers wanted per employee
+     * @param existing peer reviewer ids already assigned per employee id; they count
+     *                 toward the limit and toward each reviewer's load
+     * @return the new reviewers per employee id
+     */
+    Map<Long, List<Employee>> assignPeers(List<Employee> members, int limit, Map<Long, Set<Long>> existing);
+
 }
@@ -0,0 +1,20 @@
+package com.dev.core.service.performance;
+
+import java.util.Optional;
+
+import com.dev.core.domain.performance.PerformanceCycleSummary;
+
+/**
+ * Keeps the per-cycle {@link PerformanceCycleSummary} row in step with the cycle's
+ * requests and reviews.
+ */
+public interface PerformanceCycleSummaryService {
+
+    Optional<PerformanceCycleSummary> findByCycleId(Long cycleId);
+
+    /** Recomputes the cycle's totals with grouped queries, creating the row if needed */
+    PerformanceCycleSummary rebuild(Long cycleId, Long organizationId);
+
+    /** Counts one submitted review; cycles without a summary row are left to the live queries */
+    void recordSubmission(Long cycleId, int rating);
+}
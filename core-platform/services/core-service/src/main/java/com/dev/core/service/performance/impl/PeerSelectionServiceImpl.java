@@ -1,7 +1,14 @@
 package com.dev.core.service.performance.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,8 +42,61 @@ public class PeerSelectionServiceImpl implements PeerSelectionService {
         List<Employee> candidates = employeeRepository.findByOrganizationIdAndDepartment_Id(employee.getOrganizationId(), deptId);
         if (candidates == null || candidates.isEmpty()) return Collections.emptyList();
 
+        candidates = new ArrayList<>(candidates);
+        candidates.removeIf(c -> exclude.contains(c.getId()));
+
         // simple deterministic selection: if fewer than limit, return all; otherwise random subset
         Collections.shuffle(candidates);
         return candidates.subList(0, Math.min(limit, candidates.size()));
     }
+
+    @Override
+    public Map<Long, List<Employee>> assignPeers(List<Employee> members, int limit, Map<Long, Set<Long>> existing) {
+        Map<Long, List<Employee>> assigned = new HashMap<>();
+        if (members == null || members.size() < 2 || limit <= 0) return assigned;
+
+        Map<Long, Integer> load = new HashMap<>();
+        existing.values().forEach(reviewers -> reviewers.forEach(r -> load.merge(r, 1, Integer::sum)));
+
+        // Random order breaks ties between equally loaded colleagues, as the shuffle did.
+        // Among those, colleagues whose own turn comes later are taken first: nobody can
+        // pick themselves, so the last few would otherwise end up with the least work.
+        List<Employee> order = new ArrayList<>(members);
+        Collections.shuffle(order);
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) rank.put(order.get(i).getId(), i);
+
+        PriorityQueue<Employee> pool = new PriorityQueue<>(
+                Comparator.comparingInt((Employee e) -> load.getOrDefault(e.getId(), 0))
+                        .thenComparingInt(e -> -rank.get(e.getId())));
+        pool.addAll(order);
+
+        for (Employee employee : order) {
+            Set<Long> already = existing.getOrDefault(employee.getId(), Set.of());
+            int needed = limit - already.size();
+            if (needed <= 0) continue;
+
+            Long managerId = employee.getManager() != null ? employee.getManager().getId() : null;
+            List<Employee> picked = new ArrayList<>(needed);
+            List<Employee> passedOver = new ArrayList<>();
+
+            // Polled reviewers leave the queue while their load changes, then go back in
+            while (picked.size() < needed && !pool.isEmpty()) {
+                Employee candidate = pool.poll();
+                if (candidate.getId().equals(employee.getId())
+                        || Objects.equals(candidate.getId(), managerId)
+                        || already.contains(candidate.getId())) {
+                    passedOver.add(candidate);
+                } else {
+                    picked.add(candidate);
+                }
+            }
+            for (Employee reviewer : picked) load.merge(reviewer.getId(), 1, Integer::sum);
+            pool.addAll(picked);
+            pool.addAll(passedOver);
+
+            if (!picked.isEmpty()) assigned.put(employee.getId(), picked);
+        }
+        return assigned;
+    }
 }
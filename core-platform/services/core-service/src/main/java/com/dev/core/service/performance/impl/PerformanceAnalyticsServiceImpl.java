@@ -1,17 +1,20 @@
 package com.dev.core.service.performance.impl;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.dev.core.domain.performance.PerformanceReview;
-import com.dev.core.model.performance.PerformanceReviewDTO;
+import com.dev.core.constants.ReviewStatus;
+import com.dev.core.domain.performance.PerformanceCycleSummary;
 import com.dev.core.repository.performance.PerformanceReviewRepository;
 import com.dev.core.repository.performance.PerformanceReviewRequestRepository;
+import com.dev.core.repository.projection.RatingSummary;
+import com.dev.core.repository.projection.StatusCount;
 import com.dev.core.service.performance.PerformanceAnalyticsService;
+import com.dev.core.service.performance.PerformanceCycleSummaryService;
 import com.dev.core.mapper.performance.PerformanceReviewMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ public class PerformanceAnalyticsServiceImpl implements PerformanceAnalyticsServ
 
     private final PerformanceReviewRepository reviewRepo;
     private final PerformanceReviewRequestRepository requestRepo;
+    private final PerformanceCycleSummaryService cycleSummaryService;
 
     // -----------------------------------------------
     // EMPLOYEE SUMMARY
@@ -32,20 +36,13 @@ public class PerformanceAnalyticsServiceImpl implements PerformanceAnalyticsServ
 
         Map<String, Object> summary = new HashMap<>();
 
-        List<PerformanceReview> reviews = reviewRepo.findByRequestEmployeeId(employeeId);
-
-        int total = reviews.size();
-        double avg = reviews.stream()
-                .mapToInt(r -> r.getRating() != null ? r.getRating() : 0)
-                .average()
-                .orElse(0.0);
+        RatingSummary ratings = reviewRepo.summarizeByEmployee(employeeId);
 
         summary.put("employeeId", employeeId);
-        summary.put("totalReviews", total);
-        summary.put("averageRating", avg);
+        summary.put("totalReviews", ratings.reviews().intValue());
+        summary.put("averageRating", ratings.averageRating());
         summary.put("latestReviews", 
-            reviews.stream()
-                   .limit(5)
+            reviewRepo.findTop5ByRequestEmployeeIdOrderByCreatedAtDesc(employeeId).stream()
                    .map(PerformanceReviewMapper::toDTO)
                    .toList()
         );
@@ -60,22 +57,12 @@ public class PerformanceAnalyticsServiceImpl implements PerformanceAnalyticsServ
     public Map<String, Object> getDepartmentSummary(Long departmentId) {
         Map<String, Object> summary = new HashMap<>();
 
-        // Fetch all review requests for employees in this department
-        List<PerformanceReview> reviews =
-                reviewRepo.findAll().stream()
-                        .filter(r -> r.getRequest().getEmployee().getDepartment() != null &&
-                                departmentId.equals(r.getRequest().getEmployee().getDepartment().getId()))
-                        .toList();
-
-        int total = reviews.size();
-        double avg = reviews.stream()
-                .mapToInt(r -> r.getRating() != null ? r.getRating() : 0)
-                .average()
-                .orElse(0.0);
+        // One aggregate over the department's reviews instead of walking every review
+        RatingSummary ratings = reviewRepo.summarizeByDepartment(departmentId);
 
         summary.put("departmentId", departmentId);
-        summary.put("totalReviews", total);
-        summary.put("averageRating", avg);
+        summary.put("totalReviews", ratings.reviews().intValue());
+        summary.put("averageRating", ratings.averageRating());
 
         return summary;
     }
@@ -87,21 +74,27 @@ public class PerformanceAnalyticsServiceImpl implements PerformanceAnalyticsServ
     public Map<String, Object> getCycleSummary(Long cycleId) {
         Map<String, Object> summary = new HashMap<>();
 
-        List<PerformanceReview> reviews = reviewRepo.findByRequestCycleId(cycleId);
-
-        int total = reviews.size();
-        double avg = reviews.stream()
-                .mapToInt(r -> r.getRating() != null ? r.getRating() : 0)
-                .average()
-                .orElse(0.0);
-
-        long pending = requestRepo.findByCycleId(cycleId).stream()
-                .filter(r -> r.getStatus().name().equals("PENDING"))
-                .count();
-
         summary.put("cycleId", cycleId);
-        summary.put("totalReviewsCompleted", total);
-        summary.put("averageRating", avg);
+
+        Optional<PerformanceCycleSummary> materialized = cycleSummaryService.findByCycleId(cycleId);
+        if (materialized.isPresent()) {
+            PerformanceCycleSummary s = materialized.get();
+            summary.put("totalReviewsCompleted", s.getCompletedReviews().intValue());
+            summary.put("averageRating", s.getAverageRating());
+            summary.put("pendingReviews", s.getPendingRequests());
+            summary.put("refreshedAt", s.getRefreshedAt());
+            return summary;
+        }
+
+        // Cycles without a summary row (created before it existed) use grouped queries
+        RatingSummary ratings = reviewRepo.summarizeByCycle(cycleId);
+        long pending = requestRepo.countByCycleGroupedByStatus(cycleId).stream()
+                .filter(r -> ReviewStatus.PENDING.name().equals(r.status()))
+                .mapToLong(StatusCount::count)
+                .sum();
+
+        summary.put("totalReviewsCompleted", ratings.reviews().intValue());
+        summary.put("averageRating", ratings.averageRating());
         summary.put("pendingReviews", pending);
 
         return summary;
@@ -0,0 +1,77 @@
+package com.dev.core.service.performance.impl;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.core.constants.ReviewStatus;
+import com.dev.core.domain.performance.PerformanceCycleSummary;
+import com.dev.core.repository.performance.PerformanceCycleSummaryRepository;
+import com.dev.core.repository.performance.PerformanceReviewRepository;
+import com.dev.core.repository.performance.PerformanceReviewRequestRepository;
+import com.dev.core.repository.projection.RatingSummary;
+import com.dev.core.repository.projection.StatusCount;
+import com.dev.core.service.performance.PerformanceCycleSummaryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class PerformanceCycleSummaryServiceImpl implements PerformanceCycleSummaryService {
+
+    private final PerformanceCycleSummaryRepository summaryRepo;
+    private final PerformanceReviewRepository reviewRepo;
+    private final PerformanceReviewRequestRepository requestRepo;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PerformanceCycleSummary> findByCycleId(Long cycleId) {
+        return summaryRepo.findByCycleId(cycleId);
+    }
+
+    /**
+     * Locks the summary row before counting. A submission that lands mid-rebuild
+     * otherwise increments the row and is then overwritten by counts that were read
+     * without it; with the lock it either commits first and is counted, or waits and
+     * increments the rebuilt row.
+     */
+    @Override
+    public PerformanceCycleSummary rebuild(Long cycleId, Long organizationId) {
+        Optional<PerformanceCycleSummary> existing = summaryRepo.lockByCycleId(cycleId);
+
+        long total = 0;
+        long pending = 0;
+        for (StatusCount row : requestRepo.countByCycleGroupedByStatus(cycleId)) {
+            total += row.count();
+            if (ReviewStatus.PENDING.name().equals(row.status())) {
+                pending = row.count();
+            }
+        }
+        RatingSummary ratings = reviewRepo.summarizeByCycle(cycleId);
+
+        PerformanceCycleSummary summary = existing.orElseGet(() -> {
+            PerformanceCycleSummary s = new PerformanceCycleSummary();
+            s.setCycleId(cycleId);
+            s.setOrganizationId(organizationId);
+            return s;
+        });
+        summary.setTotalRequests(total);
+        summary.setPendingRequests(pending);
+        summary.setCompletedReviews(ratings.reviews());
+        summary.setRatingTotal(ratings.ratingTotal());
+        summary.setRefreshedAt(LocalDateTime.now());
+        return summaryRepo.save(summary);
+    }
+
+    @Override
+    public void recordSubmission(Long cycleId, int rating) {
+        if (summaryRepo.recordSubmission(cycleId, rating, LocalDateTime.now()) == 0) {
+            log.debug("No summary for performance cycle {}; dashboard falls back to live queries", cycleId);
+        }
+    }
+}
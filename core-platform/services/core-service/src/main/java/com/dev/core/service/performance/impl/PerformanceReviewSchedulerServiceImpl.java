@@ -2,37 +2,48 @@ package com.dev.core.service.performance.impl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.dev.core.constants.ReviewStatus;
 import com.dev.core.constants.ReviewType;
 import com.dev.core.domain.Employee;
 import com.dev.core.domain.performance.PerformanceCycle;
-import com.dev.core.domain.performance.PerformanceReviewRequest;
 import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.performance.PerformanceCycleRepository;
+import com.dev.core.repository.performance.PerformanceReviewRequestBatchInserter;
+import com.dev.core.repository.performance.PerformanceReviewRequestBatchInserter.NewRequest;
 import com.dev.core.repository.performance.PerformanceReviewRequestRepository;
 import com.dev.core.security.SecurityContextUtil;
 import com.dev.core.service.NotificationService;
 import com.dev.core.service.performance.PeerSelectionService;
+import com.dev.core.service.performance.PerformanceCycleSummaryService;
 import com.dev.core.service.performance.PerformanceReviewSchedulerService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional
 public class PerformanceReviewSchedulerServiceImpl implements PerformanceReviewSchedulerService {
 
     private final PerformanceCycleRepository cycleRepo;
     private final PerformanceReviewRequestRepository requestRepo;
+    private final PerformanceReviewRequestBatchInserter requestInserter;
     private final EmployeeRepository employeeRepo;
     private final PeerSelectionService peerSelectionService;
+    private final PerformanceCycleSummaryService cycleSummaryService;
     private final NotificationService notificationService;
     private final SecurityContextUtil securityContextUtil;
 
@@ -45,79 +56,122 @@ public class PerformanceReviewSchedulerServiceImpl implements PerformanceReviewS
         int year = now.getYear();
         int quarter = ((now.getMonthValue() - 1) / 3) + 1;
 
-        // We'll create cycles per organization: map organizationId -> cycle
-        Map<Long, PerformanceCycle> cycleByOrg = new HashMap<>();
-
         // fetch all active employees; ensure repo method exists
         List<Employee> employees = employeeRepo.findByOrganizationId(securityContextUtil.getCurrentOrganizationId()); // adapt org filter if needed
+        Map<Long, Employee> employeesById = employees.stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
 
+        // We'll create cycles per organization: map organizationId -> employees
+        Map<Long, List<Employee>> employeesByOrg = new HashMap<>();
         for (Employee emp : employees) {
-            Long orgId = emp.getOrganizationId(); // may be null
-            PerformanceCycle cycle = cycleByOrg.computeIfAbsent(orgId, k -> {
-                return cycleRepo.findByYearAndQuarterAndOrganizationId(year, quarter, orgId)
-                        .orElseGet(() -> {
-                            PerformanceCycle pc = PerformanceCycle.builder()
-                                    .year(year)
-                                    .quarter(quarter)
-                                    .active(true)
-                                    .startedAt(LocalDateTime.now())
-                                    .build();
-                            return cycleRepo.save(pc);
-                        });
-            });
+            employeesByOrg.computeIfAbsent(emp.getOrganizationId(), k -> new ArrayList<>()).add(emp); // may be null
+        }
 
-            // create manager request
-            if (emp.getManager() != null) {
-                boolean exists = requestRepo.existsByCycleIdAndReviewerIdAndEmployeeId(cycle.getId(), emp.getManager().getId(), emp.getId());
-                if (!exists) {
-                    PerformanceReviewRequest mgrReq = PerformanceReviewRequest.builder()
-                            .cycle(cycle)
-                            .reviewer(emp.getManager())
-                            .employee(emp)
-                            .type(ReviewType.MANAGER)
-                            .status(ReviewStatus.PENDING)
-                            .build();
-                    requestRepo.save(mgrReq);
-                    // notify manager
-                    try {
-                        String to = emp.getManager().getEmail();
-                        if (to != null && !to.isBlank()) {
-                            notificationService.sendEmail(to,
-                                    "Quarterly Performance Review Assigned",
-                                    "You have a new performance review to complete for " + emp.getFullName());
-                        }
-                    } catch (Exception ex) {
-                        notificationService.handleNotificationFailure(emp.getManager().getEmail(), "perf-review-create", ex);
-                    }
-                }
+        List<PerformanceCycle> cycles = new ArrayList<>();
+        List<NewRequest> newRequests = new ArrayList<>();
+        for (Map.Entry<Long, List<Employee>> entry : employeesByOrg.entrySet()) {
+            PerformanceCycle cycle = findOrCreateCycle(entry.getKey(), year, quarter);
+            cycles.add(cycle);
+            newRequests.addAll(planCycleRequests(cycle, entry.getValue()));
+        }
+
+        requestInserter.insertPending(newRequests);
+        for (PerformanceCycle cycle : cycles) {
+            cycleSummaryService.rebuild(cycle.getId(), cycle.getOrganizationId());
+        }
+        log.info("Quarterly reviews Q{} {}: {} employees, {} new requests", quarter, year, employees.size(), newRequests.size());
+
+        notifyReviewers(newRequests, employeesById, quarter, year);
+    }
+
+    /**
+     * Works out the manager and peer requests still missing in the cycle: existing
+     * assignments come from one query, and peers are chosen per department in memory.
+     */
+    private List<NewRequest> planCycleRequests(PerformanceCycle cycle, List<Employee> employees) {
+        Set<String> assigned = new HashSet<>();
+        Map<Long, Set<Long>> existingPeers = new HashMap<>();
+        for (Map<String, Object> row : requestRepo.findAssignmentsByCycleId(cycle.getId())) {
+            Long reviewerId = (Long) row.get("reviewerId");
+            Long employeeId = (Long) row.get("employeeId");
+            assigned.add(reviewerId + ":" + employeeId);
+            if (row.get("type") == ReviewType.PEER) {
+                existingPeers.computeIfAbsent(employeeId, k -> new HashSet<>()).add(reviewerId);
             }
+        }
 
-            // peer requests
-            List<Employee> peers = peerSelectionService.selectPeers(emp, peerCount);
-            for (Employee peer : peers) {
-                boolean exists = requestRepo.existsByCycleIdAndReviewerIdAndEmployeeId(cycle.getId(), peer.getId(), emp.getId());
-                if (!exists) {
-                    PerformanceReviewRequest pReq = PerformanceReviewRequest.builder()
-                            .cycle(cycle)
-                            .reviewer(peer)
-                            .employee(emp)
-                            .type(ReviewType.PEER)
-                            .status(ReviewStatus.PENDING)
-                            .build();
-                    requestRepo.save(pReq);
-                    try {
-                        String to = peer.getEmail();
-                        if (to != null && !to.isBlank()) {
-                            notificationService.sendEmail(to,
-                                    "Peer Performance Review Requested",
-                                    "Please submit a peer review for " + emp.getFullName() + " for Q" + quarter + " " + year);
-                        }
-                    } catch (Exception ex) {
-                        notificationService.handleNotificationFailure(peer.getEmail(), "perf-review-create", ex);
+        List<NewRequest> planned = new ArrayList<>();
+
+        // manager requests
+        for (Employee emp : employees) {
+            if (emp.getManager() != null && assigned.add(emp.getManager().getId() + ":" + emp.getId())) {
+                planned.add(new NewRequest(cycle.getOrganizationId(), cycle.getId(),
+                        emp.getManager().getId(), emp.getId(), ReviewType.MANAGER));
+            }
+        }
+
+        // peer requests, one department at a time
+        Map<Long, List<Employee>> byDepartment = new HashMap<>();
+        for (Employee emp : employees) {
+            if (emp.getDepartment() != null && emp.getDepartment().getId() != null) {
+                byDepartment.computeIfAbsent(emp.getDepartment().getId(), k -> new ArrayList<>()).add(emp);
+            }
+        }
+        for (List<Employee> members : byDepartment.values()) {
+            peerSelectionService.assignPeers(members, peerCount, existingPeers).forEach((employeeId, peers) -> {
+                for (Employee peer : peers) {
+                    if (assigned.add(peer.getId() + ":" + employeeId)) {
+                        planned.add(new NewRequest(cycle.getOrganizationId(), cycle.getId(),
+                                peer.getId(), employeeId, ReviewType.PEER));
                     }
                 }
-            }
+            });
         }
+        return planned;
+    }
+
+    private PerformanceCycle findOrCreateCycle(Long orgId, int year, int quarter) {
+        return cycleRepo.findByYearAndQuarterAndOrganizationId(year, quarter, orgId)
+                .orElseGet(() -> {
+                    PerformanceCycle pc = PerformanceCycle.builder()
+                            .year(year)
+                            .quarter(quarter)
+                            .active(true)
+                            .startedAt(LocalDateTime.now())
+                            .build();
+                    pc.setOrganizationId(orgId);
+                    return cycleRepo.save(pc);
+                });
+    }
+
+    /**
+     * Queues one email per reviewer listing all of their new reviews, instead of one
+     * per request; delivery happens asynchronously through the email outbox.
+     */
+    private void notifyReviewers(List<NewRequest> requests, Map<Long, Employee> employeesById, int quarter, int year) {
+        Map<Long, List<NewRequest>> byReviewer = requests.stream()
+                .collect(Collectors.groupingBy(NewRequest::reviewerId, LinkedHashMap::new, Collectors.toList()));
+
+        byReviewer.forEach((reviewerId, assignments) -> {
+            Employee reviewer = employeesById.get(reviewerId);
+            String to = reviewer != null ? reviewer.getEmail() : null;
+            if (to == null || to.isBlank()) return;
+
+            StringBuilder body = new StringBuilder("You have new performance reviews to complete for Q")
+                    .append(quarter).append(' ').append(year).append(":\n");
+            for (NewRequest r : assignments) {
+                Employee employee = employeesById.get(r.employeeId());
+                body.append("\n- ")
+                        .append(r.type() == ReviewType.MANAGER ? "Manager review: " : "Peer review: ")
+                        .append(employee != null ? employee.getFullName() : "employee #" + r.employeeId());
+            }
+
+            try {
+                notificationService.sendEmail(to, "Quarterly Performance Reviews Assigned", body.toString());
+            } catch (Exception ex) {
+                notificationService.handleNotificationFailure(to, "perf-review-create", ex);
+            }
+        });
     }
 
     /** Convenience API to manually trigger from admin UI or tests */
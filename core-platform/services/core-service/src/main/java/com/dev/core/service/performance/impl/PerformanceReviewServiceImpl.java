@@ -14,6 +14,7 @@ import com.dev.core.model.performance.PerformanceReviewDTO;
 import com.dev.core.repository.performance.PerformanceReviewRepository;
 import com.dev.core.repository.performance.PerformanceReviewRequestRepository;
 import com.dev.core.service.NotificationService;
+import com.dev.core.service.performance.PerformanceCycleSummaryService;
 import com.dev.core.service.performance.PerformanceReviewService;
 import com.dev.core.service.validation.performance.PerformanceReviewValidator;
 
@@ -28,6 +29,7 @@ public class PerformanceReviewServiceImpl implements PerformanceReviewService {
     private final PerformanceReviewRequestRepository requestRepo;
     private final PerformanceReviewValidator validator;
     private final NotificationService notificationService;
+    private final PerformanceCycleSummaryService cycleSummaryService;
 
     @Override
     public PerformanceReviewDTO submitReview(Long requestId, PerformanceReviewDTO dto) {
@@ -49,6 +51,8 @@ public class PerformanceReviewServiceImpl implements PerformanceReviewService {
         req.setSubmittedAt(LocalDateTime.now());
         requestRepo.save(req);
 
+        cycleSummaryService.recordSubmission(req.getCycle().getId(), pr.getRating());
+
         // notify reviewer (optional)
         try {
             String to = req.getReviewer() != null ? req.getReviewer().getEmail() : null;
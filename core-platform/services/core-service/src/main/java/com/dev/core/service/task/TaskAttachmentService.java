@@ -3,6 +3,7 @@ package com.dev.core.service.task;
 import com.dev.core.model.task.TaskAttachmentDTO;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public interface TaskAttachmentService {
@@ -17,5 +18,5 @@ public interface TaskAttachmentService {
 
     String getDownloadUrl(Long id);
 
-	byte[] loadDocument(Long attachmentId);
+	Path getDocumentPath(Long attachmentId);
 }
@@ -0,0 +1,276 @@
+package com.dev.core.service.task;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dev.core.constants.TaskStatus;
+
+/**
+ * Immutable dependency graph of one project's tasks, held as adjacency arrays
+ * indexed by registration order. Tasks of other
+ * projects that a project task depends on are kept as external nodes: they count
+ * for blocking and scheduling but are never reported.
+ *
+ * Scheduling uses remaining work: a task's duration is its estimated hours, or zero
+ * once it is DONE or has no estimate.
+ */
+public final class TaskDependencyGraph {
+
+    private static final double EPSILON = 1e-9;
+
+    public record TaskSchedule(Long taskId,
+                               double earliestStart,
+                               double earliestFinish,
+                               double latestStart,
+                               double latestFinish,
+                               double slack,
+                               boolean critical) {
+    }
+
+    public record Analysis(Long projectId,
+                           boolean acyclic,
+                           List<Long> topologicalOrder,
+                           List<Long> criticalPath,
+                           double remainingHours,
+                           List<TaskSchedule> schedule) {
+    }
+
+    public record BlockedTask(Long taskId, List<Long> blockedBy) {
+    }
+
+    private final Long projectId;
+    private final long[] ids;
+    private final TaskStatus[] status;
+    private final double[] duration;
+    private final boolean[] external;
+    private final int[][] prerequisites;
+    private final int[][] dependents;
+
+    // Kahn order; shorter than ids when the stored data already contains a cycle
+    private final int[] order;
+
+    private volatile Analysis analysis;
+
+    private TaskDependencyGraph(Builder b) {
+        int n = b.ids.size();
+        this.projectId = b.projectId;
+        this.ids = new long[n];
+        this.status = b.status.toArray(new TaskStatus[0]);
+        this.duration = new double[n];
+        this.external = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = b.ids.get(i);
+            duration[i] = b.duration.get(i);
+            external[i] = b.external.get(i);
+        }
+
+        int[] outDegree = new int[n];
+        int[] inDegree = new int[n];
+        for (int[] e : b.edges) {
+            outDegree[e[0]]++;
+            inDegree[e[1]]++;
+        }
+        this.prerequisites = new int[n][];
+        this.dependents = new int[n][];
+        for (int i = 0; i < n; i++) {
+            prerequisites[i] = new int[outDegree[i]];
+            dependents[i] = new int[inDegree[i]];
+        }
+        int[] p = new int[n];
+        int[] d = new int[n];
+        for (int[] e : b.edges) {
+            prerequisites[e[0]][p[e[0]]++] = e[1];
+            dependents[e[1]][d[e[1]]++] = e[0];
+        }
+
+        this.order = kahnOrder();
+    }
+
+    public static Builder builder(Long projectId) {
+        return new Builder(projectId);
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    /** Open project tasks with at least one prerequisite that is not DONE */
+    public List<BlockedTask> blockedTasks() {
+        List<BlockedTask> blocked = new ArrayList<>();
+        for (int v : order.length == ids.length ? order : identity()) {
+            if (external[v] || status[v] == TaskStatus.DONE) {
+                continue;
+            }
+            List<Long> by = new ArrayList<>();
+            for (int u : prerequisites[v]) {
+                if (status[u] != TaskStatus.DONE) {
+                    by.add(ids[u]);
+                }
+            }
+            if (!by.isEmpty()) {
+                blocked.add(new BlockedTask(ids[v], by));
+            }
+        }
+        return blocked;
+    }
+
+    /** Topological order, critical path and slack per task; computed once per graph */
+    public Analysis analyze() {
+        Analysis result = analysis;
+        if (result == null) {
+            result = computeAnalysis();
+            analysis = result;
+        }
+        return result;
+    }
+
+    private Analysis computeAnalysis() {
+        int n = ids.length;
+        if (order.length < n) {
+            List<Long> partial = new ArrayList<>();
+            for (int v : order) {
+                if (!external[v]) {
+                    partial.add(ids[v]);
+                }
+            }
+            return new Analysis(projectId, false, partial, List.of(), 0.0, List.of());
+        }
+
+        // Forward pass: earliest start is the latest earliest finish among prerequisites
+        double[] es = new double[n];
+        double[] ef = new double[n];
+        double total = 0.0;
+        for (int v : order) {
+            for (int u : prerequisites[v]) {
+                es[v] = Math.max(es[v], ef[u]);
+            }
+            ef[v] = es[v] + duration[v];
+            total = Math.max(total, ef[v]);
+        }
+
+        // Backward pass: latest finish is the earliest latest start among dependents
+        double[] lf = new double[n];
+        double[] ls = new double[n];
+        Arrays.fill(lf, total);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = order[i];
+            for (int w : dependents[v]) {
+                lf[v] = Math.min(lf[v], ls[w]);
+            }
+            ls[v] = lf[v] - duration[v];
+        }
+
+        List<Long> topo = new ArrayList<>(n);
+        List<TaskSchedule> schedule = new ArrayList<>(n);
+        int end = -1;
+        for (int v : order) {
+            double slack = ls[v] - es[v];
+            boolean critical = Math.abs(slack) < EPSILON;
+            if (critical && Math.abs(ef[v] - total) < EPSILON && (end < 0 || !external[v])) {
+                end = v;
+            }
+            if (!external[v]) {
+                topo.add(ids[v]);
+                schedule.add(new TaskSchedule(ids[v], es[v], ef[v], ls[v], lf[v], slack, critical));
+            }
+        }
+
+        // Walk back from the last critical task through prerequisites that finish exactly when it starts
+        List<Long> path = new ArrayList<>();
+        for (int v = end; v >= 0; ) {
+            if (!external[v]) {
+                path.add(ids[v]);
+            }
+            int next = -1;
+            for (int u : prerequisites[v]) {
+                if (Math.abs(ls[u] - es[u]) < EPSILON && Math.abs(ef[u] - es[v]) < EPSILON) {
+                    next = u;
+                    break;
+                }
+            }
+            v = next;
+        }
+        Collections.reverse(path);
+
+        return new Analysis(projectId, true, topo, path, total, schedule);
+    }
+
+    private int[] kahnOrder() {
+        int n = ids.length;
+        int[] remaining = new int[n];
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int v = 0; v < n; v++) {
+            remaining[v] = prerequisites[v].length;
+            if (remaining[v] == 0) {
+                ready.add(v);
+            }
+        }
+        int[] result = new int[n];
+        int size = 0;
+        while (!ready.isEmpty()) {
+            int v = ready.poll();
+            result[size++] = v;
+            for (int w : dependents[v]) {
+                if (--remaining[w] == 0) {
+                    ready.add(w);
+                }
+            }
+        }
+        return size == n ? result : Arrays.copyOf(result, size);
+    }
+
+    private int[] identity() {
+        int[] all = new int[ids.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    public static final class Builder {
+
+        private final Long projectId;
+        private final List<Long> ids = new ArrayList<>();
+        private final List<TaskStatus> status = new ArrayList<>();
+        private final List<Double> duration = new ArrayList<>();
+        private final List<Boolean> external = new ArrayList<>();
+        private final Map<Long, Integer> index = new HashMap<>();
+        private final List<int[]> edges = new ArrayList<>();
+
+        private Builder(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        /** Registers a task; a project task replaces an earlier external registration of the same id */
+        public Builder task(Long taskId, TaskStatus taskStatus, Double estimatedHours, boolean isExternal) {
+            double hours = taskStatus == TaskStatus.DONE || estimatedHours == null ? 0.0 : Math.max(0.0, estimatedHours);
+            Integer i = index.get(taskId);
+            if (i == null) {
+                index.put(taskId, ids.size());
+                ids.add(taskId);
+                status.add(taskStatus);
+                duration.add(hours);
+                external.add(isExternal);
+            } else if (!isExternal) {
+                external.set(i, false);
+            }
+            return this;
+        }
+
+        /** {@code taskId} depends on {@code dependsOnId}; both must be registered first */
+        public Builder edge(Long taskId, Long dependsOnId) {
+            edges.add(new int[]{index.get(taskId), index.get(dependsOnId)});
+            return this;
+        }
+
+        public TaskDependencyGraph build() {
+            return new TaskDependencyGraph(this);
+        }
+    }
+}
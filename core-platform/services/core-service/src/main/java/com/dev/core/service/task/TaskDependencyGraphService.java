@@ -0,0 +1,29 @@
+package com.dev.core.service.task;
+
+import java.util.List;
+
+import com.dev.core.domain.Task;
+
+/**
+ * Cached per-project {@link TaskDependencyGraph}. Callers that change a task's
+ * dependencies invalidate its project, and callers that change its status or
+ * estimate invalidate the task; the graph is rebuilt
+ * with one query on next use after that transaction commits, or once it expires.
+ */
+public interface TaskDependencyGraphService {
+
+    TaskDependencyGraph.Analysis analyzeProject(Long projectId);
+
+    List<TaskDependencyGraph.BlockedTask> getBlockedTasks(Long projectId);
+
+    /** Whether making {@code task} depend on {@code dependsOn} would close a cycle */
+    boolean wouldCreateCycle(Task task, Task dependsOn);
+
+    void invalidate(Long projectId);
+
+    /**
+     * Invalidates the task's project and every project with a task that depends on it,
+     * where it appears as an external prerequisite.
+     */
+    void invalidateTask(Task task);
+}
@@ -15,4 +15,8 @@ public interface TaskDependencyService {
     List<TaskDependencyDTO> getDependents(Long taskId);
 
     boolean hasUnresolvedDependencies(Long taskId);
+
+    TaskDependencyGraph.Analysis analyzeProject(Long projectId);
+
+    List<TaskDependencyGraph.BlockedTask> getBlockedTasks(Long projectId);
 }
@@ -9,6 +9,7 @@ import com.dev.core.repository.EmployeeRepository;
 import com.dev.core.repository.leave.LeaveBalanceRepository;
 import com.dev.core.repository.leave.LeaveRequestRepository;
 import com.dev.core.repository.leave.LeaveTypeRepository;
+import com.dev.core.service.EmployeeHierarchyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +21,7 @@ public class LeaveRequestValidator {
     private final EmployeeRepository employeeRepository;
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
+    private final EmployeeHierarchyService hierarchyService;
 
     public void validateBeforeCreate(LeaveRequestDTO dto) {
 
@@ -98,7 +100,9 @@ public class LeaveRequestValidator {
         if (actualManagerId == null)
             throw new UnauthorizedAccessException("This employee has no assigned manager.");
 
-        if (!actualManagerId.equals(managerId))
+        // The direct manager or anyone above them in the reporting line may approve
+        if (!actualManagerId.equals(managerId)
+                && !hierarchyService.isSubordinate(managerId, request.getEmployee().getId()))
             throw new UnauthorizedAccessException("You are not authorized to approve this leave request.");
     }
 }
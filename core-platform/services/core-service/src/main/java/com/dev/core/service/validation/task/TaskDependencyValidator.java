@@ -4,6 +4,7 @@ import com.dev.core.domain.Task;
 import com.dev.core.exception.ValidationFailedException;
 import com.dev.core.model.task.TaskDependencyDTO;
 import com.dev.core.repository.task.TaskRepository;
+import com.dev.core.service.task.TaskDependencyGraphService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 public class TaskDependencyValidator {
 
     private final TaskRepository taskRepository;
+    private final TaskDependencyGraphService graphService;
 
     public void validateBeforeCreate(TaskDependencyDTO dto) {
         if (dto == null)
@@ -29,9 +31,10 @@ public class TaskDependencyValidator {
         if (task == null || dependsOn == null)
             throw new ValidationFailedException("Invalid task IDs for dependency");
 
-        // Prevent circular dependency
-        if (taskRepository.existsDependencyCycle(dto.getTaskId(), dto.getDependsOnTaskId())) {
-            throw new ValidationFailedException("Circular dependency detected");
+        // Prevent circular dependency, however long the chain back to this task
+        if (graphService.wouldCreateCycle(task, dependsOn)) {
+            throw new ValidationFailedException("error.task.dependency.cycle",
+                    new Object[]{dto.getTaskId(), dto.getDependsOnTaskId()});
         }
     }
 
@@ -0,0 +1,98 @@
+package com.dev.core.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dev.core.model.messaging.ChannelDTO;
+import com.dev.core.model.messaging.ChannelsResponse;
+import com.dev.core.model.messaging.MessagesResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class MessagingReadCacheTest {
+
+    private static final Long ORG = 9L;
+
+    private MessagingReadCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MessagingReadCache(new SimpleMeterRegistry(), 60_000, 1000);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void channelChangeEvictsOnlyListsShowingItAndItsOwnReads() {
+        readChannels("alice", 1L, 2L);
+        readChannels("bob", 2L);
+        readChannels("carol", 1L);
+        readMessages("alice", 1L);
+        readMessages("bob", 2L);
+        loads.set(0);
+
+        cache.invalidateChannel(1L);
+
+        // bob is not in channel 1: his list and his channel 2 page stay cached
+        readChannels("bob", 2L);
+        readMessages("bob", 2L);
+        assertThat(loads).hasValue(0);
+
+        readChannels("alice", 1L, 2L);
+        readChannels("carol", 1L);
+        readMessages("alice", 1L);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void newMembersListsAreEvictedEvenThoughTheyDoNotShowTheChannelYet() {
+        readChannels("alice", 2L);
+        readChannels("bob", 2L);
+        loads.set(0);
+
+        cache.invalidateChannel(3L, List.of("bob"));
+
+        readChannels("alice", 2L);
+        assertThat(loads).hasValue(0);
+        readChannels("bob", 2L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void readStateChangeEvictsOnlyThatUsersViews() {
+        readChannels("alice", 1L);
+        readChannels("bob", 1L);
+        loads.set(0);
+
+        cache.invalidateReadState("alice", 1L);
+
+        readChannels("bob", 1L);
+        assertThat(loads).hasValue(0);
+        readChannels("alice", 1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    private void readChannels(String userId, Long... channelIds) {
+        cache.get(MessagingReadCache.channelsKey(userId, ORG, null, null), () -> {
+            loads.incrementAndGet();
+            List<ChannelDTO> channels = Arrays.stream(channelIds)
+                    .map(id -> ChannelDTO.builder().id(id).build())
+                    .toList();
+            return Mono.just(new ChannelsResponse(channels, channels.size()));
+        }).block();
+    }
+
+    private void readMessages(String userId, Long channelId) {
+        cache.get(MessagingReadCache.messagesKey(userId, channelId, 20, null, null), () -> {
+            loads.incrementAndGet();
+            return Mono.just(MessagesResponse.builder().messages(List.of()).build());
+        }).block();
+    }
+}
@@ -0,0 +1,105 @@
+package com.dev.core.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.dev.core.model.messaging.ChannelDTO;
+import com.dev.core.model.messaging.ChannelsResponse;
+import com.dev.core.model.messaging.MessagesResponse;
+import com.dev.core.model.messaging.SendMessageRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class MessagingServiceClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private MessagingServiceStub stub;
+    private MessagingServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new MessagingServiceStub();
+        client = new MessagingServiceClient(
+                WebClient.builder().baseUrl(stub.baseUrl()).build(),
+                new MessagingReadCache(new SimpleMeterRegistry(), 60_000, 1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void callsAreDeferredUntilSubscribedAndForwardCallerHeaders() {
+        stub.reply("GET", "/api/channels/team/7", 200,
+                "{\"channels\":[{\"id\":1,\"name\":\"general\",\"unreadCount\":3}],\"total\":1}");
+
+        Mono<ChannelsResponse> pending = client.getChannels("42", "jdoe", "jdoe@example.com", 9L, 7L, "public");
+        assertThat(stub.requests()).isEmpty();
+
+        ChannelsResponse response = pending.block(TIMEOUT);
+
+        assertThat(response.getChannels()).extracting(ChannelDTO::getName).containsExactly("general");
+        assertThat(stub.requests()).hasSize(1);
+        MessagingServiceStub.Recorded request = stub.requests().get(0);
+        assertThat(request.query()).isEqualTo("type=public");
+        assertThat(request.headers())
+                .containsEntry("x-user-id", "42")
+                .containsEntry("x-user-name", "jdoe")
+                .containsEntry("x-user-email", "jdoe@example.com")
+                .containsEntry("x-organization-id", "9");
+    }
+
+    @Test
+    void concurrentIdenticalReadsShareOneRemoteCall() {
+        stub.delay(200).reply("GET", "/api/messages/channel/5", 200,
+                "{\"messages\":[{\"id\":100,\"channelId\":5}],\"hasMore\":false}");
+
+        Mono<MessagesResponse> first = client.getMessages(5L, 20, null, null, "42", "jdoe", null, 9L);
+        Mono<MessagesResponse> second = client.getMessages(5L, 20, null, null, "42", "jdoe", null, 9L);
+
+        Mono.zip(first, second).block(TIMEOUT);
+        client.getMessages(5L, 20, null, null, "42", "jdoe", null, 9L).block(TIMEOUT);
+
+        assertThat(stub.requests()).hasSize(1);
+    }
+
+    @Test
+    void writeEvictsTheCachedChannelRead() {
+        stub.reply("GET", "/api/messages/channel/5", 200, "{\"messages\":[],\"hasMore\":false}")
+            .reply("POST", "/api/messages", 200, "{\"id\":101,\"channelId\":5}");
+
+        client.getMessages(5L, 20, null, null, "42", "jdoe", null, 9L).block(TIMEOUT);
+
+        SendMessageRequest send = new SendMessageRequest();
+        send.setChannelId(5L);
+        send.setContent("hello");
+        client.sendMessage(send, "42", "jdoe", null, 9L).block(TIMEOUT);
+
+        client.getMessages(5L, 20, null, null, "42", "jdoe", null, 9L).block(TIMEOUT);
+
+        assertThat(stub.requests()).extracting(MessagingServiceStub.Recorded::method)
+                .containsExactly("GET", "POST", "GET");
+    }
+
+    @Test
+    void remoteErrorsSurfaceAsFailedMonosAndAreNotCached() {
+        stub.reply("GET", "/api/channels/3", 500, "{\"error\":\"boom\"}");
+
+        assertThatThrownBy(() -> client.getChannel(3L, "42", "jdoe", null, 9L).block(TIMEOUT))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to fetch channel");
+
+        stub.reply("GET", "/api/channels/3", 200, "{\"channel\":{\"id\":3,\"name\":\"ops\"}}");
+        assertThat(client.getChannel(3L, "42", "jdoe", null, 9L).block(TIMEOUT).getName()).isEqualTo("ops");
+    }
+}
@@ -0,0 +1,105 @@
+package com.dev.core.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for messaging-service. Answers canned JSON per
+ * "METHOD path" (query string ignored), optionally after a fixed delay, and records
+ * every request and the peak number of requests it was serving at once.
+ */
+public class MessagingServiceStub implements AutoCloseable {
+
+    public record Recorded(String method, String path, String query, Map<String, String> headers) {
+    }
+
+    private record Reply(int status, String body) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Reply> replies = new ConcurrentHashMap<>();
+    private final List<Recorded> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private volatile long delayMs;
+
+    public MessagingServiceStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public MessagingServiceStub reply(String method, String path, int status, String json) {
+        replies.put(method + " " + path, new Reply(status, json));
+        return this;
+    }
+
+    public MessagingServiceStub delay(long millis) {
+        this.delayMs = millis;
+        return this;
+    }
+
+    public List<Recorded> requests() {
+        return requests;
+    }
+
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int now = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(now, Math::max);
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> headers = new ConcurrentHashMap<>();
+            exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), values.get(0)));
+            requests.add(new Recorded(exchange.getRequestMethod(), path, exchange.getRequestURI().getQuery(), headers));
+
+            if (delayMs > 0) {
+                Thread.sleep(delayMs);
+            }
+
+            Reply reply = replies.getOrDefault(exchange.getRequestMethod() + " " + path,
+                    new Reply(404, "{\"error\":\"not stubbed\"}"));
+            byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
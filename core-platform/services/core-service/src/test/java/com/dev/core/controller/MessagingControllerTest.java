@@ -0,0 +1,126 @@
+package com.dev.core.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.dev.core.client.MessagingReadCache;
+import com.dev.core.client.MessagingServiceClient;
+import com.dev.core.client.MessagingServiceStub;
+import com.dev.core.model.UserDTO;
+import com.dev.core.model.messaging.ChannelDTO;
+import com.dev.core.model.messaging.ChannelsResponse;
+import com.dev.core.model.messaging.MessagingOverviewResponse;
+import com.dev.core.security.SecurityContextUtil;
+import com.dev.core.service.AuthorizationService;
+import com.dev.core.service.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drives the controller against a stub messaging-service to check that proxied calls
+ * complete asynchronously and that the overview fans its calls out in parallel.
+ */
+class MessagingControllerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final long STUB_DELAY_MS = 300;
+
+    private MessagingServiceStub stub;
+    private MessagingController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new MessagingServiceStub();
+
+        MessagingServiceClient client = new MessagingServiceClient(
+                WebClient.builder().baseUrl(stub.baseUrl()).build(),
+                new MessagingReadCache(new SimpleMeterRegistry(), 60_000, 1000));
+
+        SecurityContextUtil securityContextUtil = mock(SecurityContextUtil.class);
+        when(securityContextUtil.getCurrentUserId()).thenReturn(42L);
+
+        UserDTO user = new UserDTO();
+        user.setUsername("jdoe");
+        user.setEmail("jdoe@example.com");
+        user.setOrganizationId(9L);
+        UserService userService = mock(UserService.class);
+        when(userService.getUserById(42L)).thenReturn(user);
+
+        controller = new MessagingController(client, mock(AuthorizationService.class), securityContextUtil, userService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void proxiedCallReturnsBeforeMessagingServiceResponds() {
+        stub.delay(STUB_DELAY_MS).reply("GET", "/api/channels/team/all", 200,
+                "{\"channels\":[{\"id\":1,\"name\":\"general\"}],\"total\":1}");
+
+        long start = System.nanoTime();
+        Mono<ResponseEntity<ChannelsResponse>> result = controller.getChannels(null, null);
+        long handlerMs = (System.nanoTime() - start) / 1_000_000;
+
+        // The request thread only assembles the call; nothing has been sent yet
+        assertThat(handlerMs).isLessThan(STUB_DELAY_MS);
+        assertThat(stub.requests()).isEmpty();
+
+        ResponseEntity<ChannelsResponse> response = result.block(TIMEOUT);
+        assertThat(response.getBody().getChannels()).extracting(ChannelDTO::getName).containsExactly("general");
+    }
+
+    @Test
+    void overviewFetchesChannelsAndMessagesInParallel() {
+        stub.delay(STUB_DELAY_MS)
+            .reply("GET", "/api/channels/team/1", 200,
+                    "{\"channels\":[{\"id\":10,\"unreadCount\":2},{\"id\":11,\"unreadCounts\":{\"42\":5}}]}")
+            .reply("GET", "/api/channels/team/2", 200,
+                    "{\"channels\":[{\"id\":11,\"unreadCounts\":{\"42\":5}},{\"id\":12}]}")
+            .reply("GET", "/api/channels/team/3", 200, "{\"channels\":[{\"id\":13,\"unreadCount\":1}]}")
+            .reply("GET", "/api/messages/channel/10", 200, "{\"messages\":[{\"id\":100,\"channelId\":10}]}")
+            .reply("GET", "/api/messages/channel/11", 200, "{\"messages\":[{\"id\":110,\"channelId\":11}]}");
+
+        long start = System.nanoTime();
+        MessagingOverviewResponse overview = controller.getOverview(List.of(1L, 2L, 3L), List.of(10L, 11L), 20)
+                .block(TIMEOUT)
+                .getBody();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(stub.requests()).hasSize(5);
+        assertThat(stub.peakInFlight()).isGreaterThan(1);
+        // Five sequential round-trips would take at least 5 × the stub delay
+        assertThat(elapsedMs).isLessThan(5 * STUB_DELAY_MS);
+
+        // Channel 11 is listed under two teams but counted once
+        assertThat(overview.getChannels()).extracting(ChannelDTO::getId).containsExactly(10L, 11L, 12L, 13L);
+        assertThat(overview.getUnreadCounts()).containsEntry(10L, 2).containsEntry(11L, 5)
+                .containsEntry(12L, 0).containsEntry(13L, 1);
+        assertThat(overview.getTotalUnread()).isEqualTo(8);
+        assertThat(overview.getRecentMessages()).containsOnlyKeys(10L, 11L);
+    }
+
+    @Test
+    void overviewWithoutTeamsReadsAllChannelsOnce() {
+        stub.reply("GET", "/api/channels/team/all", 200, "{\"channels\":[{\"id\":1,\"unreadCount\":4}]}");
+
+        MessagingOverviewResponse overview = controller.getOverview(null, null, 20).block(TIMEOUT).getBody();
+
+        assertThat(stub.requests()).extracting(MessagingServiceStub.Recorded::path)
+                .containsExactly("/api/channels/team/all");
+        assertThat(overview.getTotalUnread()).isEqualTo(4);
+        assertThat(overview.getRecentMessages()).isEmpty();
+    }
+}
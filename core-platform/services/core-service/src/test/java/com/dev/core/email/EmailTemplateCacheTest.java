@@ -0,0 +1,105 @@
+package com.dev.core.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dev.core.domain.email.EmailTemplate;
+import com.dev.core.domain.email.EmailTemplateVersion;
+import com.dev.core.repository.EmailTemplateRepository;
+import com.dev.core.repository.EmailTemplateVersionRepository;
+
+class EmailTemplateCacheTest {
+
+    private static final String CODE = "welcome";
+    private static final Long TEMPLATE_ID = 3L;
+
+    private EmailTemplateRepository templateRepo;
+    private EmailTemplateVersionRepository versionRepo;
+
+    @BeforeEach
+    void setUp() {
+        templateRepo = mock(EmailTemplateRepository.class);
+        versionRepo = mock(EmailTemplateVersionRepository.class);
+        saved(12L, "<p>v12</p>");
+    }
+
+    @Test
+    void keyIsVersionedAndServedFromCacheWithinTheTtl() {
+        EmailTemplateCache cache = new EmailTemplateCache(templateRepo, versionRepo, 60);
+
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:12");
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:12");
+        assertThat(cache.templateHtml("welcome@1:12")).isEqualTo("<p>v12</p>");
+
+        verify(templateRepo, times(1)).findByCodeAndActiveTrue(CODE);
+        verify(versionRepo, never()).findById(anyLong());
+    }
+
+    @Test
+    void expiredEntryPicksUpTheNewVersion() throws InterruptedException {
+        EmailTemplateCache cache = new EmailTemplateCache(templateRepo, versionRepo, 0);
+        cache.cacheKey(CODE);
+
+        saved(13L, "<p>v13</p>");
+        Thread.sleep(5);
+
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:13");
+    }
+
+    @Test
+    void evictionReloadsOnNextUse() {
+        EmailTemplateCache cache = new EmailTemplateCache(templateRepo, versionRepo, 60);
+        cache.cacheKey(CODE);
+
+        saved(13L, "<p>v13</p>");
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:12");
+
+        cache.evict(CODE);
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:13");
+    }
+
+    @Test
+    void olderKeyIsAnsweredWithThatVersionsHtml() {
+        EmailTemplateCache cache = new EmailTemplateCache(templateRepo, versionRepo, 60);
+        saved(13L, "<p>v13</p>");
+        EmailTemplateVersion previous = new EmailTemplateVersion();
+        previous.setTemplateHtml("<p>v12</p>");
+        when(versionRepo.findById(12L)).thenReturn(Optional.of(previous));
+
+        assertThat(cache.cacheKey(CODE)).isEqualTo("welcome@1:13");
+        assertThat(cache.templateHtml("welcome@1:12")).isEqualTo("<p>v12</p>");
+        assertThat(cache.templateHtml("welcome@1:13")).isEqualTo("<p>v13</p>");
+    }
+
+    @Test
+    void unknownCodeIsPassedThroughForTheResolverToReport() {
+        EmailTemplateCache cache = new EmailTemplateCache(templateRepo, versionRepo, 60);
+        when(templateRepo.findByCodeAndActiveTrue("missing")).thenReturn(Optional.empty());
+
+        assertThat(cache.cacheKey("missing")).isEqualTo("missing");
+        assertThat(cache.templateHtml("missing")).isNull();
+    }
+
+    /** The active template as last saved, with {@code versionId} as its newest version row */
+    private void saved(Long versionId, String html) {
+        EmailTemplate template = new EmailTemplate();
+        template.setId(TEMPLATE_ID);
+        template.setOrganizationId(1L);
+        template.setCode(CODE);
+        template.setTemplateHtml(html);
+        EmailTemplateVersion version = new EmailTemplateVersion();
+        version.setId(versionId);
+        when(templateRepo.findByCodeAndActiveTrue(CODE)).thenReturn(Optional.of(template));
+        when(versionRepo.findTopByTemplateIdOrderByIdDesc(TEMPLATE_ID)).thenReturn(Optional.of(version));
+    }
+}
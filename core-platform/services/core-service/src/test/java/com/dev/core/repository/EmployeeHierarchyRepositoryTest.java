@@ -0,0 +1,137 @@
+package com.dev.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.constants.EmployeeStatus;
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.EmployeeHierarchy;
+import com.dev.core.service.impl.EmployeeHierarchyServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EmployeeHierarchyRepositoryTest {
+
+    private static final Long ORG = 1L;
+
+    @Autowired
+    private EmployeeHierarchyRepository hierarchyRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void backfillSeedsEveryPairOfAChain() {
+        Employee ceo = employee("ceo");
+        Employee cto = employee("cto");
+        Employee dev = employee("dev");
+        cto.setManager(ceo);
+        dev.setManager(cto);
+        entityManager.flush();
+
+        backfill();
+
+        assertThat(hierarchyRepository.findAll())
+                .extracting(EmployeeHierarchy::getAncestorId, EmployeeHierarchy::getDescendantId, EmployeeHierarchy::getDepth)
+                .containsExactlyInAnyOrder(
+                        tuple(ceo.getId(), cto.getId(), 1),
+                        tuple(cto.getId(), dev.getId(), 1),
+                        tuple(ceo.getId(), dev.getId(), 2));
+    }
+
+    @Test
+    void backfillStopsAtAManagerCycleInsteadOfDuplicatingPairs() {
+        Employee a = employee("a");
+        Employee b = employee("b");
+        Employee c = employee("c");
+        Employee d = employee("d");
+        a.setManager(b);
+        b.setManager(c);
+        c.setManager(a);
+        d.setManager(a);
+        Employee self = employee("self");
+        Employee report = employee("report");
+        self.setManager(self);
+        report.setManager(self);
+        entityManager.flush();
+
+        backfill();
+
+        // a, b and c are each above the other two and d; self is above report only;
+        // nobody is above itself
+        assertThat(hierarchyRepository.findAll()).hasSize(10);
+        assertThat(hierarchyRepository.findAll())
+                .noneMatch(h -> h.getAncestorId().equals(h.getDescendantId()));
+        assertThat(hierarchyRepository.findDescendantIds(a.getId()))
+                .containsExactlyInAnyOrder(b.getId(), c.getId(), d.getId());
+        assertThat(hierarchyRepository.findDescendantIds(self.getId())).containsExactly(report.getId());
+    }
+
+    @Test
+    void seedingAgainAddsNothing() {
+        Employee ceo = employee("ceo");
+        Employee cto = employee("cto");
+        Employee dev = employee("dev");
+        cto.setManager(ceo);
+        dev.setManager(cto);
+        entityManager.flush();
+
+        // What a second instance starting against the same table would run
+        assertThat(hierarchyRepository.seedDirectReports()).isEqualTo(2);
+        assertThat(hierarchyRepository.seedNextLevel(1)).isEqualTo(1);
+        assertThat(hierarchyRepository.seedDirectReports()).isZero();
+        assertThat(hierarchyRepository.seedNextLevel(1)).isZero();
+    }
+
+    @Test
+    void subordinatesStayWithinTheManagersOrganization() {
+        Employee manager = employee("manager");
+        Employee local = employee("local");
+        Employee foreign = employee("foreign");
+        foreign.setOrganizationId(2L);
+        local.setManager(manager);
+        foreign.setManager(manager);
+        entityManager.flush();
+
+        backfill();
+
+        assertThat(hierarchyRepository.findSubordinates(manager.getId()))
+                .extracting(row -> row.get("employeeId"))
+                .containsExactly(local.getId());
+    }
+
+    private void backfill() {
+        new EmployeeHierarchyServiceImpl(hierarchyRepository, employeeRepository,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 100, 60)
+                .backfillIfEmpty();
+        entityManager.clear();
+    }
+
+    private Employee employee(String code) {
+        Employee employee = new Employee();
+        employee.setOrganizationId(ORG);
+        employee.setEmployeeCode(code);
+        employee.setFirstName(code);
+        employee.setEmail(code + "@example.com");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        return entityManager.persist(employee);
+    }
+}
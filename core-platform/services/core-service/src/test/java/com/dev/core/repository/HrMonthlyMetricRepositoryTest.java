@@ -0,0 +1,58 @@
+package com.dev.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dev.core.domain.HrMonthlyMetric;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HrMonthlyMetricRepositoryTest {
+
+    private static final Long ORG = 1L;
+
+    @Autowired
+    private HrMonthlyMetricRepository metricRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void firstEventCreatesTheBucketAndLaterOnesAddToIt() {
+        metricRepository.increment(ORG, 2026, 4, 5L, 1, 0, 0);
+        metricRepository.increment(ORG, 2026, 4, 5L, 1, 0, 0);
+        metricRepository.increment(ORG, 2026, 4, 5L, 0, 1, 1);
+        entityManager.clear();
+
+        List<HrMonthlyMetric> rows = metricRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getJoins()).isEqualTo(2);
+        assertThat(rows.get(0).getPromotions()).isEqualTo(1);
+        assertThat(rows.get(0).getResignations()).isEqualTo(1);
+    }
+
+    @Test
+    void eachMonthAndDepartmentGetsItsOwnBucket() {
+        metricRepository.increment(ORG, 2026, 4, 5L, 1, 0, 0);
+        metricRepository.increment(ORG, 2026, 5, 5L, 1, 0, 0);
+        metricRepository.increment(ORG, 2026, 4, HrMonthlyMetric.NO_DEPARTMENT, 1, 0, 0);
+        entityManager.clear();
+
+        assertThat(metricRepository.findAll())
+                .extracting(HrMonthlyMetric::getMonth, HrMonthlyMetric::getDepartmentId)
+                .containsExactlyInAnyOrder(
+                        tuple(4, 5L),
+                        tuple(5, 5L),
+                        tuple(4, HrMonthlyMetric.NO_DEPARTMENT));
+    }
+}
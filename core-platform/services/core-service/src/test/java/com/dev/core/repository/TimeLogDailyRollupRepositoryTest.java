@@ -0,0 +1,128 @@
+package com.dev.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dev.core.domain.TimeLog;
+import com.dev.core.domain.TimeLogDailyRollup;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TimeLogDailyRollupRepositoryTest {
+
+    private static final Long ORG = 1L;
+    private static final Long USER = 10L;
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private TimeLogDailyRollupRepository rollupRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void upsertCreatesTheRowOnceAndAddsToIt() {
+        rollupRepository.upsertRollup(ORG, USER, 5L, DAY, 30, 1);
+        rollupRepository.upsertRollup(ORG, USER, 5L, DAY, 45, 1);
+        entityManager.clear();
+
+        List<TimeLogDailyRollup> rows = rollupRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getTotalMinutes()).isEqualTo(75);
+        assertThat(rows.get(0).getEntryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void timeWithoutProjectSharesOneSentinelRow() {
+        rollupRepository.upsertRollup(ORG, USER, TimeLogDailyRollup.NO_PROJECT, DAY, 10, 1);
+        rollupRepository.upsertRollup(ORG, USER, TimeLogDailyRollup.NO_PROJECT, DAY, 20, 1);
+        rollupRepository.upsertRollup(ORG, USER, 5L, DAY, 60, 1);
+        entityManager.clear();
+
+        assertThat(rollupRepository.findAll()).hasSize(2);
+
+        Map<String, Object> totals = rollupRepository.getOrganizationTotals(ORG, DAY, DAY);
+        assertThat(((Number) totals.get("minutes")).longValue()).isEqualTo(90);
+        assertThat(((Number) totals.get("entries")).longValue()).isEqualTo(3);
+        // The sentinel is not a project
+        assertThat(((Number) totals.get("projects")).longValue()).isEqualTo(1);
+    }
+
+    @Test
+    void uniqueKeyRejectsADuplicateRow() {
+        rollupRepository.upsertRollup(ORG, USER, 5L, DAY, 30, 1);
+
+        TimeLogDailyRollup duplicate = new TimeLogDailyRollup();
+        duplicate.setOrganizationId(ORG);
+        duplicate.setUserId(USER);
+        duplicate.setProjectId(5L);
+        duplicate.setWorkDate(DAY);
+        duplicate.setTotalMinutes(1);
+        duplicate.setEntryCount(1);
+
+        assertThatThrownBy(() -> rollupRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void removalSubtractsAndEmptyRowsAreDeleted() {
+        rollupRepository.upsertRollup(ORG, USER, 5L, DAY, 30, 1);
+
+        assertThat(rollupRepository.addToRollup(ORG, USER, 5L, DAY, -30, -1)).isEqualTo(1);
+        assertThat(rollupRepository.deleteEmpty(ORG, USER, DAY)).isEqualTo(1);
+        assertThat(rollupRepository.count()).isZero();
+    }
+
+    @Test
+    void rebuildAggregatesEachKeyOnce() {
+        persistLog(DAY, 30);
+        persistLog(DAY, 15);
+        persistLog(DAY.plusDays(1), 60);
+        entityManager.flush();
+
+        assertThat(rollupRepository.rebuildFromTimeLogs()).isEqualTo(2);
+        entityManager.clear();
+
+        List<TimeLogDailyRollup> rows = rollupRepository.findAll();
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allSatisfy(r -> assertThat(r.getProjectId()).isEqualTo(TimeLogDailyRollup.NO_PROJECT));
+        assertThat(rows).extracting(TimeLogDailyRollup::getTotalMinutes).containsExactlyInAnyOrder(45L, 60L);
+        assertThat(rows).extracting(TimeLogDailyRollup::getEntryCount).containsExactlyInAnyOrder(2L, 1L);
+    }
+
+    @Test
+    void secondSeedIsRejectedRatherThanDoubleCounting() {
+        persistLog(DAY, 30);
+        entityManager.flush();
+        rollupRepository.rebuildFromTimeLogs();
+
+        // What a second instance seeding concurrently runs into
+        assertThatThrownBy(() -> rollupRepository.rebuildFromTimeLogs())
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void persistLog(LocalDate day, long minutes) {
+        TimeLog timeLog = new TimeLog();
+        timeLog.setOrganizationId(ORG);
+        timeLog.setUserId(USER);
+        timeLog.setWorkDate(day);
+        timeLog.setStartTime(LocalDateTime.of(day, LocalTime.NOON));
+        timeLog.setDurationMinutes(minutes);
+        entityManager.persist(timeLog);
+    }
+}
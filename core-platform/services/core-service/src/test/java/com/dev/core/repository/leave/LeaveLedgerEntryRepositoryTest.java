@@ -0,0 +1,112 @@
+package com.dev.core.repository.leave;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dev.core.constants.EmployeeStatus;
+import com.dev.core.constants.LeaveLedgerEntryType;
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.leave.LeaveBalance;
+import com.dev.core.domain.leave.LeaveLedgerEntry;
+import com.dev.core.domain.leave.LeaveType;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LeaveLedgerEntryRepositoryTest {
+
+    private static final Long ORG = 1L;
+    private static final int YEAR = 2026;
+    private static final int MARCH = 3;
+
+    @Autowired
+    private LeaveLedgerEntryRepository ledgerRepository;
+
+    @Autowired
+    private LeaveBalanceRepository balanceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private LeaveBalance balance;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = new Employee();
+        employee.setOrganizationId(ORG);
+        employee.setEmployeeCode("E-1");
+        employee.setFirstName("Ada");
+        employee.setEmail("ada@example.com");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        entityManager.persist(employee);
+
+        LeaveType type = new LeaveType();
+        type.setOrganizationId(ORG);
+        type.setName("EARNED");
+        entityManager.persist(type);
+
+        balance = new LeaveBalance();
+        balance.setOrganizationId(ORG);
+        balance.setEmployee(employee);
+        balance.setLeaveType(type);
+        balance.setYear(YEAR);
+        entityManager.persist(balance);
+        entityManager.flush();
+    }
+
+    @Test
+    void accruingTheSameMonthTwiceCreditsOnce() {
+        List<Long> ids = List.of(balance.getId());
+
+        assertThat(balanceRepository.accrue(ids, MARCH, 2)).isEqualTo(1);
+        assertThat(ledgerRepository.postAccruals(ids, MARCH, 2)).isEqualTo(1);
+
+        assertThat(balanceRepository.accrue(ids, MARCH, 2)).isZero();
+        assertThat(ledgerRepository.postAccruals(ids, MARCH, 2)).isZero();
+        entityManager.clear();
+
+        assertThat(balanceRepository.findById(balance.getId()).orElseThrow().getEarned()).isEqualTo(2);
+        assertThat(ledgerRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void uniqueKeyRejectsASecondAccrualForTheSameMonth() {
+        ledgerRepository.postAccruals(List.of(balance.getId()), MARCH, 2);
+
+        assertThatThrownBy(() -> ledgerRepository.saveAndFlush(entry(LeaveLedgerEntryType.ACCRUAL, MARCH)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void entriesWithoutAPeriodAreNotConstrained() {
+        ledgerRepository.saveAndFlush(entry(LeaveLedgerEntryType.CARRY_FORWARD, null));
+        ledgerRepository.saveAndFlush(entry(LeaveLedgerEntryType.CARRY_FORWARD, null));
+
+        assertThat(ledgerRepository.count()).isEqualTo(2);
+    }
+
+    private LeaveLedgerEntry entry(LeaveLedgerEntryType type, Integer period) {
+        LeaveLedgerEntry entry = new LeaveLedgerEntry();
+        entry.setOrganizationId(ORG);
+        entry.setEmployeeId(balance.getEmployee().getId());
+        entry.setLeaveTypeId(balance.getLeaveType().getId());
+        entry.setYear(YEAR);
+        entry.setEntryType(type);
+        entry.setDays(2);
+        entry.setPeriod(period);
+        entry.setPostedAt(LocalDateTime.now());
+        return entry;
+    }
+}
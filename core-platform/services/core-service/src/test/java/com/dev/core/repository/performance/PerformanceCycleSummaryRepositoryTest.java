@@ -0,0 +1,139 @@
+package com.dev.core.repository.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.dev.core.constants.EmployeeStatus;
+import com.dev.core.constants.ReviewStatus;
+import com.dev.core.constants.ReviewType;
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.performance.PerformanceCycle;
+import com.dev.core.domain.performance.PerformanceCycleSummary;
+import com.dev.core.domain.performance.PerformanceReview;
+import com.dev.core.domain.performance.PerformanceReviewRequest;
+import com.dev.core.service.performance.impl.PerformanceCycleSummaryServiceImpl;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PerformanceCycleSummaryServiceImpl.class)
+class PerformanceCycleSummaryRepositoryTest {
+
+    private static final Long ORG = 1L;
+
+    @Autowired
+    private PerformanceCycleSummaryRepository summaryRepository;
+
+    @Autowired
+    private PerformanceCycleSummaryServiceImpl summaryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PerformanceCycle cycle;
+    private Employee reviewer;
+
+    @BeforeEach
+    void setUp() {
+        cycle = new PerformanceCycle();
+        cycle.setOrganizationId(ORG);
+        cycle.setYear(2026);
+        cycle.setQuarter(2);
+        entityManager.persist(cycle);
+        reviewer = employee("rev");
+    }
+
+    @Test
+    void rebuildCountsRequestsAndReviewsOfTheCycle() {
+        request(employee("a"), null);
+        request(employee("b"), null);
+        request(employee("c"), 4);
+        entityManager.flush();
+
+        summaryService.rebuild(cycle.getId(), ORG);
+        entityManager.clear();
+
+        PerformanceCycleSummary summary = summaryRepository.findByCycleId(cycle.getId()).orElseThrow();
+        assertThat(summary.getTotalRequests()).isEqualTo(3);
+        assertThat(summary.getPendingRequests()).isEqualTo(2);
+        assertThat(summary.getCompletedReviews()).isEqualTo(1);
+        assertThat(summary.getRatingTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void recordSubmissionMovesOnePendingRequestToCompleted() {
+        request(employee("a"), null);
+        request(employee("b"), 4);
+        entityManager.flush();
+        summaryService.rebuild(cycle.getId(), ORG);
+
+        assertThat(summaryRepository.recordSubmission(cycle.getId(), 5, LocalDateTime.now())).isEqualTo(1);
+        entityManager.clear();
+
+        PerformanceCycleSummary summary = summaryRepository.findByCycleId(cycle.getId()).orElseThrow();
+        assertThat(summary.getTotalRequests()).isEqualTo(2);
+        assertThat(summary.getPendingRequests()).isZero();
+        assertThat(summary.getCompletedReviews()).isEqualTo(2);
+        assertThat(summary.getAverageRating()).isEqualTo(4.5);
+    }
+
+    @Test
+    void rebuildReplacesDriftedTotalsInPlace() {
+        request(employee("a"), 3);
+        entityManager.flush();
+        PerformanceCycleSummary first = summaryService.rebuild(cycle.getId(), ORG);
+        summaryRepository.recordSubmission(cycle.getId(), 5, LocalDateTime.now());
+
+        PerformanceCycleSummary rebuilt = summaryService.rebuild(cycle.getId(), ORG);
+
+        assertThat(rebuilt.getId()).isEqualTo(first.getId());
+        assertThat(rebuilt.getCompletedReviews()).isEqualTo(1);
+        assertThat(rebuilt.getRatingTotal()).isEqualTo(3);
+        assertThat(summaryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordSubmissionWithoutASummaryUpdatesNothing() {
+        assertThat(summaryRepository.recordSubmission(cycle.getId(), 5, LocalDateTime.now())).isZero();
+        assertThat(summaryRepository.lockByCycleId(cycle.getId())).isEmpty();
+    }
+
+    /** A request of the cycle; completed with a review when {@code rating} is given */
+    private void request(Employee employee, Integer rating) {
+        PerformanceReviewRequest request = new PerformanceReviewRequest();
+        request.setOrganizationId(ORG);
+        request.setCycle(cycle);
+        request.setReviewer(reviewer);
+        request.setEmployee(employee);
+        request.setType(ReviewType.PEER);
+        request.setStatus(rating == null ? ReviewStatus.PENDING : ReviewStatus.COMPLETED);
+        entityManager.persist(request);
+        if (rating != null) {
+            PerformanceReview review = new PerformanceReview();
+            review.setOrganizationId(ORG);
+            review.setRequest(request);
+            review.setRating(rating);
+            entityManager.persist(review);
+        }
+    }
+
+    private Employee employee(String code) {
+        Employee employee = new Employee();
+        employee.setOrganizationId(ORG);
+        employee.setEmployeeCode(code);
+        employee.setFirstName(code);
+        employee.setEmail(code + "@example.com");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        return entityManager.persist(employee);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dev.core.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.scheduler.KeysetScanner.ScanResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class KeysetScannerTest {
+
+    private static final int ROWS = 1203;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KeysetScanner scanner;
+    private List<Long> fetchedAfter;
+    private List<Long> processed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scanner = new KeysetScanner(new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        fetchedAfter = new ArrayList<>();
+        processed = new ArrayList<>();
+    }
+
+    @Test
+    void pagesThroughEveryRowInIdOrder() {
+        ScanResult result = scanner.scan("test", this::fetch, ids -> {
+            processed.addAll(ids);
+            return ids.size();
+        });
+
+        assertThat(result.scanned()).isEqualTo(ROWS);
+        assertThat(result.acted()).isEqualTo(ROWS);
+        assertThat(fetchedAfter).containsExactly(0L, 500L, 1000L);
+        assertThat(processed).hasSize(ROWS).isSorted().doesNotHaveDuplicates();
+        assertThat(meterRegistry.counter("scheduler.rows.scanned", "job", "test").count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRowSoOnlyTheBadRowIsSkipped() {
+        ScanResult result = scanner.scan("test", this::fetch, ids -> {
+            if (ids.contains(7L) || ids.contains(620L)) {
+                throw new IllegalStateException("bad row");
+            }
+            processed.addAll(ids);
+            return ids.size();
+        });
+
+        assertThat(result.scanned()).isEqualTo(ROWS);
+        assertThat(result.acted()).isEqualTo(ROWS - 2);
+        assertThat(processed).hasSize(ROWS - 2).doesNotContain(7L, 620L);
+        assertThat(meterRegistry.counter("scheduler.rows.failed", "job", "test").count()).isEqualTo(2);
+    }
+
+    @Test
+    void emptySourceStopsAfterOneFetch() {
+        ScanResult result = scanner.scan("test", (afterId, page) -> {
+            fetchedAfter.add(afterId);
+            return List.of();
+        }, List::size);
+
+        assertThat(result.scanned()).isZero();
+        assertThat(fetchedAfter).containsExactly(0L);
+    }
+
+    /** Ids 1..ROWS, keyset-paged the way the repositories page them */
+    private List<Long> fetch(Long afterId, Pageable page) {
+        fetchedAfter.add(afterId);
+        return LongStream.rangeClosed(afterId + 1, ROWS)
+                .limit(page.getPageSize())
+                .boxed()
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.dev.core.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDetailsCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, CustomUserDetails> loader = login -> {
+        loads.incrementAndGet();
+        return new CustomUserDetails(42L, 1L, "alice", null, null, Set.of(), Set.of(5L), 0L);
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void servesRepeatedLookupsFromCache() {
+        UserDetailsCache cache = new UserDetailsCache(meterRegistry, 10, 300);
+
+        cache.get("alice", loader);
+        cache.get("alice", loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidateUserDropsEveryLoginOnCommit() {
+        UserDetailsCache cache = new UserDetailsCache(meterRegistry, 10, 300);
+        cache.get("alice", loader);
+        cache.get("alice@example.com", loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateUser(42L);
+        assertThat(cache.size()).isEqualTo(2);
+
+        commit();
+        assertThat(cache.size()).isZero();
+        cache.get("alice", loader);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        UserDetailsCache cache = new UserDetailsCache(meterRegistry, 10, 300);
+
+        cache.get("alice", login -> {
+            cache.invalidateAll();
+            return loader.apply(login);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        UserDetailsCache cache = new UserDetailsCache(meterRegistry, 2, 300);
+        cache.get("a", loader);
+        cache.get("b", loader);
+        cache.get("a", loader);
+        cache.get("c", loader);
+
+        cache.get("a", loader);
+        assertThat(loads).hasValue(3);
+        cache.get("b", loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,100 @@
+package com.dev.core.security.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.dev.core.security.CustomUserDetails;
+import com.dev.core.security.CustomUserDetailsService;
+import com.dev.core.security.JwtTokenProvider;
+import com.dev.core.security.TokenVersionCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenVersionCache);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTokenAuthenticatesWithRoleIdsFromClaims() throws Exception {
+        String token = jwtTokenProvider.generateToken(principal(3L));
+        when(tokenVersionCache.isCurrent(42L, 3L)).thenReturn(true);
+
+        MockHttpServletResponse response = doFilter(token);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        CustomUserDetails authenticated =
+                (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(authenticated.getRoleIds()).containsExactlyInAnyOrder(5L, 9L);
+        assertThat(authenticated.getOrganizationId()).isEqualTo(1L);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void tokenIssuedBeforeRoleChangeIsRejected() throws Exception {
+        String token = jwtTokenProvider.generateToken(principal(3L));
+        when(tokenVersionCache.isCurrent(42L, 3L)).thenReturn(false);
+
+        MockHttpServletResponse response = doFilter(token);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void claimsWithoutRoleIdsAreNotTrusted() {
+        Claims claims = Jwts.claims(Map.of("uid", 42L, "oid", 1L, "roles", List.of("ADMIN"), "ver", 3L));
+        claims.setSubject("alice");
+
+        assertThat(jwtTokenProvider.toPrincipal(claims)).isNull();
+    }
+
+    private MockHttpServletResponse doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static CustomUserDetails principal(Long tokenVersion) {
+        return new CustomUserDetails(42L, 1L, "alice", null, null,
+                Set.of(new SimpleGrantedAuthority("DEVELOPER")), Set.of(5L, 9L), tokenVersion);
+    }
+}
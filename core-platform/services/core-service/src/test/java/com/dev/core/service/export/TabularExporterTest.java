@@ -0,0 +1,54 @@
+package com.dev.core.service.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TabularExporterTest {
+
+    private final TabularExporter exporter = new TabularExporter();
+
+    private static final List<ExportColumn<Object[]>> COLUMNS = List.of(
+            ExportColumn.of("Text", row -> row[0]),
+            ExportColumn.of("Amount", row -> row[1]));
+
+    @Test
+    void formulaLeadingTextIsNeutralized() throws Exception {
+        String csv = csv(List.of(
+                new Object[]{"=HYPERLINK(\"http://x\")", 1},
+                new Object[]{"+1+2", 2},
+                new Object[]{"-2+3", 3},
+                new Object[]{"@SUM(A1)", 4},
+                new Object[]{"\tcmd", 5}));
+
+        assertThat(csv.split("\r\n")).containsExactly(
+                "Text,Amount",
+                "\"'=HYPERLINK(\"\"http://x\"\")\",1",
+                "'+1+2,2",
+                "'-2+3,3",
+                "'@SUM(A1),4",
+                "'\tcmd,5");
+    }
+
+    @Test
+    void numbersAndPlainTextAreWrittenAsIs() throws Exception {
+        String csv = csv(List.<Object[]>of(
+                new Object[]{"plain, with comma", -42},
+                new Object[]{null, 0}));
+
+        assertThat(csv.split("\r\n")).containsExactly(
+                "Text,Amount",
+                "\"plain, with comma\",-42",
+                ",0");
+    }
+
+    private String csv(List<Object[]> rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(ExportFormat.CSV, "Test", COLUMNS, rows, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
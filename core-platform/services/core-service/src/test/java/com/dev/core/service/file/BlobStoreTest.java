@@ -0,0 +1,135 @@
+package com.dev.core.service.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dev.core.domain.FileBlob;
+import com.dev.core.repository.FileBlobRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs outside a test transaction so every reference change commits, as it does
+ * after a real request.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BlobStoreTest {
+
+    @Autowired
+    private FileBlobRepository blobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new BlobStore(blobRepository, transactionManager, new SimpleMeterRegistry(), uploadDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        blobRepository.deleteAll();
+    }
+
+    @Test
+    void identicalUploadsShareOneBodyUntilTheLastRelease() throws Exception {
+        String first = store("same bytes", ".txt");
+        String second = store("same bytes", ".TXT");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(blob(first)).map(FileBlob::getRefCount).contains(2);
+        assertThat(blobStore.resolve(first)).exists();
+
+        blobStore.release(first);
+        assertThat(blob(first)).map(FileBlob::getRefCount).contains(1);
+        assertThat(blobStore.resolve(first)).exists();
+
+        blobStore.release(first);
+        assertThat(blob(first)).isEmpty();
+        assertThat(blobStore.resolve(first)).doesNotExist();
+    }
+
+    @Test
+    void missingBodyIsRestoredFromTheNextUpload() throws Exception {
+        String id = store("lost", "");
+        Files.delete(blobStore.resolve(id));
+
+        store("lost", "");
+
+        assertThat(blobStore.resolve(id)).exists();
+        assertThat(blob(id)).map(FileBlob::getRefCount).contains(2);
+    }
+
+    @Test
+    void referencedBlobNeverLosesItsBodyToAConcurrentRelease() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            String id = store("contended", ".bin");
+            CyclicBarrier start = new CyclicBarrier(2);
+
+            CompletableFuture<Void> release = CompletableFuture.runAsync(() -> {
+                await(start);
+                blobStore.release(id);
+            });
+            CompletableFuture<String> upload = CompletableFuture.supplyAsync(() -> {
+                await(start);
+                try {
+                    return store("contended", ".bin");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            CompletableFuture.allOf(release, upload).join();
+
+            // Whatever the interleaving, the surviving reference has its body
+            assertThat(blob(id)).map(FileBlob::getRefCount).contains(1);
+            assertThat(blobStore.resolve(id)).exists();
+
+            blobStore.release(id);
+            assertThat(blobStore.resolve(id)).doesNotExist();
+        }
+    }
+
+    private String store(String content, String extension) throws Exception {
+        return blobStore.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), extension);
+    }
+
+    private Optional<FileBlob> blob(String contentId) {
+        String hash = contentId.contains(".") ? contentId.substring(0, contentId.indexOf('.')) : contentId;
+        return blobRepository.findAll().stream().filter(b -> b.getContentHash().equals(hash)).findFirst();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dev.core.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.Employee;
+import com.dev.core.repository.EmployeeHierarchyRepository;
+import com.dev.core.repository.EmployeeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmployeeHierarchyServiceImplTest {
+
+    private static final Long MANAGER = 1L;
+
+    private EmployeeHierarchyRepository hierarchyRepository;
+
+    @BeforeEach
+    void setUp() {
+        hierarchyRepository = mock(EmployeeHierarchyRepository.class);
+        when(hierarchyRepository.findSubordinates(MANAGER))
+                .thenReturn(List.of(Map.of("employeeId", 2L, "userId", 20L)));
+    }
+
+    @Test
+    void subordinatesAreServedFromCacheWithinTheTtl() {
+        EmployeeHierarchyServiceImpl service = service(60);
+
+        assertThat(service.getSubordinateIds(MANAGER)).containsExactly(2L);
+        assertThat(service.getSubordinateUserIds(MANAGER)).containsExactly(20L);
+
+        verify(hierarchyRepository, times(1)).findSubordinates(MANAGER);
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() throws InterruptedException {
+        EmployeeHierarchyServiceImpl service = service(0);
+
+        service.getSubordinateIds(MANAGER);
+        Thread.sleep(5);
+        service.getSubordinateIds(MANAGER);
+
+        verify(hierarchyRepository, times(2)).findSubordinates(MANAGER);
+    }
+
+    @Test
+    void managerChangeDropsCachedSubordinates() {
+        EmployeeHierarchyServiceImpl service = service(60);
+        service.getSubordinateIds(MANAGER);
+
+        Employee manager = new Employee();
+        manager.setId(MANAGER);
+        Employee report = new Employee();
+        report.setId(3L);
+        report.setManager(manager);
+        service.managerChanged(report, null);
+
+        service.getSubordinateIds(MANAGER);
+        verify(hierarchyRepository, times(2)).findSubordinates(MANAGER);
+    }
+
+    @Test
+    void approvalCheckReadsTheClosureTableNotTheCache() {
+        EmployeeHierarchyServiceImpl service = service(60);
+        service.getSubordinateIds(MANAGER);
+        when(hierarchyRepository.existsByAncestorIdAndDescendantId(MANAGER, 2L)).thenReturn(true, false);
+
+        assertThat(service.isSubordinate(MANAGER, 2L)).isTrue();
+        // Moved out of the line on another instance: the cached list still has 2
+        assertThat(service.isSubordinate(MANAGER, 2L)).isFalse();
+        assertThat(service.getSubordinateIds(MANAGER)).containsExactly(2L);
+    }
+
+    private EmployeeHierarchyServiceImpl service(long ttlSeconds) {
+        return new EmployeeHierarchyServiceImpl(hierarchyRepository, mock(EmployeeRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(), 100, ttlSeconds);
+    }
+}
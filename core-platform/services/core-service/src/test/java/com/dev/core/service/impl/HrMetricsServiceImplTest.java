@@ -0,0 +1,69 @@
+package com.dev.core.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dev.core.domain.Department;
+import com.dev.core.domain.Employee;
+import com.dev.core.domain.HrMonthlyMetric;
+import com.dev.core.repository.HrMonthlyMetricRepository;
+
+@ExtendWith(MockitoExtension.class)
+class HrMetricsServiceImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 4, 15);
+
+    @Mock
+    private HrMonthlyMetricRepository metricRepository;
+
+    private HrMetricsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HrMetricsServiceImpl(metricRepository);
+    }
+
+    @Test
+    void eventIsCountedInTheDepartmentBucket() {
+        Department department = new Department();
+        department.setId(5L);
+        Employee employee = employee(1L);
+        employee.setDepartment(department);
+
+        service.recordPromotion(employee, DATE);
+
+        verify(metricRepository).increment(1L, 2026, 4, 5L, 0, 1, 0);
+    }
+
+    @Test
+    void employeeWithoutDepartmentIsCountedUnderTheSentinel() {
+        service.recordJoin(employee(1L), DATE);
+
+        verify(metricRepository).increment(1L, 2026, 4, HrMonthlyMetric.NO_DEPARTMENT, 1, 0, 0);
+    }
+
+    @Test
+    void employeeWithoutOrganizationIsNotCounted() {
+        service.recordResignation(employee(null), DATE);
+
+        verify(metricRepository, never()).increment(any(), anyInt(), anyInt(), anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    private static Employee employee(Long organizationId) {
+        Employee employee = new Employee();
+        employee.setId(9L);
+        employee.setOrganizationId(organizationId);
+        return employee;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dev.core.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dev.core.domain.email.EmailOutboxMessage;
+import com.dev.core.repository.EmailOutboxRepository;
+import com.dev.core.service.TemplateRenderService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private TemplateRenderService templateRenderService;
+
+    private NotificationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationServiceImpl(outboxRepository, templateRenderService);
+    }
+
+    @Test
+    void invalidRecipientsAreRejectedBeforeTheOutboxInsert() {
+        service.sendEmail((String) null, "Hi", "body");
+        service.sendEmail("  ", "Hi", "body");
+        service.sendEmail("not-an-address", "Hi", "body");
+        service.sendEmail("a b@example.com", "Hi", "body");
+        service.sendEmail("x".repeat(250) + "@example.com", "Hi", "body");
+
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void longSubjectIsTruncatedToTheColumn() {
+        service.sendEmail(" jdoe@example.com ", "s".repeat(400), "body");
+
+        ArgumentCaptor<EmailOutboxMessage> saved = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getRecipient()).isEqualTo("jdoe@example.com");
+        assertThat(saved.getValue().getSubject()).hasSize(255);
+        assertThat(saved.getValue().isHtml()).isFalse();
+    }
+
+    @Test
+    void templateThatFailsToRenderIsNotQueued() {
+        when(templateRenderService.render(eq("welcome"), anyMap())).thenThrow(new IllegalStateException("missing"));
+
+        service.sendTemplateEmail("jdoe@example.com", "Welcome", "welcome", Map.of());
+
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void renderedTemplateIsQueuedAsHtml() {
+        when(templateRenderService.render(eq("welcome"), anyMap())).thenReturn("<p>Hi</p>");
+
+        service.sendTemplateEmail("jdoe@example.com", "Welcome", "welcome", "Jane");
+
+        ArgumentCaptor<EmailOutboxMessage> saved = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(outboxRepository).save(saved.capture());
+        assertThat(saved.getValue().getBody()).isEqualTo("<p>Hi</p>");
+        assertThat(saved.getValue().isHtml()).isTrue();
+    }
+}
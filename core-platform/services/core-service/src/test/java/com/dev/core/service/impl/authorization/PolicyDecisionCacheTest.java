@@ -0,0 +1,109 @@
+package com.dev.core.service.impl.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dev.core.repository.PolicyRepository;
+import com.dev.core.repository.PolicyRepository.PolicyGrant;
+import com.dev.core.repository.RoleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyDecisionCacheTest {
+
+    private static final Long ORG = 1L;
+
+    @Mock
+    private PolicyRepository policyRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private PolicyDecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PolicyDecisionCache(policyRepository, roleRepository);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void fullAccessIsDecidedByRoleId() {
+        when(policyRepository.findGrantsByOrganizationId(ORG)).thenReturn(List.of());
+        when(roleRepository.findIdsByOrganizationIdAndNameIn(eq(ORG), anyCollection())).thenReturn(List.of(7L));
+
+        assertThat(cache.hasFullAccess(ORG, Set.of(7L))).isTrue();
+        assertThat(cache.hasFullAccess(ORG, Set.of(8L))).isFalse();
+        verify(policyRepository, times(1)).findGrantsByOrganizationId(ORG);
+    }
+
+    @Test
+    void evictAfterRoleRenameRecompilesOnCommitOnly() {
+        when(policyRepository.findGrantsByOrganizationId(ORG)).thenReturn(List.of());
+        when(roleRepository.findIdsByOrganizationIdAndNameIn(eq(ORG), anyCollection()))
+                .thenReturn(List.of(7L))
+                .thenReturn(List.of());
+        assertThat(cache.hasFullAccess(ORG, Set.of(7L))).isTrue();
+
+        // Role 7 renamed away from ADMIN inside a transaction
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evict(ORG);
+        assertThat(cache.hasFullAccess(ORG, Set.of(7L))).isTrue();
+
+        commit();
+        assertThat(cache.hasFullAccess(ORG, Set.of(7L))).isFalse();
+        verify(policyRepository, times(2)).findGrantsByOrganizationId(ORG);
+    }
+
+    @Test
+    void roleGrantsArePatchedInPlace() {
+        when(policyRepository.findGrantsByOrganizationId(ORG)).thenReturn(List.of(grant(3L, null, "TASK", "READ")));
+        when(roleRepository.findIdsByOrganizationIdAndNameIn(eq(ORG), anyCollection())).thenReturn(List.of());
+
+        assertThat(cache.isAllowed(ORG, 99L, Set.of(3L), "task", "read")).isTrue();
+        assertThat(cache.isAllowed(ORG, 99L, Set.of(4L), "task", "read")).isFalse();
+
+        cache.revokeFromRole(ORG, 3L, "TASK", "READ");
+        cache.grantToRole(ORG, 4L, "TASK", "READ");
+
+        assertThat(cache.isAllowed(ORG, 99L, Set.of(3L), "task", "read")).isFalse();
+        assertThat(cache.isAllowed(ORG, 99L, Set.of(4L), "task", "read")).isTrue();
+        verify(policyRepository, times(1)).findGrantsByOrganizationId(ORG);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static PolicyGrant grant(Long roleId, Long userId, String resource, String action) {
+        return new PolicyGrant() {
+            public Long getRoleId() { return roleId; }
+            public Long getUserId() { return userId; }
+            public String getResourceCode() { return resource; }
+            public String getActionCode() { return action; }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.dev.core.service.impl.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dev.core.domain.email.EmailOutboxMessage;
+import com.dev.core.domain.email.EmailOutboxMessage.Status;
+import com.dev.core.repository.EmailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Delivers outbox rows to an in-process GreenMail SMTP sink and checks the status
+ * each row is left in.
+ */
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final EmailOutboxRepository outboxRepository = mock(EmailOutboxRepository.class);
+
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getSmtp().getPort());
+    }
+
+    @Test
+    void deliveredMessagesAreMarkedSent() throws Exception {
+        EmailOutboxMessage first = outbox(1L, "alice@example.com");
+        EmailOutboxMessage second = outbox(2L, "bob@example.com");
+        queue(first, second);
+
+        dispatcher(3).dispatch();
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo("Subject 1");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("Body 1");
+
+        assertThat(first.getStatus()).isEqualTo(Status.SENT);
+        assertThat(second.getStatus()).isEqualTo(Status.SENT);
+        assertThat(first.getSentAt()).isNotNull();
+        assertThat(first.getClaimedAt()).isNull();
+    }
+
+    @Test
+    void malformedMessageIsDeadLetteredWithoutBlockingTheBatch() {
+        EmailOutboxMessage bad = outbox(1L, "<<not an address");
+        EmailOutboxMessage good = outbox(2L, "carol@example.com");
+        queue(bad, good);
+
+        dispatcher(3).dispatch();
+
+        assertThat(smtp.getReceivedMessages()).hasSize(1);
+        assertThat(bad.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(bad.getAttempts()).isEqualTo(1);
+        assertThat(bad.getLastError()).isNotBlank();
+        assertThat(good.getStatus()).isEqualTo(Status.SENT);
+    }
+
+    @Test
+    void unreachableServerSchedulesRetryWithBackoff() {
+        EmailOutboxMessage message = outbox(1L, "dave@example.com");
+        queue(message);
+        smtp.stop();
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher(3).dispatch();
+
+        assertThat(message.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(message.getClaimedAt()).isNull();
+    }
+
+    @Test
+    void lastAttemptIsDeadLettered() {
+        EmailOutboxMessage message = outbox(1L, "erin@example.com");
+        message.setAttempts(2);
+        queue(message);
+        smtp.stop();
+
+        dispatcher(3).dispatch();
+
+        assertThat(message.getStatus()).isEqualTo(Status.DEAD);
+        assertThat(message.getAttempts()).isEqualTo(3);
+    }
+
+    private void queue(EmailOutboxMessage... messages) {
+        List<EmailOutboxMessage> rows = List.of(messages);
+        when(outboxRepository.lockDue(any(), any())).thenReturn(rows);
+        when(outboxRepository.findAllById(anyCollection())).thenReturn(rows);
+    }
+
+    private EmailOutboxDispatcher dispatcher(int maxAttempts) {
+        return new EmailOutboxDispatcher(
+                outboxRepository,
+                mailSender,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SyncTaskExecutor(),
+                mock(TaskScheduler.class),
+                new SimpleMeterRegistry(),
+                50, 1, maxAttempts, 30, 3600, 10, 2000);
+    }
+
+    private static EmailOutboxMessage outbox(Long id, String recipient) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(id);
+        message.setRecipient(recipient);
+        message.setSubject("Subject " + id);
+        message.setBody("Body " + id);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return message;
+    }
+}
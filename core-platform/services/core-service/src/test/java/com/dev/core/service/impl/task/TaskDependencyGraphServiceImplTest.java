@@ -0,0 +1,113 @@
+package com.dev.core.service.impl.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dev.core.constants.TaskStatus;
+import com.dev.core.domain.Project;
+import com.dev.core.domain.Task;
+import com.dev.core.domain.TaskDependency;
+import com.dev.core.repository.task.TaskDependencyRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskDependencyGraphServiceImplTest {
+
+    private static final Long PROJECT = 1L;
+
+    private TaskDependencyRepository dependencyRepository;
+
+    @BeforeEach
+    void setUp() {
+        dependencyRepository = mock(TaskDependencyRepository.class);
+        when(dependencyRepository.findGraphRows(PROJECT)).thenReturn(List.of(
+                Map.of("taskId", 10L, "status", TaskStatus.BACKLOG),
+                Map.of("taskId", 11L, "status", TaskStatus.BACKLOG)));
+    }
+
+    @Test
+    void cycleCheckSeesDependenciesTheCachedGraphDoesNot() {
+        TaskDependencyGraphServiceImpl service = service(60);
+        // Cached while 10 and 11 were still independent
+        service.analyzeProject(PROJECT);
+
+        // Since then 11 -> 10 was added (on another instance, or earlier in this transaction)
+        when(dependencyRepository.findDependsOnIds(Set.of(11L))).thenReturn(List.of(10L));
+
+        assertThat(service.wouldCreateCycle(task(10L), task(11L))).isTrue();
+    }
+
+    @Test
+    void cycleCheckFollowsLongChainsAndStopsAtTheEnd() {
+        TaskDependencyGraphServiceImpl service = service(60);
+        when(dependencyRepository.findDependsOnIds(anyCollection())).thenReturn(List.of());
+        when(dependencyRepository.findDependsOnIds(Set.of(12L))).thenReturn(List.of(13L));
+        when(dependencyRepository.findDependsOnIds(Set.of(13L))).thenReturn(List.of(14L));
+
+        assertThat(service.wouldCreateCycle(task(10L), task(12L))).isFalse();
+        assertThat(service.wouldCreateCycle(task(14L), task(12L))).isTrue();
+        assertThat(service.wouldCreateCycle(task(10L), task(10L))).isTrue();
+    }
+
+    @Test
+    void cachedGraphIsRebuiltOnceItExpires() throws InterruptedException {
+        TaskDependencyGraphServiceImpl cached = service(60);
+        cached.analyzeProject(PROJECT);
+        cached.getBlockedTasks(PROJECT);
+        verify(dependencyRepository, times(1)).findGraphRows(PROJECT);
+
+        TaskDependencyGraphServiceImpl expiring = service(0);
+        expiring.analyzeProject(PROJECT);
+        Thread.sleep(5);
+        expiring.getBlockedTasks(PROJECT);
+        verify(dependencyRepository, times(3)).findGraphRows(PROJECT);
+    }
+
+    @Test
+    void taskChangeAlsoDropsGraphsOfProjectsThatDependOnIt() {
+        Long otherProject = 2L;
+        when(dependencyRepository.findGraphRows(otherProject)).thenReturn(List.of(
+                Map.of("taskId", 20L, "status", TaskStatus.BACKLOG)));
+        TaskDependencyGraphServiceImpl service = service(60);
+        service.analyzeProject(PROJECT);
+        service.analyzeProject(otherProject);
+
+        TaskDependency dependency = new TaskDependency();
+        dependency.setTask(task(20L, otherProject));
+        when(dependencyRepository.findByDependsOn_Id(10L)).thenReturn(List.of(dependency));
+        service.invalidateTask(task(10L));
+
+        service.analyzeProject(PROJECT);
+        service.analyzeProject(otherProject);
+        verify(dependencyRepository, times(2)).findGraphRows(PROJECT);
+        verify(dependencyRepository, times(2)).findGraphRows(otherProject);
+    }
+
+    private TaskDependencyGraphServiceImpl service(long ttlSeconds) {
+        return new TaskDependencyGraphServiceImpl(dependencyRepository, new SimpleMeterRegistry(), 100, ttlSeconds);
+    }
+
+    private static Task task(Long id) {
+        return task(id, PROJECT);
+    }
+
+    private static Task task(Long id, Long projectId) {
+        Project project = new Project();
+        project.setId(projectId);
+        Task task = new Task();
+        task.setId(id);
+        task.setProject(project);
+        return task;
+    }
+}
@@ -0,0 +1,57 @@
+package com.dev.core.service.leave.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dev.core.domain.leave.LeaveType;
+import com.dev.core.repository.leave.LeaveBalanceRepository;
+import com.dev.core.repository.leave.LeaveLedgerEntryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LeaveLedgerServiceImplTest {
+
+    private static final List<Long> BALANCES = List.of(1L, 2L);
+
+    @Mock
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Mock
+    private LeaveLedgerEntryRepository ledgerRepository;
+
+    private LeaveLedgerServiceImpl service;
+    private LeaveType type;
+
+    @BeforeEach
+    void setUp() {
+        service = new LeaveLedgerServiceImpl(leaveBalanceRepository, ledgerRepository);
+        type = new LeaveType();
+        type.setId(7L);
+    }
+
+    @Test
+    void returnsTheCreditedCountWhenEveryCreditIsPosted() {
+        when(leaveBalanceRepository.accrue(BALANCES, 3, 2)).thenReturn(2);
+        when(ledgerRepository.postAccruals(BALANCES, 3, 2)).thenReturn(2);
+
+        assertThat(service.accrue(type, 3, 2, BALANCES)).isEqualTo(2);
+    }
+
+    @Test
+    void failsWhenFewerEntriesArePostedThanBalancesCredited() {
+        when(leaveBalanceRepository.accrue(BALANCES, 3, 2)).thenReturn(2);
+        when(ledgerRepository.postAccruals(BALANCES, 3, 2)).thenReturn(1);
+
+        assertThatThrownBy(() -> service.accrue(type, 3, 2, BALANCES))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("credited 2 balances but posted 1");
+    }
+}
@@ -0,0 +1,105 @@
+package com.dev.core.service.performance.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import com.dev.core.domain.Employee;
+import com.dev.core.repository.EmployeeRepository;
+
+class PeerSelectionServiceImplTest {
+
+    private PeerSelectionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PeerSelectionServiceImpl(mock(EmployeeRepository.class));
+    }
+
+    // Ties are broken at random, so every run sees a different order
+    @RepeatedTest(20)
+    void reviewWorkIsSpreadEvenly() {
+        List<Employee> members = members(10);
+
+        Map<Long, List<Employee>> assigned = service.assignPeers(members, 3, Map.of());
+
+        assertThat(assigned).hasSize(10).allSatisfy((id, peers) -> assertThat(peers).hasSize(3));
+        IntSummaryStatistics load = load(assigned, members).values().stream()
+                .mapToInt(Integer::intValue)
+                .summaryStatistics();
+        assertThat(load.getSum()).isEqualTo(30);
+        assertThat(load.getMax() - load.getMin()).isLessThanOrEqualTo(1);
+    }
+
+    @RepeatedTest(20)
+    void nobodyReviewsThemselvesTheirReportOrTheSamePersonTwice() {
+        List<Employee> members = members(6);
+        Employee manager = members.get(0);
+        members.subList(1, 6).forEach(e -> e.setManager(manager));
+
+        Map<Long, List<Employee>> assigned = service.assignPeers(members, 3, Map.of());
+
+        assigned.forEach((id, peers) -> {
+            assertThat(peers).extracting(Employee::getId).doesNotContain(id).doesNotHaveDuplicates();
+            if (!id.equals(manager.getId())) {
+                assertThat(peers).extracting(Employee::getId).doesNotContain(manager.getId());
+            }
+        });
+    }
+
+    @Test
+    void smallTeamGetsEveryEligibleColleague() {
+        List<Employee> members = members(3);
+        members.get(2).setManager(members.get(0));
+
+        Map<Long, List<Employee>> assigned = service.assignPeers(members, 5, Map.of());
+
+        assertThat(assigned.get(1L)).extracting(Employee::getId).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(assigned.get(2L)).extracting(Employee::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(assigned.get(3L)).extracting(Employee::getId).containsExactly(2L);
+    }
+
+    @Test
+    void existingReviewersCountTowardTheLimit() {
+        List<Employee> members = members(4);
+        Map<Long, Set<Long>> existing = Map.of(1L, Set.of(2L, 3L), 2L, Set.of(3L));
+
+        Map<Long, List<Employee>> assigned = service.assignPeers(members, 2, existing);
+
+        assertThat(assigned).doesNotContainKey(1L);
+        assertThat(assigned.get(2L)).hasSize(1).extracting(Employee::getId).doesNotContain(2L, 3L);
+    }
+
+    @Test
+    void loneMemberGetsNothing() {
+        assertThat(service.assignPeers(members(1), 3, Map.of())).isEmpty();
+    }
+
+    private static List<Employee> members(int count) {
+        List<Employee> members = new ArrayList<>();
+        LongStream.rangeClosed(1, count).forEach(id -> {
+            Employee employee = new Employee();
+            employee.setId(id);
+            members.add(employee);
+        });
+        return members;
+    }
+
+    private static Map<Long, Integer> load(Map<Long, List<Employee>> assigned, List<Employee> members) {
+        Map<Long, Integer> load = new HashMap<>();
+        members.forEach(e -> load.put(e.getId(), 0));
+        assigned.values().forEach(peers -> peers.forEach(p -> load.merge(p.getId(), 1, Integer::sum)));
+        return load;
+    }
+}
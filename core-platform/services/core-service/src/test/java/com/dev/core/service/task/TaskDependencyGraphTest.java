@@ -0,0 +1,113 @@
+package com.dev.core.service.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.dev.core.constants.TaskStatus;
+import com.dev.core.service.task.TaskDependencyGraph.Analysis;
+import com.dev.core.service.task.TaskDependencyGraph.BlockedTask;
+import com.dev.core.service.task.TaskDependencyGraph.TaskSchedule;
+
+class TaskDependencyGraphTest {
+
+    private static final Long PROJECT = 1L;
+
+    @Test
+    void chainIsOrderedAndEntirelyCritical() {
+        Analysis analysis = TaskDependencyGraph.builder(PROJECT)
+                .task(1L, TaskStatus.IN_PROGRESS, 2.0, false)
+                .task(2L, TaskStatus.BACKLOG, 3.0, false)
+                .task(3L, TaskStatus.BACKLOG, 4.0, false)
+                .edge(2L, 1L)
+                .edge(3L, 2L)
+                .build()
+                .analyze();
+
+        assertThat(analysis.acyclic()).isTrue();
+        assertThat(analysis.topologicalOrder()).containsExactly(1L, 2L, 3L);
+        assertThat(analysis.criticalPath()).containsExactly(1L, 2L, 3L);
+        assertThat(analysis.remainingHours()).isEqualTo(9.0);
+        assertThat(analysis.schedule()).allMatch(TaskSchedule::critical);
+    }
+
+    @Test
+    void diamondGivesTheShortBranchSlack() {
+        TaskDependencyGraph graph = TaskDependencyGraph.builder(PROJECT)
+                .task(1L, TaskStatus.BACKLOG, 2.0, false)
+                .task(2L, TaskStatus.BACKLOG, 5.0, false)
+                .task(3L, TaskStatus.BACKLOG, 1.0, false)
+                .task(4L, TaskStatus.BACKLOG, 1.0, false)
+                .edge(2L, 1L)
+                .edge(3L, 1L)
+                .edge(4L, 2L)
+                .edge(4L, 3L)
+                .build();
+        Analysis analysis = graph.analyze();
+        Map<Long, TaskSchedule> schedule = byTask(analysis);
+
+        assertThat(analysis.criticalPath()).containsExactly(1L, 2L, 4L);
+        assertThat(analysis.remainingHours()).isEqualTo(8.0);
+        assertThat(schedule.get(3L).slack()).isEqualTo(4.0);
+        assertThat(schedule.get(3L).critical()).isFalse();
+        assertThat(schedule.get(4L).earliestStart()).isEqualTo(7.0);
+        assertThat(graph.blockedTasks()).extracting(BlockedTask::taskId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void donePrerequisiteNeitherBlocksNorTakesTime() {
+        TaskDependencyGraph graph = TaskDependencyGraph.builder(PROJECT)
+                .task(1L, TaskStatus.DONE, 5.0, false)
+                .task(2L, TaskStatus.BACKLOG, 3.0, false)
+                .edge(2L, 1L)
+                .build();
+        Analysis analysis = graph.analyze();
+
+        assertThat(graph.blockedTasks()).isEmpty();
+        assertThat(analysis.remainingHours()).isEqualTo(3.0);
+        assertThat(byTask(analysis).get(2L).earliestStart()).isZero();
+    }
+
+    @Test
+    void externalPrerequisiteBlocksAndDelaysButIsNotReported() {
+        TaskDependencyGraph graph = TaskDependencyGraph.builder(PROJECT)
+                .task(1L, TaskStatus.BACKLOG, 2.0, false)
+                .task(100L, TaskStatus.IN_PROGRESS, 4.0, true)
+                .edge(1L, 100L)
+                .build();
+        Analysis analysis = graph.analyze();
+
+        assertThat(graph.blockedTasks()).containsExactly(new BlockedTask(1L, List.of(100L)));
+        assertThat(analysis.topologicalOrder()).containsExactly(1L);
+        assertThat(analysis.criticalPath()).containsExactly(1L);
+        assertThat(analysis.remainingHours()).isEqualTo(6.0);
+        assertThat(byTask(analysis).get(1L).earliestStart()).isEqualTo(4.0);
+    }
+
+    @Test
+    void storedCycleIsReportedInsteadOfScheduled() {
+        Analysis analysis = TaskDependencyGraph.builder(PROJECT)
+                .task(1L, TaskStatus.BACKLOG, 1.0, false)
+                .task(2L, TaskStatus.BACKLOG, 1.0, false)
+                .task(3L, TaskStatus.BACKLOG, 1.0, false)
+                .edge(1L, 2L)
+                .edge(2L, 1L)
+                .build()
+                .analyze();
+
+        assertThat(analysis.acyclic()).isFalse();
+        assertThat(analysis.topologicalOrder()).containsExactly(3L);
+        assertThat(analysis.criticalPath()).isEmpty();
+        assertThat(analysis.schedule()).isEmpty();
+    }
+
+    private static Map<Long, TaskSchedule> byTask(Analysis analysis) {
+        return analysis.schedule().stream()
+                .collect(Collectors.toMap(TaskSchedule::taskId, Function.identity()));
+    }
+}